@@ -0,0 +1,174 @@
+package com.sudharshini.stockmanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Async Configuration
+ * Named, bounded executors for @Async work, one per workload so a slow
+ * integration cannot hold up customer emails:
+ *  - notificationExecutor: order confirmation and status emails
+ *  - integrationExecutor: Google Sheets and geocoding
+ * Pool sizes, queue capacity and the rejection policy are set per executor
+ * (async.notifications.*, async.integrations.*). Each one reports
+ * async.executor.queued, .active, .pool.size and .completed gauges and an
+ * async.executor.rejections counter, tagged with the executor name.
+ *
+ * With spring.threads.virtual.enabled on Java 21, executors with
+ * async.*.virtual-threads=true run their tasks on virtual threads (still
+ * bounded by the pool and queue sizes), as does applicationTaskExecutor.
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String INTEGRATION_EXECUTOR = "integrationExecutor";
+
+    /**
+     * What to do with a task when the queue is full and every thread is busy.
+     */
+    public enum RejectionPolicy {
+        ABORT,          // throw TaskRejectedException to the submitter
+        CALLER_RUNS,    // run it on the submitting thread (back pressure)
+        DISCARD,        // drop it
+        DISCARD_OLDEST; // drop the oldest queued task and retry
+
+        static RejectionPolicy parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+
+        RejectedExecutionHandler handler() {
+            return switch (this) {
+                case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+                case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+                case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+                case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            };
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+
+    public AsyncConfig(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        if (!virtualThreads && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("⚠️ spring.threads.virtual.enabled needs Java 21 (running {}), using platform threads",
+                    Runtime.version().feature());
+        }
+    }
+
+    /**
+     * Also the default ("taskExecutor") for @Async methods that don't name an executor.
+     */
+    @Bean(name = {NOTIFICATION_EXECUTOR, "taskExecutor"})
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${async.notifications.core-size:2}") int coreSize,
+            @Value("${async.notifications.max-size:4}") int maxSize,
+            @Value("${async.notifications.queue-capacity:200}") int queueCapacity,
+            @Value("${async.notifications.rejection-policy:discard}") String rejectionPolicy,
+            @Value("${async.notifications.virtual-threads:false}") boolean virtual) {
+        return boundedExecutor("notifications", coreSize, maxSize, queueCapacity, RejectionPolicy.parse(rejectionPolicy),
+                virtual);
+    }
+
+    @Bean(name = INTEGRATION_EXECUTOR)
+    public ThreadPoolTaskExecutor integrationExecutor(
+            @Value("${async.integrations.core-size:2}") int coreSize,
+            @Value("${async.integrations.max-size:4}") int maxSize,
+            @Value("${async.integrations.queue-capacity:200}") int queueCapacity,
+            @Value("${async.integrations.rejection-policy:discard}") String rejectionPolicy,
+            @Value("${async.integrations.virtual-threads:true}") boolean virtual) {
+        return boundedExecutor("integrations", coreSize, maxSize, queueCapacity, RejectionPolicy.parse(rejectionPolicy),
+                virtual);
+    }
+
+    /**
+     * Spring Boot only creates its own executor when no other one is defined;
+     * keep it for Spring MVC async requests (streaming exports), configured by
+     * spring.task.execution.*. Like Boot's, it starts a virtual thread per task
+     * in virtual thread mode.
+     */
+    @Lazy
+    @Bean(name = "applicationTaskExecutor")
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolBuilder,
+                                                     SimpleAsyncTaskExecutorBuilder virtualThreadBuilder) {
+        return virtualThreads ? virtualThreadBuilder.build() : threadPoolBuilder.build();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("❌ Async task {}.{} failed", method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, int coreSize, int maxSize, int queueCapacity,
+                                                   RejectionPolicy rejectionPolicy, boolean virtual) {
+        if (coreSize < 1 || maxSize < coreSize || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid pool sizes for async executor " + name
+                    + ": core " + coreSize + ", max " + maxSize + ", queue " + queueCapacity);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-" + name + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(countingRejections(name, rejectionPolicy.handler()));
+        boolean onVirtualThreads = virtualThreads && virtual;
+        if (onVirtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("async-" + name + "-").getVirtualThreadFactory());
+        }
+
+        Gauge.builder("async.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("executor", name).description("Tasks waiting in the queue").register(meterRegistry);
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("executor", name).description("Threads running a task").register(meterRegistry);
+        Gauge.builder("async.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("executor", name).description("Threads in the pool").register(meterRegistry);
+        Gauge.builder("async.executor.completed", executor, AsyncConfig::completedTasks)
+                .tag("executor", name).description("Tasks completed since startup").register(meterRegistry);
+
+        log.info("🧵 Async executor {}: {}-{} {} threads, queue {}, {} when full",
+                name, coreSize, maxSize, onVirtualThreads ? "virtual" : "platform", queueCapacity, rejectionPolicy);
+        return executor;
+    }
+
+    private RejectedExecutionHandler countingRejections(String name, RejectedExecutionHandler policy) {
+        return (task, pool) -> {
+            meterRegistry.counter("async.executor.rejections", "executor", name).increment();
+            log.warn("⚠️ Async executor {} is saturated ({} active, {} queued), task rejected",
+                    name, pool.getActiveCount(), pool.getQueue().size());
+            policy.rejectedExecution(task, pool);
+        };
+    }
+
+    private static long completedTasks(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getCompletedTaskCount();
+        } catch (IllegalStateException e) {
+            return 0; // not initialized yet, or shut down
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sudharshini.stockmanagement.config;
+
+import java.security.Principal;
+
+/**
+ * Authenticated User
+ * The principal set by JwtAuthenticationFilter, taken from the token's claims
+ * without a database lookup. getName() is the token subject (email, or the
+ * admin username), so authentication.getName() behaves as before. id is null
+ * for tokens issued before the user ID was added to the token.
+ */
+public record AuthenticatedUser(Long id, String username, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
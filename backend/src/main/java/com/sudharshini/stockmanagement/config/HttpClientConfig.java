@@ -0,0 +1,102 @@
+package com.sudharshini.stockmanagement.config;
+
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * HTTP Client Configuration
+ * One WebClient per external integration (Google Directions, Nominatim,
+ * Google Sheets, SendGrid), all sharing a single keep-alive connection pool.
+ * Each integration has its own base URL and connect/read timeouts
+ * (http.<name>.*); pointing a base URL at a local stub server exercises the
+ * integration without the real service. The pool reports Reactor Netty's
+ * reactor.netty.connection.provider.* metrics, and requests are timed as
+ * http.client.requests by URI template.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpClientConfig.class);
+
+    // Google Directions responses with step-by-step routes can be large
+    private static final int MAX_RESPONSE_BYTES = 2 * 1024 * 1024;
+
+    private final Environment environment;
+
+    public HttpClientConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider integrationConnectionProvider(
+            @Value("${http.client.max-connections:50}") int maxConnections,
+            @Value("${http.client.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${http.client.max-idle-time-ms:30000}") long maxIdleTimeMs,
+            @Value("${http.client.max-life-time-ms:300000}") long maxLifeTimeMs) {
+        return ConnectionProvider.builder("integrations")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                // Close connections before the server or a proxy drops them
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient mapsWebClient(WebClient.Builder builder, ConnectionProvider integrationConnectionProvider) {
+        return webClient("maps", "https://maps.googleapis.com", builder, integrationConnectionProvider);
+    }
+
+    /**
+     * Nominatim's usage policy requires an identifying User-Agent.
+     */
+    @Bean
+    public WebClient nominatimWebClient(WebClient.Builder builder, ConnectionProvider integrationConnectionProvider) {
+        builder.defaultHeader(HttpHeaders.USER_AGENT, "Sudharshini-Stock-Management/1.0");
+        return webClient("nominatim", "https://nominatim.openstreetmap.org", builder, integrationConnectionProvider);
+    }
+
+    @Bean
+    public WebClient sheetsWebClient(WebClient.Builder builder, ConnectionProvider integrationConnectionProvider) {
+        return webClient("sheets", "https://sheets.googleapis.com", builder, integrationConnectionProvider);
+    }
+
+    @Bean
+    public WebClient sendGridWebClient(WebClient.Builder builder, ConnectionProvider integrationConnectionProvider) {
+        return webClient("sendgrid", "https://api.sendgrid.com", builder, integrationConnectionProvider);
+    }
+
+    private WebClient webClient(String name, String defaultBaseUrl, WebClient.Builder builder,
+                                ConnectionProvider connectionProvider) {
+        String prefix = "http." + name + ".";
+        String baseUrl = environment.getProperty(prefix + "base-url", defaultBaseUrl);
+        int connectTimeoutMs = environment.getProperty(prefix + "connect-timeout-ms", Integer.class, 5000);
+        long readTimeoutMs = environment.getProperty(prefix + "read-timeout-ms", Long.class, 10000L);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        log.info("🌐 HTTP client {}: {} (connect timeout {} ms, read timeout {} ms)",
+                name, baseUrl, connectTimeoutMs, readTimeoutMs);
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_RESPONSE_BYTES))
+                .build();
+    }
+}
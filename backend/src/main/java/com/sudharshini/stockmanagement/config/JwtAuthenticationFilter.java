@@ -5,6 +5,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -21,18 +23,26 @@ import java.util.Collections;
  * Validates JWT tokens and sets authentication context
  * 
  * Flow:
- * 1. Check if request is for a public endpoint (no JWT required)
+ * 1. Check if request is for a public endpoint (no JWT required, matched by
+ *    the precompiled PublicRoutes table)
  * 2. If public endpoint, skip JWT validation and continue
  * 3. If protected endpoint, check for Authorization header with JWT token
- * 4. If token present and valid, set authentication in security context
+ * 4. If token present and valid (verified once, then served from JwtUtil's
+ *    verified-token cache until it expires), set authentication in security context
+ *    with an AuthenticatedUser principal (user ID and role from the token)
  * 5. Continue to next filter
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private PublicRoutes publicRoutes;
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
@@ -40,60 +50,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         String method = request.getMethod();
         
-        System.out.println("🔍 JWT Filter - Processing request: " + method + " " + path);
+        log.debug("🔍 JWT Filter - Processing request: {} {}", method, path);
         
         // ============================================
         // STEP 1: Check if this is a PUBLIC endpoint
         // ============================================
         
-        // Skip JWT validation for OPTIONS requests (CORS preflight)
-        if ("OPTIONS".equalsIgnoreCase(method)) {
-            System.out.println("✅ Skipping JWT validation for OPTIONS request");
-            chain.doFilter(request, response);
-            return;
-        }
-        
-        // Skip JWT validation for public product endpoints (GET only)
-        if (path.startsWith("/api/products") && "GET".equalsIgnoreCase(method)) {
-            System.out.println("✅ Skipping JWT validation for public GET /api/products");
-            chain.doFilter(request, response);
-            return;
-        }
-        
-        // Skip JWT validation for public auth endpoints (admin login)
-        if (path.equals("/api/auth/admin/login")) {
-            System.out.println("✅ Skipping JWT validation for /api/auth/admin/login");
-            chain.doFilter(request, response);
-            return;
-        }
-        
-        // Skip JWT validation for public auth endpoints, but NOT for profile endpoints
-        if (path.startsWith("/api/auth/") && !path.startsWith("/api/auth/admin/") 
-            && !path.equals("/api/auth/profile") && !path.equals("/api/auth/change-password")
-            && !path.equals("/api/auth/profile/photo") && !path.startsWith("/api/auth/profile/photo/")
-            && !path.equals("/api/auth/profile/addresses") && !path.startsWith("/api/auth/profile/addresses/")) {
-            System.out.println("✅ Skipping JWT validation for public auth endpoint");
-            chain.doFilter(request, response);
-            return;
-        }
-        
-        // Allow public access to view product reviews (GET only)
-        if (path.startsWith("/api/reviews/product/") && "GET".equalsIgnoreCase(method)) {
-            System.out.println("✅ Skipping JWT validation for public GET /api/reviews/product");
-            chain.doFilter(request, response);
-            return;
-        }
-        
-        // Skip JWT validation for public tracking endpoints
-        if (path.matches("/api/orders/[^/]+/tracking") || path.matches("/api/orders/[^/]+/location-tracking")) {
-            System.out.println("✅ Skipping JWT validation for public tracking endpoint");
-            chain.doFilter(request, response);
-            return;
-        }
-        
-        // Skip JWT validation for profile photo serving (public access, GET only)
-        if (path.startsWith("/api/auth/profile/photo/") && "GET".equalsIgnoreCase(method)) {
-            System.out.println("✅ Skipping JWT validation for public GET profile photo");
+        // OPTIONS preflight, public GETs (products, reviews, profile photos), the
+        // public auth endpoints and order tracking: see PublicRoutes
+        if (publicRoutes.isPublic(method, path)) {
+            log.debug("✅ Skipping JWT validation for public endpoint: {} {}", method, path);
             chain.doFilter(request, response);
             return;
         }
@@ -105,61 +71,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
         
-        String username = null;
-        String jwt = null;
-        String role = null;
+        JwtUtil.VerifiedToken token = null;
         
         // Check if Authorization header exists and starts with "Bearer "
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
-                role = jwtUtil.extractRole(jwt);
-                System.out.println("🔑 JWT Filter - Extracted username: " + username + ", role: " + role);
+                // One verification (signature + expiry), reused while the token is cached
+                token = jwtUtil.verify(jwt);
+                log.debug("🔑 JWT Filter - Verified username: {}, role: {}", token.username(), token.role());
             } catch (Exception e) {
-                System.out.println("❌ JWT token extraction failed for path: " + path);
-                System.out.println("   Error: " + e.getMessage());
-                logger.error("JWT token validation failed", e);
+                log.warn("❌ JWT token validation failed for path: {}: {}", path, e.getMessage());
             }
         } else {
-            System.out.println("⚠️ No Authorization header found for protected path: " + path);
+            log.debug("⚠️ No Authorization header found for protected path: {}", path);
         }
         
         // ============================================
-        // STEP 3: Validate JWT and set authentication
+        // STEP 3: Set authentication
         // ============================================
         
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            boolean isValid = jwtUtil.validateToken(jwt, username);
-            System.out.println("🔍 JWT validation result for " + username + ": " + isValid);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String username = token.username();
+            // Ensure role is not null, default to empty string if null
+            String userRole = (token.role() != null && !token.role().isEmpty()) ? token.role() : "";
             
-            if (isValid) {
-                // Ensure role is not null, default to empty string if null
-                String userRole = (role != null && !role.isEmpty()) ? role : "";
-                
-                if (userRole.isEmpty()) {
-                    System.out.println("⚠️ Warning: No role found in token for user: " + username);
-                } else {
-                    System.out.println("✅ Role extracted from token: " + userRole);
-                }
-                
-                // Create authority with ROLE_ prefix (Spring Security convention)
-                String authority = "ROLE_" + userRole;
-                System.out.println("🔐 Creating authority: " + authority);
-                
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    username, null, Collections.singletonList(new SimpleGrantedAuthority(authority))
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                
-                System.out.println("✅ Authentication set for user: " + username + " with authority: " + authority);
-                System.out.println("📋 All authorities: " + authToken.getAuthorities());
-            } else {
-                System.out.println("❌ Token validation failed for user: " + username);
+            if (userRole.isEmpty()) {
+                log.warn("⚠️ Warning: No role found in token for user: {}", username);
             }
-        } else if (username == null) {
-            System.out.println("⚠️ No valid token found for protected path: " + path);
+            
+            // Create authority with ROLE_ prefix (Spring Security convention)
+            String authority = "ROLE_" + userRole;
+            
+            // The principal carries the user ID and role from the token; handlers that
+            // need more of the user load it through CurrentUserResolver
+            AuthenticatedUser principal = new AuthenticatedUser(token.userId(), username, userRole);
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal, null, Collections.singletonList(new SimpleGrantedAuthority(authority))
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            
+            log.debug("✅ Authentication set for user: {} with authority: {}", username, authority);
+        } else if (token == null) {
+            log.debug("⚠️ No valid token found for protected path: {}", path);
         }
         
         // ============================================
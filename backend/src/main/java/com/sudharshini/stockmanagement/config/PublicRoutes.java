@@ -0,0 +1,275 @@
+package com.sudharshini.stockmanagement.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Public Routes
+ * The endpoints that need no JWT: JwtAuthenticationFilter skips all token work
+ * for them and SecurityConfig permits them. The rules are compiled once into a
+ * path-segment tree, so a request is matched with one walk down its path, no
+ * regular expressions and no chain of prefix checks.
+ *
+ * Patterns use Spring's syntax: "*" is one path segment, a trailing "**" is
+ * any remainder (including none). The most specific matching rule decides:
+ * a deeper path beats a shallower one, an exact path beats "**" at the same
+ * depth, a literal segment beats "*", and a method-specific rule beats one for
+ * any method. Requests no rule covers are protected. OPTIONS (CORS preflight)
+ * is always public. SecurityConfig permits these routes ahead of its role
+ * rules, so a permit here also lifts any role requirement on the path.
+ *
+ * This runs in front of every request, so decisions are kept per node in
+ * small arrays indexed by method (no upper-casing or hashing), and a "**" rule
+ * with nothing more specific below it is also checked as a plain path prefix
+ * before the walk: GET /api/products costs one startsWith, as it did when it
+ * was the filter's first check (see PublicRoutesBenchmark).
+ */
+@Component
+public class PublicRoutes implements RequestMatcher {
+
+    private static final String ANY_METHOD = "*";
+
+    // Methods a rule can name; any other request method only gets "*" rules
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "TRACE"};
+    private static final int ANY = METHODS.length;
+
+    private static final byte NONE = 0;
+    private static final byte PUBLIC = 1;
+    private static final byte PROTECTED = 2;
+
+    private final Node root = new Node();
+
+    private final Prefix[] prefixes;
+
+    public PublicRoutes() {
+        permit("GET", "/api/products/**");
+
+        // Login, OTP and Google sign-in are public; the admin API, the
+        // current user's profile and addresses are not
+        permit(ANY_METHOD, "/api/auth/**");
+        protect(ANY_METHOD, "/api/auth/admin/**");
+        permit(ANY_METHOD, "/api/auth/admin/login");
+        protect(ANY_METHOD, "/api/auth/profile");
+        protect(ANY_METHOD, "/api/auth/change-password");
+        protect(ANY_METHOD, "/api/auth/profile/photo");
+        protect(ANY_METHOD, "/api/auth/profile/photo/**");
+        permit("GET", "/api/auth/profile/photo/**");
+        protect(ANY_METHOD, "/api/auth/profile/addresses/**");
+
+        permit("GET", "/api/reviews/product/**");
+
+        // Order tracking pages are shared by link
+        permit(ANY_METHOD, "/api/orders/*/tracking");
+        permit(ANY_METHOD, "/api/orders/*/location-tracking");
+
+        prefixes = collectPrefixes(root, "", new ArrayList<>()).toArray(new Prefix[0]);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return isPublic(request.getMethod(), request.getRequestURI());
+    }
+
+    public boolean isPublic(String method, String path) {
+        // CORS preflight carries no token, whatever the path
+        if ("OPTIONS".equalsIgnoreCase(method)) {
+            return true;
+        }
+        int methodIndex = methodIndex(method);
+        for (Prefix prefix : prefixes) {
+            if (prefix.permits(path, methodIndex)) {
+                return true;
+            }
+        }
+        return match(root, path, 0, methodIndex) == PUBLIC;
+    }
+
+    private void permit(String method, String pattern) {
+        add(method, pattern, true);
+    }
+
+    private void protect(String method, String pattern) {
+        add(method, pattern, false);
+    }
+
+    private void add(String method, String pattern, boolean isPublic) {
+        int slot = method.equals(ANY_METHOD) ? ANY : methodIndex(method);
+        if (slot == ANY && !method.equals(ANY_METHOD)) {
+            throw new IllegalArgumentException("Unknown method: " + method);
+        }
+        byte decision = isPublic ? PUBLIC : PROTECTED;
+        Node node = root;
+        String[] segments = pattern.substring(1).split("/");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("\"**\" must be the last segment: " + pattern);
+                }
+                node.remainder[slot] = decision;
+                return;
+            }
+            node = node.add(segment);
+        }
+        node.exact[slot] = decision;
+    }
+
+    /**
+     * The literal paths of nodes with only "**" rules, at least one of them
+     * public, and nothing below them. For a path under one of these that rule
+     * is the most specific, if it covers the method; otherwise (and for any
+     * protected outcome) the walk decides.
+     */
+    private static List<Prefix> collectPrefixes(Node node, String path, List<Prefix> prefixes) {
+        if (node.segments.length == 0 && node.wildcard == null && isEmpty(node.exact)) {
+            if (contains(node.remainder, PUBLIC)) {
+                prefixes.add(new Prefix(path, node.remainder));
+            }
+            return prefixes;
+        }
+        for (int i = 0; i < node.segments.length; i++) {
+            collectPrefixes(node.children[i], path + "/" + node.segments[i], prefixes);
+        }
+        return prefixes;
+    }
+
+    private static boolean isEmpty(byte[] rules) {
+        for (byte rule : rules) {
+            if (rule != NONE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(byte[] rules, byte decision) {
+        for (byte rule : rules) {
+            if (rule == decision) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The decision of the most specific rule for path[from..], or NONE if none applies.
+     */
+    private static byte match(Node node, String path, int from, int method) {
+        byte decision = decide(node.remainder, method);
+
+        // Skip the separator(s); at the end of the path only exact rules or "**" can apply
+        while (from < path.length() && path.charAt(from) == '/') {
+            from++;
+        }
+        if (from >= path.length()) {
+            byte exact = decide(node.exact, method);
+            return exact != NONE ? exact : decision;
+        }
+
+        int end = path.indexOf('/', from);
+        if (end < 0) {
+            end = path.length();
+        }
+        Node literal = node.child(path, from, end);
+        if (literal != null) {
+            byte deeper = match(literal, path, end, method);
+            if (deeper != NONE) {
+                return deeper;
+            }
+        }
+        Node wildcard = node.wildcard;
+        if (wildcard != null) {
+            byte deeper = match(wildcard, path, end, method);
+            if (deeper != NONE) {
+                return deeper;
+            }
+        }
+        return decision;
+    }
+
+    private static byte decide(byte[] rules, int method) {
+        byte decision = rules[method];
+        return decision != NONE ? decision : rules[ANY];
+    }
+
+    /**
+     * The METHODS index of a request method, ignoring case, or ANY for others.
+     */
+    private static int methodIndex(String method) {
+        // Containers pass the method as sent, which is upper case in practice
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equalsIgnoreCase(method)) {
+                return i;
+            }
+        }
+        return ANY;
+    }
+
+    private static final class Prefix {
+        final String path;
+        final byte[] remainder;
+
+        Prefix(String path, byte[] remainder) {
+            this.path = path;
+            this.remainder = remainder;
+        }
+
+        // The method is checked first: it is cheaper than comparing the path
+        boolean permits(String requestPath, int method) {
+            int length = path.length();
+            return decide(remainder, method) == PUBLIC
+                    && requestPath.startsWith(path)
+                    && (requestPath.length() == length || requestPath.charAt(length) == '/');
+        }
+    }
+
+    private static final class Node {
+        // A handful of literal segments per node: a linear scan comparing in
+        // place beats hashing a substring of the path
+        String[] segments = new String[0];
+        Node[] children = new Node[0];
+        Node wildcard;
+        // Rules ending at this node, and "**" rules below it, by method index
+        final byte[] exact = new byte[ANY + 1];
+        final byte[] remainder = new byte[ANY + 1];
+
+        Node add(String segment) {
+            if (segment.equals("*")) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            return children[children.length - 1] = new Node();
+        }
+
+        Node child(String path, int from, int end) {
+            int length = end - from;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.length() == length && path.regionMatches(from, segment, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -29,6 +29,9 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    @Autowired
+    private PublicRoutes publicRoutes;
+    
     @Value("${cors.allowed.origins}")
     private String allowedOrigins;
     
@@ -44,11 +47,17 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                // Allow OPTIONS requests for CORS preflight (must be first)
-                .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
+                // Endpoints the JWT filter treats as public, including OPTIONS
+                // preflight and order tracking (must be first). Being first, a
+                // permit in PublicRoutes overrides every role rule below it,
+                // e.g. /api/orders/all/** or /api/admin/**: protect such paths
+                // in PublicRoutes too before permitting anything above them.
+                .requestMatchers(publicRoutes).permitAll()
                 // Public endpoints
                 .requestMatchers("/").permitAll() // Allow root path
                 .requestMatchers("/health").permitAll() // Health check endpoint
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN") // Metrics are admin-only
                 .requestMatchers("/error").permitAll()
                 .requestMatchers("/api/auth/admin/login").permitAll() // Allow login for admin and delivery man
                 .requestMatchers("/api/auth/admin/proof-documents/**").authenticated() // Allow authenticated users to view proof documents
@@ -60,12 +69,9 @@ public class SecurityConfig {
                 .requestMatchers("/api/reviews/product/**").permitAll() // Allow public access to view reviews
                 .requestMatchers("/api/reviews/**").authenticated() // Require auth for adding/deleting reviews
                 .requestMatchers("/api/cart/**").authenticated()
-                // Public tracking endpoints - must be before /api/orders/** to match first
-                .requestMatchers("/api/orders/*/tracking").permitAll()
-                // Location tracking is public (like tracking) - must be before /api/orders/** to match first
-                .requestMatchers("/api/orders/*/location-tracking").permitAll()
                 // Admin-only order endpoints
                 .requestMatchers("/api/orders/all").hasRole("ADMIN")
+                .requestMatchers("/api/orders/all/**").hasRole("ADMIN")
                 .requestMatchers("/api/orders/**").authenticated()
                 .requestMatchers("/api/delivery/**").authenticated() // Allow authenticated users (DELIVERY_MAN or ADMIN)
                 // Admin-only report endpoints
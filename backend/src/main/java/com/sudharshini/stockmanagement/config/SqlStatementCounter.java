@@ -0,0 +1,43 @@
+package com.sudharshini.stockmanagement.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * SQL Statement Counter
+ * Counts every SQL statement Hibernate prepares (JPQL, derived queries and
+ * native SQL alike) per thread, so a service can measure how many round
+ * trips one unit of work took:
+ *
+ *   long before = sqlStatementCounter.currentCount();
+ *   ... work ...
+ *   long statements = sqlStatementCounter.currentCount() - before;
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    /**
+     * Statements prepared on the current thread so far. Only differences
+     * between two readings are meaningful.
+     */
+    public long currentCount() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,79 @@
+package com.sudharshini.stockmanagement.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Transaction Configuration
+ * SQLite allows one writer. A deferred transaction that reads first and writes
+ * later cannot wait for the write lock: if another connection wrote in between
+ * it fails with SQLITE_BUSY at once, whatever the busy_timeout. So on SQLite
+ * every read-write transaction begins IMMEDIATE (takes the write lock at BEGIN,
+ * queueing on busy_timeout), while readOnly transactions stay DEFERRED and keep
+ * reading alongside the writer (WAL). Read paths must therefore be marked
+ * readOnly. PostgreSQL connections are left untouched.
+ */
+@Configuration
+public class TransactionConfig {
+
+    /**
+     * Replaces Spring Boot's JpaTransactionManager (it backs off when one is
+     * defined). The dialect is set after afterPropertiesSet, which otherwise
+     * resets it to the EntityManagerFactory's own.
+     */
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager() {
+            @Override
+            public void afterPropertiesSet() {
+                super.afterPropertiesSet();
+                setJpaDialect(new SqliteTransactionModeDialect());
+            }
+        };
+        transactionManager.setEntityManagerFactory(entityManagerFactory);
+        return transactionManager;
+    }
+
+    /**
+     * Sets the SQLite BEGIN mode for the transaction being started. sqlite-jdbc
+     * issues BEGIN when Hibernate switches auto-commit off, and again right
+     * after each commit, so the mode goes back to DEFERRED once BEGIN has run:
+     * a pooled connection never holds the write lock between transactions.
+     */
+    static class SqliteTransactionModeDialect extends HibernateJpaDialect {
+
+        @Override
+        public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+                throws PersistenceException, SQLException, TransactionException {
+            SQLiteConnection sqlite = definition.isReadOnly() ? null : sqliteConnection(entityManager);
+            if (sqlite == null) {
+                return super.beginTransaction(entityManager, definition);
+            }
+            sqlite.getConnectionConfig().setTransactionMode(SQLiteConfig.TransactionMode.IMMEDIATE);
+            try {
+                return super.beginTransaction(entityManager, definition);
+            } finally {
+                sqlite.getConnectionConfig().setTransactionMode(SQLiteConfig.TransactionMode.DEFERRED);
+            }
+        }
+
+        private static SQLiteConnection sqliteConnection(EntityManager entityManager) throws SQLException {
+            Connection connection = entityManager.unwrap(SessionImplementor.class)
+                    .getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+            return connection.isWrapperFor(SQLiteConnection.class) ? connection.unwrap(SQLiteConnection.class) : null;
+        }
+    }
+}
@@ -4,20 +4,23 @@ import com.sudharshini.stockmanagement.entity.Address;
 import com.sudharshini.stockmanagement.entity.Otp;
 import com.sudharshini.stockmanagement.entity.User;
 import com.sudharshini.stockmanagement.repository.AddressRepository;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
 import com.sudharshini.stockmanagement.repository.OtpRepository;
 import com.sudharshini.stockmanagement.repository.UserRepository;
+import com.sudharshini.stockmanagement.service.CurrentUserResolver;
 import com.sudharshini.stockmanagement.service.EmailService;
 import com.sudharshini.stockmanagement.util.JwtUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +34,7 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +49,8 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
     
     @Autowired
     private UserRepository userRepository;
@@ -55,9 +61,15 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private CurrentUserResolver currentUser;
+    
     @Autowired
     private EmailService emailService;
     
+    @Autowired
+    private NativeInsertRepository nativeInsertRepository;
+    
     @Autowired
     private OtpRepository otpRepository;
     
@@ -186,6 +198,7 @@ public class AuthController {
                             "VALUES (?, ?, ?, ?, ?)";
                 
                 Query query = entityManager.createNativeQuery(sql);
+                query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
                 query.setParameter(1, email);
                 query.setParameter(2, userName);
                 query.setParameter(3, googleId);
@@ -200,13 +213,13 @@ public class AuthController {
             }
             
             Map<String, Object> response = new HashMap<>();
-            response.put("token", jwtUtil.generateToken(user.getEmail(), user.getRole().name()));
+            response.put("token", jwtUtil.generateToken(user.getEmail(), user.getRole().name(), user.getId()));
             response.put("user", user);
             response.put("hasPassword", user.getPassword() != null && !user.getPassword().isEmpty());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Google login failed", e);
             return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
         }
     }
@@ -244,12 +257,12 @@ public class AuthController {
             }
             
             Map<String, Object> response = new HashMap<>();
-            response.put("token", jwtUtil.generateToken(user.getEmail(), user.getRole().name()));
+            response.put("token", jwtUtil.generateToken(user.getEmail(), user.getRole().name(), user.getId()));
             response.put("user", user);
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Customer login failed", e);
             return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
         }
     }
@@ -286,6 +299,7 @@ public class AuthController {
             // Update password using native SQL
             String sql = "UPDATE users SET password = ? WHERE id = ?";
             Query query = entityManager.createNativeQuery(sql);
+            query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
             query.setParameter(1, encodedPassword);
             query.setParameter(2, user.getId());
             query.executeUpdate();
@@ -300,7 +314,7 @@ public class AuthController {
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Set password failed", e);
             return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
         }
     }
@@ -332,10 +346,10 @@ public class AuthController {
         }
         
         Map<String, Object> response = new HashMap<>();
-        response.put("token", jwtUtil.generateToken(user.getUsername(), user.getRole().name()));
+        response.put("token", jwtUtil.generateToken(user.getUsername(), user.getRole().name(), user.getId()));
         response.put("user", user);
         
-        System.out.println("✅ Login successful: " + username + " (Role: " + user.getRole() + ")");
+        log.debug("✅ Login successful: {} (Role: {})", username, user.getRole());
         
         return ResponseEntity.ok(response);
     }
@@ -366,11 +380,12 @@ public class AuthController {
             try {
                 String deleteSql = "DELETE FROM otps WHERE email = ?";
                 Query deleteQuery = entityManager.createNativeQuery(deleteSql);
+                deleteQuery.unwrap(NativeQuery.class).addSynchronizedQuerySpace("otps");
                 deleteQuery.setParameter(1, email);
                 deleteQuery.executeUpdate();
             } catch (Exception e) {
                 // Table might not exist yet, that's okay - will be created on first insert
-                System.out.println("Note: Could not delete old OTPs (table may not exist yet): " + e.getMessage());
+                log.debug("Note: Could not delete old OTPs (table may not exist yet): {}", e.getMessage());
             }
             
             // Create new OTP using native SQL (to avoid SQLite getGeneratedKeys issue)
@@ -382,6 +397,7 @@ public class AuthController {
                         "VALUES (?, ?, ?, ?, ?)";
             
             Query query = entityManager.createNativeQuery(sql);
+            query.unwrap(NativeQuery.class).addSynchronizedQuerySpace("otps");
             query.setParameter(1, email);
             query.setParameter(2, otpCode);
             query.setParameter(3, java.sql.Timestamp.valueOf(now));
@@ -394,10 +410,9 @@ public class AuthController {
             try {
                 emailService.sendOtpEmail(email, otpCode);
             } catch (Exception e) {
-                e.printStackTrace();
                 // Log the error but don't fail the request
                 // OTP is already saved in database, user can verify it
-                System.err.println("Warning: OTP generated but email sending failed: " + e.getMessage());
+                log.warn("Warning: OTP generated but email sending failed: {}", e.getMessage(), e);
                 // Return success anyway - OTP is in DB and can be verified
                 // In production, consider using a queue for email sending
             }
@@ -408,7 +423,7 @@ public class AuthController {
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Send OTP failed", e);
             String errorMessage = e.getMessage();
             if (errorMessage == null || errorMessage.isEmpty()) {
                 errorMessage = "An unexpected error occurred";
@@ -462,6 +477,7 @@ public class AuthController {
             // Mark OTP as verified using native SQL
             String updateSql = "UPDATE otps SET verified = ? WHERE id = ?";
             Query updateQuery = entityManager.createNativeQuery(updateSql);
+            updateQuery.unwrap(NativeQuery.class).addSynchronizedQuerySpace("otps");
             updateQuery.setParameter(1, true);
             updateQuery.setParameter(2, otp.getId());
             updateQuery.executeUpdate();
@@ -477,7 +493,7 @@ public class AuthController {
                 if (user.getPassword() != null && !user.getPassword().isEmpty()) {
                     // User has password, login directly
                     Map<String, Object> response = new HashMap<>();
-                    response.put("token", jwtUtil.generateToken(user.getEmail(), user.getRole().name()));
+                    response.put("token", jwtUtil.generateToken(user.getEmail(), user.getRole().name(), user.getId()));
                     response.put("user", user);
                     response.put("message", "Login successful");
                     response.put("hasPassword", true);
@@ -492,6 +508,7 @@ public class AuthController {
                             "VALUES (?, ?, ?, ?)";
                 
                 Query query = entityManager.createNativeQuery(sql);
+                query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
                 query.setParameter(1, email);
                 query.setParameter(2, userName);
                 query.setParameter(3, "CUSTOMER");
@@ -512,7 +529,7 @@ public class AuthController {
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Verify OTP failed", e);
             return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
         }
     }
@@ -523,35 +540,20 @@ public class AuthController {
     @GetMapping("/profile")
     public ResponseEntity<?> getProfile() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
-                System.out.println("❌ No authentication found");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ No authentication found");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            System.out.println("🔍 Getting profile for identifier: " + identifier);
-            
-            // Try to find user by email, username, or Google ID
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                System.out.println("   Not found by email, trying username...");
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                System.out.println("   Not found by username, trying Google ID...");
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             if (userOpt.isEmpty()) {
-                System.out.println("❌ User not found with identifier: " + identifier);
+                log.warn("❌ User not found for this token");
                 return ResponseEntity.status(404).body(Map.of("error", "User not found. Please login again."));
             }
             
             User user = userOpt.get();
-            System.out.println("✅ Found user: " + user.getEmail() + " (ID: " + user.getId() + ")");
+            log.debug("✅ Found user: {} (ID: {})", user.getEmail(), user.getId());
             
             Map<String, Object> userMap = new HashMap<>();
             userMap.put("id", user.getId());
@@ -565,7 +567,7 @@ public class AuthController {
             
             return ResponseEntity.ok(userMap);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to get profile", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get profile: " + e.getMessage()));
         }
     }
@@ -577,36 +579,21 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> updateProfile(@RequestBody Map<String, String> request) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
-                System.out.println("❌ No authentication found");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ No authentication found");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            System.out.println("🔍 Updating profile for identifier: " + identifier);
-            
-            // Try to find user by email, username, or Google ID
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                System.out.println("   Not found by email, trying username...");
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                System.out.println("   Not found by username, trying Google ID...");
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             if (userOpt.isEmpty()) {
-                System.out.println("❌ User not found with identifier: " + identifier);
+                log.warn("❌ User not found for this token");
                 return ResponseEntity.status(404).body(Map.of("error", "User not found. Please login again."));
             }
             
             User user = userOpt.get();
-            System.out.println("✅ Found user: " + user.getEmail() + " (ID: " + user.getId() + ")");
-            System.out.println("📋 Current values - Name: " + user.getName() + ", Mobile: " + user.getMobile() + ", Email: " + user.getEmail());
+            log.debug("✅ Found user: {} (ID: {})", user.getEmail(), user.getId());
+            log.debug("📋 Current values - Name: {}, Mobile: {}, Email: {}", user.getName(), user.getMobile(), user.getEmail());
             
             boolean updated = false;
             
@@ -614,11 +601,11 @@ public class AuthController {
             if (request.containsKey("name") && request.get("name") != null && !request.get("name").isEmpty()) {
                 String newName = request.get("name").trim();
                 if (!newName.equals(user.getName())) {
-                    System.out.println("📝 Updating name from '" + user.getName() + "' to '" + newName + "'");
+                    log.debug("📝 Updating name from '{}' to '{}'", user.getName(), newName);
                     user.setName(newName);
                     updated = true;
                 } else {
-                    System.out.println("ℹ️ Name unchanged: " + newName);
+                    log.debug("ℹ️ Name unchanged: {}", newName);
                 }
             }
             
@@ -629,14 +616,14 @@ public class AuthController {
                     // Check if email is already taken by another user
                     Optional<User> existingUser = userRepository.findByEmail(newEmail);
                     if (existingUser.isPresent() && !existingUser.get().getId().equals(user.getId())) {
-                        System.out.println("❌ Email already taken: " + newEmail);
+                        log.warn("❌ Email already taken: {}", newEmail);
                         return ResponseEntity.status(400).body(Map.of("error", "Email is already registered to another account"));
                     }
-                    System.out.println("📝 Updating email from '" + user.getEmail() + "' to '" + newEmail + "'");
+                    log.debug("📝 Updating email from '{}' to '{}'", user.getEmail(), newEmail);
                     user.setEmail(newEmail);
                     updated = true;
                 } else {
-                    System.out.println("ℹ️ Email unchanged: " + newEmail);
+                    log.debug("ℹ️ Email unchanged: {}", newEmail);
                 }
             }
             
@@ -644,20 +631,20 @@ public class AuthController {
             if (request.containsKey("mobile") && request.get("mobile") != null && !request.get("mobile").isEmpty()) {
                 String newMobile = request.get("mobile").trim();
                 if (!newMobile.equals(user.getMobile())) {
-                    System.out.println("📝 Updating mobile from '" + user.getMobile() + "' to '" + newMobile + "'");
+                    log.debug("📝 Updating mobile from '{}' to '{}'", user.getMobile(), newMobile);
                     user.setMobile(newMobile);
                     updated = true;
                 } else {
-                    System.out.println("ℹ️ Mobile unchanged: " + newMobile);
+                    log.debug("ℹ️ Mobile unchanged: {}", newMobile);
                 }
             }
             
             if (updated) {
                 // Save using repository - this will handle the transaction properly
-                System.out.println("💾 Saving user with Name: " + user.getName() + ", Mobile: " + user.getMobile());
+                log.debug("💾 Saving user with Name: {}, Mobile: {}", user.getName(), user.getMobile());
                 user = userRepository.save(user);
                 userRepository.flush(); // Force flush to ensure immediate write
-                System.out.println("✅ User saved successfully");
+                log.debug("✅ User saved successfully");
                 
                 // Verify by querying database directly
                 String verifySql = "SELECT name, mobile FROM users WHERE id = ?";
@@ -666,25 +653,25 @@ public class AuthController {
                 Object[] dbResult = (Object[]) verifyQuery.getSingleResult();
                 String dbName = dbResult[0] != null ? (String) dbResult[0] : null;
                 String dbMobile = dbResult[1] != null ? (String) dbResult[1] : null;
-                System.out.println("🔍 Database verification - Name: " + dbName + ", Mobile: " + dbMobile);
+                log.debug("🔍 Database verification - Name: {}, Mobile: {}", dbName, dbMobile);
                 
                 // Clear entity manager and fetch fresh data to ensure we have the latest
                 entityManager.clear();
                 user = userRepository.findById(user.getId())
                         .orElseThrow(() -> new RuntimeException("Failed to retrieve updated user"));
-                System.out.println("✅ Fetched fresh user data - Name: " + user.getName() + ", Mobile: " + user.getMobile());
+                log.debug("✅ Fetched fresh user data - Name: {}, Mobile: {}", user.getName(), user.getMobile());
                 
                 // If entity doesn't match DB, use DB values
                 if (dbName != null && !dbName.equals(user.getName())) {
-                    System.out.println("⚠️ Entity name doesn't match DB, using DB value: " + dbName);
+                    log.warn("⚠️ Entity name doesn't match DB, using DB value: {}", dbName);
                     user.setName(dbName);
                 }
                 if (dbMobile != null && !dbMobile.equals(user.getMobile())) {
-                    System.out.println("⚠️ Entity mobile doesn't match DB, using DB value: " + dbMobile);
+                    log.warn("⚠️ Entity mobile doesn't match DB, using DB value: {}", dbMobile);
                     user.setMobile(dbMobile);
                 }
             } else {
-                System.out.println("ℹ️ No changes to save");
+                log.debug("ℹ️ No changes to save");
             }
             
             Map<String, Object> userMap = new HashMap<>();
@@ -697,14 +684,14 @@ public class AuthController {
             userMap.put("photoUrl", user.getPhotoUrl() != null ? user.getPhotoUrl() : "");
             userMap.put("createdAt", user.getCreatedAt());
             
-            System.out.println("📤 Returning user data - Name: " + userMap.get("name") + ", Mobile: " + userMap.get("mobile"));
+            log.debug("📤 Returning user data - Name: {}, Mobile: {}", userMap.get("name"), userMap.get("mobile"));
             
             return ResponseEntity.ok(Map.of(
                 "message", "Profile updated successfully",
                 "user", userMap
             ));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to update profile", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to update profile: " + e.getMessage()));
         }
     }
@@ -716,35 +703,20 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> changePassword(@RequestBody Map<String, String> request) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
-                System.out.println("❌ No authentication found for password change");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ No authentication found for password change");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            System.out.println("🔍 Changing password for identifier: " + identifier);
-            
-            // Try to find user by email, username, or Google ID (same pattern as updateProfile)
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                System.out.println("   Not found by email, trying username...");
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                System.out.println("   Not found by username, trying Google ID...");
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             if (userOpt.isEmpty()) {
-                System.out.println("❌ User not found with identifier: " + identifier);
+                log.warn("❌ User not found for this token");
                 return ResponseEntity.status(404).body(Map.of("error", "User not found. Please login again."));
             }
             
             User user = userOpt.get();
-            System.out.println("✅ Found user: " + user.getEmail() + " (ID: " + user.getId() + ")");
+            log.debug("✅ Found user: {} (ID: {})", user.getEmail(), user.getId());
             
             String currentPassword = request.get("currentPassword");
             String newPassword = request.get("newPassword");
@@ -760,28 +732,29 @@ public class AuthController {
             // Verify current password if user has one
             if (user.getPassword() != null && !user.getPassword().isEmpty()) {
                 if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
-                    System.out.println("❌ Current password is incorrect for user: " + user.getEmail());
+                    log.warn("❌ Current password is incorrect for user: {}", user.getEmail());
                     return ResponseEntity.status(400).body(Map.of("error", "Current password is incorrect"));
                 }
             } else {
                 // If user doesn't have a password (e.g., Google login), allow setting password without current password
-                System.out.println("ℹ️ User has no existing password (likely Google login), allowing password creation");
+                log.debug("ℹ️ User has no existing password (likely Google login), allowing password creation");
             }
             
             // Update password
             String encodedPassword = passwordEncoder.encode(newPassword);
             String sql = "UPDATE users SET password = ? WHERE id = ?";
             Query query = entityManager.createNativeQuery(sql);
+            query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
             query.setParameter(1, encodedPassword);
             query.setParameter(2, user.getId());
             int updated = query.executeUpdate();
             
-            System.out.println("✅ Password updated successfully for user: " + user.getEmail() + " (rows updated: " + updated + ")");
+            log.debug("✅ Password updated successfully for user: {} (rows updated: {})", user.getEmail(), updated);
             
             return ResponseEntity.ok(Map.of("message", "Password changed successfully"));
         } catch (Exception e) {
-            e.printStackTrace();
-            System.out.println("❌ Error changing password: " + e.getMessage());
+            log.error("Failed to change password", e);
+            log.warn("❌ Error changing password: {}", e.getMessage());
             return ResponseEntity.status(500).body(Map.of("error", "Failed to change password: " + e.getMessage()));
         }
     }
@@ -793,23 +766,11 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> uploadProfilePhoto(@RequestParam("photo") MultipartFile file) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
+            if (!currentUser.isAuthenticated()) {
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            
-            // Find user
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             User user = userOpt.orElseThrow(() -> new RuntimeException("User not found"));
             
@@ -858,17 +819,16 @@ public class AuthController {
             userMap.put("photoUrl", user.getPhotoUrl() != null ? user.getPhotoUrl() : "");
             userMap.put("createdAt", user.getCreatedAt());
             
-            System.out.println("✅ Profile photo uploaded: " + photoUrl);
+            log.debug("✅ Profile photo uploaded: {}", photoUrl);
             
             return ResponseEntity.ok(Map.of(
                 "message", "Profile photo uploaded successfully",
                 "user", userMap
             ));
         } catch (IOException e) {
-            e.printStackTrace();
             return ResponseEntity.status(500).body(Map.of("error", "Failed to upload photo: " + e.getMessage()));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to upload photo", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to upload photo: " + e.getMessage()));
         }
     }
@@ -896,7 +856,7 @@ public class AuthController {
                     .contentType(org.springframework.http.MediaType.parseMediaType(contentType))
                     .body(fileContent);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to load photo", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to load photo: " + e.getMessage()));
         }
     }
@@ -907,37 +867,21 @@ public class AuthController {
     @GetMapping("/profile/addresses")
     public ResponseEntity<?> getAddresses() {
         try {
-            System.out.println("🔍 Getting addresses for authenticated user");
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
-                System.out.println("❌ Authentication failed: " + (authentication == null ? "null" : authentication.getName()));
+            log.debug("🔍 Getting addresses for authenticated user");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ Authentication failed");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            System.out.println("🔍 Finding user with identifier: " + identifier);
-            
-            // Find user
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
-            
-            User user = userOpt.orElseThrow(() -> {
-                System.out.println("❌ User not found for identifier: " + identifier);
+            // Addresses only need the user's ID, which the token carries
+            Long userId = currentUser.id().orElseThrow(() -> {
+                log.warn("❌ User not found for this token");
                 return new RuntimeException("User not found");
             });
+            log.debug("🔍 Fetching addresses for user ID: {}", userId);
             
-            System.out.println("✅ Found user: " + user.getEmail() + " (ID: " + user.getId() + ")");
-            System.out.println("🔍 Fetching addresses for user ID: " + user.getId());
-            
-            List<Address> addresses = addressRepository.findByUserIdOrderByIsDefaultDescCreatedAtDesc(user.getId());
-            System.out.println("✅ Found " + addresses.size() + " addresses");
+            List<Address> addresses = addressRepository.findByUserIdOrderByIsDefaultDescCreatedAtDesc(userId);
+            log.debug("✅ Found {} addresses", addresses.size());
             
             List<Map<String, Object>> addressList = addresses.stream().map(addr -> {
                 Map<String, Object> addrMap = new HashMap<>();
@@ -953,8 +897,7 @@ public class AuthController {
             
             return ResponseEntity.ok(addressList);
         } catch (Exception e) {
-            System.out.println("❌ Error getting addresses: " + e.getClass().getName() + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting addresses: {}: {}", e.getClass().getName(), e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get addresses: " + e.getMessage()));
         }
     }
@@ -966,48 +909,35 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> addAddress(@RequestBody Map<String, Object> request) {
         try {
-            System.out.println("🔍 Adding new address");
-            System.out.println("📝 Request data: " + request);
-            
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            log.debug("🔍 Adding new address");
+            log.debug("📝 Request data: {}", request);
             
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
-                System.out.println("❌ Authentication failed");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ Authentication failed");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            System.out.println("🔍 Finding user with identifier: " + identifier);
-            
-            // Find user
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             User user = userOpt.orElseThrow(() -> {
-                System.out.println("❌ User not found for identifier: " + identifier);
+                log.warn("❌ User not found for this token");
                 return new RuntimeException("User not found");
             });
             
-            System.out.println("✅ Found user: " + user.getEmail() + " (ID: " + user.getId() + ")");
+            log.debug("✅ Found user: {} (ID: {})", user.getEmail(), user.getId());
             
             // Validate required fields
             if (request.get("address") == null || request.get("city") == null || 
                 request.get("state") == null || request.get("pincode") == null) {
-                System.out.println("❌ Missing required fields");
+                log.warn("❌ Missing required fields");
                 return ResponseEntity.status(400).body(Map.of("error", "Address, city, state, and pincode are required"));
             }
             
             // If this is set as default, clear other default addresses
             Boolean isDefault = request.get("isDefault") != null && (Boolean) request.get("isDefault");
-            System.out.println("📝 Is default: " + isDefault);
+            log.debug("📝 Is default: {}", isDefault);
             if (isDefault) {
-                System.out.println("🔍 Clearing other default addresses");
+                log.debug("🔍 Clearing other default addresses");
                 addressRepository.clearDefaultAddresses(user.getId());
             }
             
@@ -1017,34 +947,22 @@ public class AuthController {
             String city = request.get("city").toString();
             String state = request.get("state").toString();
             String pincode = request.get("pincode").toString();
-            int isDefaultInt = isDefault ? 1 : 0;
             
             LocalDateTime now = LocalDateTime.now();
             
-            System.out.println("💾 Saving address to database using native SQL");
-            String insertSql = "INSERT INTO addresses (user_id, label, address, city, state, pincode, is_default, created_at, updated_at) " +
-                             "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            Query insertQuery = entityManager.createNativeQuery(insertSql);
-            insertQuery.setParameter(1, user.getId());
-            insertQuery.setParameter(2, label);
-            insertQuery.setParameter(3, addressStr);
-            insertQuery.setParameter(4, city);
-            insertQuery.setParameter(5, state);
-            insertQuery.setParameter(6, pincode);
-            insertQuery.setParameter(7, isDefaultInt);
-            insertQuery.setParameter(8, java.sql.Timestamp.valueOf(now));
-            insertQuery.setParameter(9, java.sql.Timestamp.valueOf(now));
-            insertQuery.executeUpdate();
-            
-            // Get the generated ID
-            Query idQuery = entityManager.createNativeQuery("SELECT last_insert_rowid()");
-            Long addressId = ((Number) idQuery.getSingleResult()).longValue();
-            System.out.println("✅ Address saved with ID: " + addressId);
-            
-            // Clear entity manager cache and fetch the saved address
-            entityManager.clear();
-            Address savedAddress = addressRepository.findById(addressId)
-                    .orElseThrow(() -> new RuntimeException("Failed to retrieve saved address"));
+            log.debug("💾 Saving address to database using native SQL");
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("user_id", user.getId());
+            values.put("label", label);
+            values.put("address", addressStr);
+            values.put("city", city);
+            values.put("state", state);
+            values.put("pincode", pincode);
+            values.put("is_default", isDefault);
+            values.put("created_at", java.sql.Timestamp.valueOf(now));
+            values.put("updated_at", java.sql.Timestamp.valueOf(now));
+            Address savedAddress = nativeInsertRepository.insertReturning(Address.class, "addresses", values);
+            log.debug("✅ Address saved with ID: {}", savedAddress.getId());
             
             Map<String, Object> addrMap = new HashMap<>();
             addrMap.put("id", savedAddress.getId());
@@ -1057,8 +975,7 @@ public class AuthController {
             
             return ResponseEntity.ok(addrMap);
         } catch (Exception e) {
-            System.out.println("❌ Error adding address: " + e.getClass().getName() + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error adding address: {}: {}", e.getClass().getName(), e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to add address: " + e.getMessage()));
         }
     }
@@ -1070,23 +987,11 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> updateAddress(@PathVariable Long id, @RequestBody Map<String, Object> request) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
+            if (!currentUser.isAuthenticated()) {
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            
-            // Find user
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             User user = userOpt.orElseThrow(() -> new RuntimeException("User not found"));
             
@@ -1130,6 +1035,7 @@ public class AuthController {
             // Use native SQL update to avoid SQLite issues
             String updateSql = "UPDATE addresses SET label = ?, address = ?, city = ?, state = ?, pincode = ?, is_default = ?, updated_at = ? WHERE id = ?";
             Query updateQuery = entityManager.createNativeQuery(updateSql);
+            updateQuery.unwrap(NativeQuery.class).addSynchronizedQuerySpace("addresses");
             updateQuery.setParameter(1, address.getLabel());
             updateQuery.setParameter(2, address.getAddress());
             updateQuery.setParameter(3, address.getCity());
@@ -1154,7 +1060,7 @@ public class AuthController {
             
             return ResponseEntity.ok(addrMap);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to update address", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to update address: " + e.getMessage()));
         }
     }
@@ -1166,23 +1072,11 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> deleteAddress(@PathVariable Long id) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
+            if (!currentUser.isAuthenticated()) {
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            
-            // Find user
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             User user = userOpt.orElseThrow(() -> new RuntimeException("User not found"));
             
@@ -1203,7 +1097,7 @@ public class AuthController {
             
             return ResponseEntity.ok(Map.of("message", "Address deleted successfully"));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to delete address", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to delete address: " + e.getMessage()));
         }
     }
@@ -1215,23 +1109,11 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> setDefaultAddress(@PathVariable Long id) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
+            if (!currentUser.isAuthenticated()) {
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required. Please login."));
             }
             
-            String identifier = authentication.getName();
-            
-            // Find user
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByUsername(identifier);
-            }
-            if (userOpt.isEmpty()) {
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
+            Optional<User> userOpt = currentUser.user();
             
             User user = userOpt.orElseThrow(() -> new RuntimeException("User not found"));
             
@@ -1267,7 +1149,7 @@ public class AuthController {
             
             return ResponseEntity.ok(addrMap);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to set default address", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to set default address: " + e.getMessage()));
         }
     }
@@ -1290,36 +1172,14 @@ public class AuthController {
             @RequestParam(value = "drivingLicense", required = false) MultipartFile drivingLicense) {
         try {
             // Verify current user is admin
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            if (authentication == null || !authentication.isAuthenticated()) {
+            if (!currentUser.isAuthenticated()) {
                 return ResponseEntity.status(401).body(Map.of(
                     "error", "Unauthorized",
                     "message", "Authentication required"
                 ));
             }
             
-            String currentUserEmail = authentication.getName();
-            
-            if (currentUserEmail == null || currentUserEmail.isEmpty()) {
-                return ResponseEntity.status(401).body(Map.of(
-                    "error", "Unauthorized",
-                    "message", "User not found in authentication context"
-                ));
-            }
-            
-            User currentUser = userRepository.findByEmail(currentUserEmail)
-                    .orElse(userRepository.findByUsername(currentUserEmail)
-                            .orElse(null));
-            
-            if (currentUser == null) {
-                return ResponseEntity.status(401).body(Map.of(
-                    "error", "Unauthorized",
-                    "message", "User not found"
-                ));
-            }
-            
-            if (currentUser.getRole() != User.UserRole.ADMIN) {
+            if (!currentUser.hasRole(User.UserRole.ADMIN)) {
                 return ResponseEntity.status(403).body(Map.of(
                     "error", "Access denied",
                     "message", "Only admins can create delivery man accounts"
@@ -1399,9 +1259,9 @@ public class AuthController {
                 jdbcTemplate.update(updateSql, params.toArray());
             }
             
-            System.out.println("✅ Delivery man created by admin: " + currentUser.getEmail());
-            System.out.println("   Delivery man username: " + username);
-            System.out.println("   Delivery man email: " + email);
+            log.debug("✅ Delivery man created by admin: {}", currentUser.principal().get().username());
+            log.debug("   Delivery man username: {}", username);
+            log.debug("   Delivery man email: {}", email);
             
             // Fetch updated user with proof documents
             deliveryMan = userRepository.findById(deliveryMan.getId()).orElse(deliveryMan);
@@ -1424,7 +1284,7 @@ public class AuthController {
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Create delivery man failed", e);
             String errorMessage = e.getMessage();
             String causeMessage = "";
             Throwable cause = e.getCause();
@@ -1440,8 +1300,8 @@ public class AuthController {
                 fullErrorMessage += " | Cause: " + causeMessage;
             }
             
-            System.err.println("❌ Error creating delivery man: " + fullErrorMessage);
-            System.err.println("   Exception type: " + e.getClass().getName());
+            log.error("❌ Error creating delivery man: {}", fullErrorMessage);
+            log.error("   Exception type: {}", e.getClass().getName());
             
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Internal server error",
@@ -1458,15 +1318,15 @@ public class AuthController {
      * Note: This method must be called from within a transaction
      */
     private User createDeliveryManUser(String username, String email, String encodedPassword, String name, String mobile) {
-        System.out.println("🔧 Creating delivery man using JdbcTemplate (bypassing Hibernate)...");
-        System.out.println("   Username: " + username);
-        System.out.println("   Email: " + email);
+        log.debug("🔧 Creating delivery man using JdbcTemplate (bypassing Hibernate)...");
+        log.debug("   Username: {}", username);
+        log.debug("   Email: {}", email);
         
         // Use JdbcTemplate to bypass Hibernate entirely and avoid getGeneratedKeys() issue
         String sql = "INSERT INTO users (username, email, password, name, mobile, role, created_at) " +
                     "VALUES (?, ?, ?, ?, ?, ?, ?)";
         
-        System.out.println("   Executing SQL: " + sql);
+        log.debug("   Executing SQL: {}", sql);
         
         // Execute using JdbcTemplate (bypasses Hibernate)
         int rowsAffected = jdbcTemplate.update(sql,
@@ -1479,7 +1339,7 @@ public class AuthController {
             java.sql.Timestamp.valueOf(LocalDateTime.now())
         );
         
-        System.out.println("   ✅ Insert completed. Rows affected: " + rowsAffected);
+        log.debug("   ✅ Insert completed. Rows affected: {}", rowsAffected);
         
         if (rowsAffected == 0) {
             throw new RuntimeException("Failed to insert delivery man user - no rows affected");
@@ -1487,7 +1347,7 @@ public class AuthController {
         
         // Clear the persistence context to ensure we fetch fresh data
         entityManager.clear();
-        System.out.println("   🔍 Fetching created user using JdbcTemplate native query...");
+        log.debug("   🔍 Fetching created user using JdbcTemplate native query...");
         
         // Fetch the created user by username using native query to avoid Hibernate entity management
         String selectSql = "SELECT id, username, email, password, name, mobile, role, google_id, created_at FROM users WHERE username = ?";
@@ -1508,19 +1368,19 @@ public class AuthController {
             }, username);
             
             if (results.isEmpty()) {
-                System.out.println("   ⚠️  Native query returned no results, trying fallback...");
+                log.warn("   ⚠️  Native query returned no results, trying fallback...");
                 // Fallback to repository if native query doesn't work
                 Optional<User> createdUser = userRepository.findByUsername(username);
                 if (createdUser.isPresent()) {
                     User user = createdUser.get();
                     entityManager.detach(user);
-                    System.out.println("   ✅ User found via repository fallback");
+                    log.debug("   ✅ User found via repository fallback");
                     return user;
                 }
                 throw new RuntimeException("Failed to retrieve created delivery man. Username: " + username);
             }
             
-            System.out.println("   ✅ User found via native query. Building User object...");
+            log.debug("   ✅ User found via native query. Building User object...");
             
             // Build User object from native query results
             Object[] row = results.get(0);
@@ -1537,19 +1397,18 @@ public class AuthController {
                 user.setCreatedAt(((java.sql.Timestamp) row[8]).toLocalDateTime());
             }
             
-            System.out.println("   ✅ Delivery man user created successfully (not managed by Hibernate)");
+            log.debug("   ✅ Delivery man user created successfully (not managed by Hibernate)");
             
             // Entity is not managed by Hibernate, so no need to detach
             return user;
         } catch (Exception e) {
-            System.out.println("   ❌ Error in native query: " + e.getMessage());
-            e.printStackTrace();
+            log.error("   ❌ Error in native query: {}", e.getMessage(), e);
             // Fallback to repository if native query fails
             Optional<User> createdUser = userRepository.findByUsername(username);
             if (createdUser.isPresent()) {
                 User user = createdUser.get();
                 entityManager.detach(user);
-                System.out.println("   ✅ User found via repository fallback after error");
+                log.debug("   ✅ User found via repository fallback after error");
                 return user;
             }
             throw new RuntimeException("Failed to retrieve created delivery man. Username: " + username + ". Error: " + e.getMessage(), e);
@@ -1562,15 +1421,8 @@ public class AuthController {
     @GetMapping("/admin/delivery-men")
     public ResponseEntity<?> getAllDeliveryMen() {
         try {
-            // Verify current user is admin
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUserEmail = authentication.getName();
-            
-            User currentUser = userRepository.findByEmail(currentUserEmail)
-                    .orElse(userRepository.findByUsername(currentUserEmail)
-                            .orElseThrow(() -> new RuntimeException("User not found")));
-            
-            if (currentUser.getRole() != User.UserRole.ADMIN) {
+            // Verify current user is admin (role from the token, no lookup)
+            if (!currentUser.hasRole(User.UserRole.ADMIN)) {
                 return ResponseEntity.status(403).body(Map.of(
                     "error", "Access denied",
                     "message", "Only admins can view delivery men"
@@ -1583,7 +1435,7 @@ public class AuthController {
             
             return ResponseEntity.ok(deliveryMen);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to fetch delivery men", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch delivery men: " + e.getMessage()));
         }
     }
@@ -1595,15 +1447,8 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> updateDeliveryMan(@PathVariable Long id, @RequestBody Map<String, String> request) {
         try {
-            // Verify current user is admin
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUserEmail = authentication.getName();
-            
-            User currentUser = userRepository.findByEmail(currentUserEmail)
-                    .orElse(userRepository.findByUsername(currentUserEmail)
-                            .orElseThrow(() -> new RuntimeException("User not found")));
-            
-            if (currentUser.getRole() != User.UserRole.ADMIN) {
+            // Verify current user is admin (role from the token, no lookup)
+            if (!currentUser.hasRole(User.UserRole.ADMIN)) {
                 return ResponseEntity.status(403).body(Map.of(
                     "error", "Access denied",
                     "message", "Only admins can update delivery man accounts"
@@ -1621,6 +1466,7 @@ public class AuthController {
             if (request.containsKey("name") && request.get("name") != null) {
                 String sql = "UPDATE users SET name = ? WHERE id = ?";
                 Query query = entityManager.createNativeQuery(sql);
+                query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
                 query.setParameter(1, request.get("name"));
                 query.setParameter(2, id);
                 query.executeUpdate();
@@ -1629,6 +1475,7 @@ public class AuthController {
             if (request.containsKey("mobile") && request.get("mobile") != null) {
                 String sql = "UPDATE users SET mobile = ? WHERE id = ?";
                 Query query = entityManager.createNativeQuery(sql);
+                query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
                 query.setParameter(1, request.get("mobile"));
                 query.setParameter(2, id);
                 query.executeUpdate();
@@ -1637,6 +1484,7 @@ public class AuthController {
             if (request.containsKey("email") && request.get("email") != null) {
                 String sql = "UPDATE users SET email = ? WHERE id = ?";
                 Query query = entityManager.createNativeQuery(sql);
+                query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
                 query.setParameter(1, request.get("email"));
                 query.setParameter(2, id);
                 query.executeUpdate();
@@ -1650,6 +1498,7 @@ public class AuthController {
                 String encodedPassword = passwordEncoder.encode(newPassword);
                 String sql = "UPDATE users SET password = ? WHERE id = ?";
                 Query query = entityManager.createNativeQuery(sql);
+                query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
                 query.setParameter(1, encodedPassword);
                 query.setParameter(2, id);
                 query.executeUpdate();
@@ -1664,7 +1513,7 @@ public class AuthController {
                 "user", deliveryMan
             ));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Update delivery man failed", e);
             return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
         }
     }
@@ -1676,15 +1525,8 @@ public class AuthController {
     @Transactional
     public ResponseEntity<?> deleteDeliveryMan(@PathVariable Long id) {
         try {
-            // Verify current user is admin
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUserEmail = authentication.getName();
-            
-            User currentUser = userRepository.findByEmail(currentUserEmail)
-                    .orElse(userRepository.findByUsername(currentUserEmail)
-                            .orElseThrow(() -> new RuntimeException("User not found")));
-            
-            if (currentUser.getRole() != User.UserRole.ADMIN) {
+            // Verify current user is admin (role from the token, no lookup)
+            if (!currentUser.hasRole(User.UserRole.ADMIN)) {
                 return ResponseEntity.status(403).body(Map.of(
                     "error", "Access denied",
                     "message", "Only admins can delete delivery man accounts"
@@ -1706,7 +1548,7 @@ public class AuthController {
             
             return ResponseEntity.ok(Map.of("message", "Delivery man deleted successfully"));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Delete delivery man failed", e);
             return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
         }
     }
@@ -1717,15 +1559,8 @@ public class AuthController {
     @GetMapping("/admin/users")
     public ResponseEntity<?> getAllUsers() {
         try {
-            // Verify current user is admin
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUserEmail = authentication.getName();
-            
-            User currentUser = userRepository.findByEmail(currentUserEmail)
-                    .orElse(userRepository.findByUsername(currentUserEmail)
-                            .orElseThrow(() -> new RuntimeException("User not found")));
-            
-            if (currentUser.getRole() != User.UserRole.ADMIN) {
+            // Verify current user is admin (role from the token, no lookup)
+            if (!currentUser.hasRole(User.UserRole.ADMIN)) {
                 return ResponseEntity.status(403).body(Map.of(
                     "error", "Access denied",
                     "message", "Only admins can view users"
@@ -1738,7 +1573,7 @@ public class AuthController {
             
             return ResponseEntity.ok(users);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to fetch users", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch users: " + e.getMessage()));
         }
     }
@@ -1766,7 +1601,7 @@ public class AuthController {
                     .contentType(org.springframework.http.MediaType.parseMediaType(contentType))
                     .body(fileContent);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to load document", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to load document: " + e.getMessage()));
         }
     }
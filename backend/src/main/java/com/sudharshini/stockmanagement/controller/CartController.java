@@ -6,19 +6,22 @@ import com.sudharshini.stockmanagement.entity.Product;
 import com.sudharshini.stockmanagement.entity.User;
 import com.sudharshini.stockmanagement.repository.CartItemRepository;
 import com.sudharshini.stockmanagement.repository.CartRepository;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
 import com.sudharshini.stockmanagement.repository.ProductRepository;
-import com.sudharshini.stockmanagement.repository.UserRepository;
+import com.sudharshini.stockmanagement.service.CurrentUserResolver;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -29,6 +32,8 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/cart")
 public class CartController {
+
+    private static final Logger log = LoggerFactory.getLogger(CartController.class);
     
     @Autowired
     private CartRepository cartRepository;
@@ -39,8 +44,12 @@ public class CartController {
     @Autowired
     private ProductRepository productRepository;
     
+    // User ID and role come from the token; carts never need the User entity
+    @Autowired
+    private CurrentUserResolver currentUser;
+    
     @Autowired
-    private UserRepository userRepository;
+    private NativeInsertRepository nativeInsertRepository;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -48,36 +57,19 @@ public class CartController {
     /**
      * Get or create cart for user (using native SQL for SQLite compatibility)
      */
-    private Cart getOrCreateCart(User user) {
-        Optional<Cart> cartOpt = cartRepository.findByUser(user);
+    private Cart getOrCreateCart(Long userId) {
+        Optional<Cart> cartOpt = cartRepository.findByUserId(userId);
         if (cartOpt.isPresent()) {
             return cartOpt.get();
         }
         
         // Create cart using native SQL to avoid getGeneratedKeys() issue
         LocalDateTime now = LocalDateTime.now();
-        String sql = "INSERT INTO carts (user_id, created_at, updated_at) VALUES (?, ?, ?)";
-        Query query = entityManager.createNativeQuery(sql);
-        query.setParameter(1, user.getId());
-        query.setParameter(2, now);
-        query.setParameter(3, now);
-        query.executeUpdate();
-        
-        // Get the ID of the newly inserted cart
-        Query idQuery = entityManager.createNativeQuery("SELECT last_insert_rowid()");
-        Long newCartId = ((Number) idQuery.getSingleResult()).longValue();
-        
-        // Fetch the newly created cart
-        Optional<Cart> createdCart = cartRepository.findById(newCartId);
-        if (createdCart.isPresent()) {
-            return createdCart.get();
-        }
-        
-        // Fallback: reload and find by user
-        entityManager.flush();
-        entityManager.clear();
-        return cartRepository.findByUser(user)
-            .orElseThrow(() -> new RuntimeException("Failed to create cart"));
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("user_id", userId);
+        values.put("created_at", now);
+        values.put("updated_at", now);
+        return nativeInsertRepository.insertReturning(Cart.class, "carts", values);
     }
     
     /**
@@ -86,20 +78,20 @@ public class CartController {
     @GetMapping
     public ResponseEntity<?> getCart() {
         try {
-            User user = getCurrentUser();
-            if (user == null) {
+            Long userId = currentUser.id().orElse(null);
+            if (userId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
             }
             
             // Only customers can have carts
-            if (user.getRole() != User.UserRole.CUSTOMER) {
+            if (!currentUser.hasRole(User.UserRole.CUSTOMER)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Cart is only available for customers"));
             }
             
-            Cart cart = getOrCreateCart(user);
+            Cart cart = getOrCreateCart(userId);
             return ResponseEntity.ok(cart);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to get cart", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get cart: " + e.getMessage()));
         }
     }
@@ -111,13 +103,13 @@ public class CartController {
     @Transactional
     public ResponseEntity<?> addItem(@RequestBody Map<String, Object> request) {
         try {
-            User user = getCurrentUser();
-            if (user == null) {
+            Long userId = currentUser.id().orElse(null);
+            if (userId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
             }
             
             // Only customers can add items to cart
-            if (user.getRole() != User.UserRole.CUSTOMER) {
+            if (!currentUser.hasRole(User.UserRole.CUSTOMER)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Cart is only available for customers"));
             }
             
@@ -129,7 +121,7 @@ public class CartController {
                 .orElseThrow(() -> new RuntimeException("Product not found"));
             
             // Get or create cart
-            Cart cart = getOrCreateCart(user);
+            Cart cart = getOrCreateCart(userId);
             
             // Check if item already exists in cart
             Optional<CartItem> existingItemOpt = cart.getItems().stream()
@@ -142,6 +134,7 @@ public class CartController {
                 Integer newQuantity = existingItem.getQuantity() + quantity;
                 String updateSql = "UPDATE cart_items SET quantity = ? WHERE id = ?";
                 Query updateQuery = entityManager.createNativeQuery(updateSql);
+                updateQuery.unwrap(NativeQuery.class).addSynchronizedQuerySpace("cart_items");
                 updateQuery.setParameter(1, newQuantity);
                 updateQuery.setParameter(2, existingItem.getId());
                 updateQuery.executeUpdate();
@@ -149,6 +142,7 @@ public class CartController {
                 // Add new item using native SQL
                 String insertSql = "INSERT INTO cart_items (cart_id, product_id, quantity) VALUES (?, ?, ?)";
                 Query insertQuery = entityManager.createNativeQuery(insertSql);
+                insertQuery.unwrap(NativeQuery.class).addSynchronizedQuerySpace("cart_items");
                 insertQuery.setParameter(1, cart.getId());
                 insertQuery.setParameter(2, productId);
                 insertQuery.setParameter(3, quantity);
@@ -165,7 +159,7 @@ public class CartController {
             
             return ResponseEntity.ok(cart);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to add item", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to add item: " + e.getMessage()));
         }
     }
@@ -177,8 +171,8 @@ public class CartController {
     @Transactional
     public ResponseEntity<?> updateItem(@PathVariable Long itemId, @RequestBody Map<String, Object> request) {
         try {
-            User user = getCurrentUser();
-            if (user == null) {
+            Long userId = currentUser.id().orElse(null);
+            if (userId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
             }
             
@@ -192,19 +186,19 @@ public class CartController {
                 .orElseThrow(() -> new RuntimeException("Cart item not found"));
             
             // Verify item belongs to user's cart
-            if (!item.getCart().getUser().getId().equals(user.getId())) {
+            if (!item.getCart().getUser().getId().equals(userId)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Forbidden"));
             }
             
             item.setQuantity(quantity);
             cartItemRepository.save(item);
             
-            Cart cart = cartRepository.findByUser(user)
+            Cart cart = cartRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Cart not found"));
             
             return ResponseEntity.ok(cart);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to update item", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to update item: " + e.getMessage()));
         }
     }
@@ -216,13 +210,13 @@ public class CartController {
     @Transactional
     public ResponseEntity<?> removeItem(@PathVariable Long itemId) {
         try {
-            User user = getCurrentUser();
-            if (user == null) {
+            Long userId = currentUser.id().orElse(null);
+            if (userId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
             }
             
             // Only customers can remove cart items
-            if (user.getRole() != User.UserRole.CUSTOMER) {
+            if (!currentUser.hasRole(User.UserRole.CUSTOMER)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Cart is only available for customers"));
             }
             
@@ -230,18 +224,18 @@ public class CartController {
                 .orElseThrow(() -> new RuntimeException("Cart item not found"));
             
             // Verify item belongs to user's cart
-            if (!item.getCart().getUser().getId().equals(user.getId())) {
+            if (!item.getCart().getUser().getId().equals(userId)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Forbidden"));
             }
             
             cartItemRepository.delete(item);
             
-            Cart cart = cartRepository.findByUser(user)
+            Cart cart = cartRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Cart not found"));
             
             return ResponseEntity.ok(cart);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to remove item", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to remove item: " + e.getMessage()));
         }
     }
@@ -253,17 +247,17 @@ public class CartController {
     @Transactional
     public ResponseEntity<?> clearCart() {
         try {
-            User user = getCurrentUser();
-            if (user == null) {
+            Long userId = currentUser.id().orElse(null);
+            if (userId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
             }
             
             // Only customers can clear cart
-            if (user.getRole() != User.UserRole.CUSTOMER) {
+            if (!currentUser.hasRole(User.UserRole.CUSTOMER)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Cart is only available for customers"));
             }
             
-            Optional<Cart> cartOpt = cartRepository.findByUser(user);
+            Optional<Cart> cartOpt = cartRepository.findByUserId(userId);
             if (cartOpt.isPresent()) {
                 Cart cart = cartOpt.get();
                 cartItemRepository.deleteAll(cart.getItems());
@@ -273,27 +267,8 @@ public class CartController {
             
             return ResponseEntity.ok(Map.of("message", "Cart cleared"));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to clear cart", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to clear cart: " + e.getMessage()));
         }
     }
-    
-    /**
-     * Get current authenticated user
-     */
-    private User getCurrentUser() {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || authentication.getName() == null) {
-                return null;
-            }
-            
-            String email = authentication.getName();
-            return userRepository.findByEmail(email)
-                .orElseGet(() -> userRepository.findByUsername(email).orElse(null));
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
-
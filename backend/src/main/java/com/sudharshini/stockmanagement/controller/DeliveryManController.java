@@ -2,18 +2,20 @@ package com.sudharshini.stockmanagement.controller;
 
 import com.sudharshini.stockmanagement.entity.LocationTracking;
 import com.sudharshini.stockmanagement.entity.Order;
+import com.sudharshini.stockmanagement.entity.OutboxEvent;
 import com.sudharshini.stockmanagement.entity.User;
 import com.sudharshini.stockmanagement.repository.LocationTrackingRepository;
 import com.sudharshini.stockmanagement.repository.OrderRepository;
-import com.sudharshini.stockmanagement.repository.UserRepository;
-import com.sudharshini.stockmanagement.service.EmailService;
+import com.sudharshini.stockmanagement.service.CurrentUserResolver;
+import com.sudharshini.stockmanagement.service.OrderQueryService;
+import com.sudharshini.stockmanagement.service.OutboxService;
 import com.sudharshini.stockmanagement.service.OrderService;
 import com.sudharshini.stockmanagement.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,18 +31,23 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/delivery")
 public class DeliveryManController {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliveryManController.class);
     
     @Autowired
     private OrderRepository orderRepository;
     
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUser;
     
     @Autowired
     private OrderService orderService;
     
     @Autowired
-    private EmailService emailService;
+    private OrderQueryService orderQueryService;
+    
+    @Autowired
+    private OutboxService outboxService;
     
     @Autowired
     private JwtUtil jwtUtil;
@@ -55,66 +62,18 @@ public class DeliveryManController {
     @Transactional(readOnly = true)
     public ResponseEntity<?> getMyOrders() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String identifier = authentication.getName(); // Could be email or username
+            Long deliveryManId = currentUser.id()
+                    .orElseThrow(() -> new RuntimeException("Delivery man not found"));
             
-            // Try to find user by email first, then by username
-            User deliveryMan = userRepository.findByEmail(identifier)
-                    .orElse(userRepository.findByUsername(identifier)
-                            .orElseThrow(() -> new RuntimeException("Delivery man not found")));
-            
-            if (deliveryMan.getRole() != User.UserRole.DELIVERY_MAN) {
+            if (!currentUser.hasRole(User.UserRole.DELIVERY_MAN)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Access denied. Delivery man role required."));
             }
             
-            List<Order> orders = orderRepository.findByAssignedTo(deliveryMan);
-            
-            // Initialize lazy-loaded collections to avoid LazyInitializationException
-            for (Order order : orders) {
-                try {
-                    if (order.getItems() != null) {
-                        order.getItems().size(); // Force initialization
-                        // Also initialize product references in items
-                        order.getItems().forEach(item -> {
-                            if (item.getProduct() != null) {
-                                item.getProduct().getName(); // Force initialization
-                            }
-                        });
-                    }
-                    if (order.getTrackingEvents() != null) {
-                        order.getTrackingEvents().size(); // Force initialization
-                    }
-                    // Initialize customer reference
-                    if (order.getCustomer() != null) {
-                        order.getCustomer().getEmail(); // Force initialization
-                    }
-                    // Initialize assignedTo reference
-                    if (order.getAssignedTo() != null) {
-                        order.getAssignedTo().getEmail(); // Force initialization
-                    }
-                } catch (Exception initError) {
-                    System.err.println("⚠️ Warning: Error initializing order " + order.getId() + ": " + initError.getMessage());
-                    // Continue with other orders
-                }
-            }
-            
-            // Build safe response list without lazy-loaded issues
-            List<Map<String, Object>> orderList = new java.util.ArrayList<>();
-            for (Order order : orders) {
-                try {
-                    Map<String, Object> orderMap = buildOrderMap(order);
-                    orderList.add(orderMap);
-                } catch (Exception e) {
-                    System.err.println("⚠️ Error building order map for order " + order.getId() + ": " + e.getMessage());
-                    // Skip this order but continue with others
-                }
-            }
+            List<Map<String, Object>> orderList = orderQueryService.getAssignedOrders(deliveryManId);
             
             return ResponseEntity.ok(orderList);
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("❌ Error fetching my orders: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error fetching my orders: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch orders: " + e.getMessage()));
         }
     }
@@ -126,52 +85,13 @@ public class DeliveryManController {
     @Transactional(readOnly = true)
     public ResponseEntity<?> getAvailableOrders() {
         try {
-            List<Order> orders = orderRepository.findByAssignedToIsNullAndStatusIn(
+            List<Map<String, Object>> orderList = orderQueryService.getUnassignedOrders(
                 List.of(Order.OrderStatus.CONFIRMED, Order.OrderStatus.PROCESSING)
             );
             
-            // Initialize lazy-loaded collections to avoid LazyInitializationException
-            for (Order order : orders) {
-                try {
-                    if (order.getItems() != null) {
-                        order.getItems().size(); // Force initialization
-                        // Also initialize product references in items
-                        order.getItems().forEach(item -> {
-                            if (item.getProduct() != null) {
-                                item.getProduct().getName(); // Force initialization
-                            }
-                        });
-                    }
-                    if (order.getTrackingEvents() != null) {
-                        order.getTrackingEvents().size(); // Force initialization
-                    }
-                    // Initialize customer reference
-                    if (order.getCustomer() != null) {
-                        order.getCustomer().getEmail(); // Force initialization
-                    }
-                } catch (Exception initError) {
-                    System.err.println("⚠️ Warning: Error initializing order " + order.getId() + ": " + initError.getMessage());
-                    // Continue with other orders
-                }
-            }
-            
-            // Build safe response list without lazy-loaded issues
-            List<Map<String, Object>> orderList = new java.util.ArrayList<>();
-            for (Order order : orders) {
-                try {
-                    Map<String, Object> orderMap = buildOrderMap(order);
-                    orderList.add(orderMap);
-                } catch (Exception e) {
-                    System.err.println("⚠️ Error building order map for order " + order.getId() + ": " + e.getMessage());
-                    // Skip this order but continue with others
-                }
-            }
-            
             return ResponseEntity.ok(orderList);
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("❌ Error fetching available orders: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error fetching available orders: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch available orders: " + e.getMessage()));
         }
     }
@@ -182,55 +102,50 @@ public class DeliveryManController {
     @PostMapping("/orders/{orderId}/accept")
     @Transactional
     public ResponseEntity<?> acceptOrder(@PathVariable Long orderId) {
-        System.out.println("🔵 [ACCEPT ORDER] Starting accept order for orderId: " + orderId);
+        log.debug("🔵 [ACCEPT ORDER] Starting accept order for orderId: {}", orderId);
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null) {
-                System.err.println("❌ [ACCEPT ORDER] Authentication is null");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ [ACCEPT ORDER] Authentication is null");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required"));
             }
             
-            String identifier = authentication.getName(); // Could be email or username
-            System.out.println("🔵 [ACCEPT ORDER] Authenticated user identifier: " + identifier);
-            
-            // Try to find user by email first, then by username
-            User deliveryMan = userRepository.findByEmail(identifier)
-                    .orElse(userRepository.findByUsername(identifier)
-                            .orElseThrow(() -> {
-                                System.err.println("❌ [ACCEPT ORDER] Delivery man not found for identifier: " + identifier);
-                                return new RuntimeException("Delivery man not found");
-                            }));
-            
-            System.out.println("🔵 [ACCEPT ORDER] Found delivery man: " + deliveryMan.getUsername() + " (Role: " + deliveryMan.getRole() + ")");
-            
-            if (deliveryMan.getRole() != User.UserRole.DELIVERY_MAN) {
-                System.err.println("❌ [ACCEPT ORDER] Access denied - user is not a delivery man");
+            if (!currentUser.hasRole(User.UserRole.DELIVERY_MAN)) {
+                log.warn("❌ [ACCEPT ORDER] Access denied - user is not a delivery man");
                 return ResponseEntity.status(403).body(Map.of("error", "Access denied. Delivery man role required."));
             }
             
+            // The order is assigned to the delivery man entity
+            User deliveryMan = currentUser.user()
+                    .orElseThrow(() -> {
+                        log.warn("❌ [ACCEPT ORDER] Delivery man not found for token subject");
+                        return new RuntimeException("Delivery man not found");
+                    });
+            
+            log.debug("🔵 [ACCEPT ORDER] Found delivery man: {} (ID: {})", deliveryMan.getUsername(), deliveryMan.getId());
+            
             Order order = orderRepository.findById(orderId)
                     .orElseThrow(() -> {
-                        System.err.println("❌ [ACCEPT ORDER] Order not found: " + orderId);
+                        log.warn("❌ [ACCEPT ORDER] Order not found: {}", orderId);
                         return new RuntimeException("Order not found");
                     });
             
-            System.out.println("🔵 [ACCEPT ORDER] Found order: " + order.getOrderNumber() + " (Status: " + order.getStatus() + ")");
+            log.debug("🔵 [ACCEPT ORDER] Found order: {} (Status: {})", order.getOrderNumber(), order.getStatus());
             
             if (order.getAssignedTo() != null) {
-                System.err.println("❌ [ACCEPT ORDER] Order already assigned to: " + order.getAssignedTo().getUsername());
+                log.warn("❌ [ACCEPT ORDER] Order already assigned to: {}", order.getAssignedTo().getUsername());
                 return ResponseEntity.status(400).body(Map.of("error", "Order is already assigned to another delivery man"));
             }
             
             // Assign order to delivery man
-            System.out.println("🔵 [ACCEPT ORDER] Assigning order to delivery man...");
+            log.debug("🔵 [ACCEPT ORDER] Assigning order to delivery man...");
             order.setAssignedTo(deliveryMan);
             order.setStatus(Order.OrderStatus.ACCEPTED);
             order.setAcceptedAt(LocalDateTime.now());
             final Order savedOrder = orderRepository.save(order);
-            System.out.println("🔵 [ACCEPT ORDER] Order saved successfully");
+            log.debug("🔵 [ACCEPT ORDER] Order saved successfully");
             
             // Initialize lazy-loaded collections before returning
-            System.out.println("🔵 [ACCEPT ORDER] Initializing lazy-loaded collections...");
+            log.debug("🔵 [ACCEPT ORDER] Initializing lazy-loaded collections...");
             try {
                 if (savedOrder.getItems() != null) {
                     savedOrder.getItems().size(); // Force initialization
@@ -256,15 +171,14 @@ public class DeliveryManController {
                     savedOrder.getAssignedTo().getName(); // Force initialization
                     savedOrder.getAssignedTo().getEmail(); // Force initialization
                 }
-                System.out.println("🔵 [ACCEPT ORDER] Lazy-loaded collections initialized");
+                log.debug("🔵 [ACCEPT ORDER] Lazy-loaded collections initialized");
             } catch (Exception initError) {
-                System.err.println("❌ [ACCEPT ORDER] Error initializing lazy-loaded collections: " + initError.getMessage());
-                initError.printStackTrace();
+                log.error("❌ [ACCEPT ORDER] Error initializing lazy-loaded collections: {}", initError.getMessage(), initError);
                 throw initError;
             }
             
             // Build response FIRST before any async operations
-            System.out.println("🔵 [ACCEPT ORDER] Building response...");
+            log.debug("🔵 [ACCEPT ORDER] Building response...");
             Map<String, Object> response = new HashMap<>();
             try {
                 response.put("message", "Order accepted successfully");
@@ -272,62 +186,42 @@ public class DeliveryManController {
                 response.put("orderNumber", savedOrder.getOrderNumber() != null ? savedOrder.getOrderNumber() : "");
                 response.put("status", savedOrder.getStatus() != null ? savedOrder.getStatus().name() : "ACCEPTED");
                 response.put("acceptedAt", savedOrder.getAcceptedAt() != null ? savedOrder.getAcceptedAt().toString() : LocalDateTime.now().toString());
-                System.out.println("🔵 [ACCEPT ORDER] Response built successfully");
+                log.debug("🔵 [ACCEPT ORDER] Response built successfully");
             } catch (Exception responseError) {
-                System.err.println("❌ [ACCEPT ORDER] Error building response: " + responseError.getMessage());
-                responseError.printStackTrace();
+                log.error("❌ [ACCEPT ORDER] Error building response: {}", responseError.getMessage(), responseError);
                 throw responseError;
             }
             
-            System.out.println("✅ [ACCEPT ORDER] Order " + orderId + " accepted successfully by delivery man: " + deliveryMan.getUsername());
+            log.debug("✅ [ACCEPT ORDER] Order {} accepted successfully by delivery man: {}", orderId, deliveryMan.getUsername());
             
             // Flush to ensure order is persisted
-            System.out.println("🔵 [ACCEPT ORDER] Flushing to database...");
+            log.debug("🔵 [ACCEPT ORDER] Flushing to database...");
             try {
                 orderRepository.flush();
-                System.out.println("🔵 [ACCEPT ORDER] Flush completed");
+                log.debug("🔵 [ACCEPT ORDER] Flush completed");
             } catch (Exception flushError) {
-                System.err.println("❌ [ACCEPT ORDER] Error flushing: " + flushError.getMessage());
-                flushError.printStackTrace();
+                log.error("❌ [ACCEPT ORDER] Error flushing: {}", flushError.getMessage(), flushError);
                 // Don't fail if flush fails - order is already saved
             }
             
-            // Send notifications AFTER building response (fire-and-forget)
-            // These are @Async methods, so they run in separate threads
-            // We initialize all lazy-loaded fields above to prevent LazyInitializationException
-            // The response is already built, so any exceptions in notifications won't affect it
-            System.out.println("🔵 [ACCEPT ORDER] Queuing notifications...");
-            final Order orderForNotifications = savedOrder; // Make final for lambda
-            try {
-                emailService.sendOrderStatusUpdate(orderForNotifications);
-                System.out.println("🔵 [ACCEPT ORDER] Notifications queued successfully");
-            } catch (Exception notificationError) {
-                System.err.println("⚠️  [ACCEPT ORDER] Error queuing notifications (non-critical): " + notificationError.getMessage());
-                notificationError.printStackTrace();
-                // Don't fail the request if notifications fail - they're async anyway
-            }
+            // Queue the status email in the outbox; it is sent after this transaction
+            // commits, so a failed or slow mail server never affects the response
+            log.debug("🔵 [ACCEPT ORDER] Queuing notifications...");
+            outboxService.enqueue(new OutboxEvent(OutboxEvent.EventType.ORDER_STATUS_EMAIL,
+                    savedOrder.getId(), Order.OrderStatus.ACCEPTED.name()));
+            log.debug("🔵 [ACCEPT ORDER] Notifications queued successfully");
             
-            System.out.println("✅ [ACCEPT ORDER] Returning success response");
+            log.debug("✅ [ACCEPT ORDER] Returning success response");
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
-            System.err.println("❌ [ACCEPT ORDER] RuntimeException: " + e.getMessage());
-            e.printStackTrace();
-            System.err.println("❌ [ACCEPT ORDER] Stack trace:");
-            for (StackTraceElement element : e.getStackTrace()) {
-                System.err.println("   at " + element.toString());
-            }
+            log.error("❌ [ACCEPT ORDER] RuntimeException: {}", e.getMessage(), e);
             String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Failed to accept order: " + errorMessage);
             errorResponse.put("exceptionType", e.getClass().getSimpleName());
             return ResponseEntity.status(500).body(errorResponse);
         } catch (Exception e) {
-            System.err.println("❌ [ACCEPT ORDER] Unexpected Exception: " + e.getMessage());
-            e.printStackTrace();
-            System.err.println("❌ [ACCEPT ORDER] Stack trace:");
-            for (StackTraceElement element : e.getStackTrace()) {
-                System.err.println("   at " + element.toString());
-            }
+            log.error("❌ [ACCEPT ORDER] Unexpected Exception: {}", e.getMessage(), e);
             String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Failed to accept order: " + errorMessage);
@@ -343,75 +237,69 @@ public class DeliveryManController {
     public ResponseEntity<?> updateOrderStatus(
             @PathVariable Long orderId,
             @RequestBody(required = false) Map<String, String> request) {
-        System.out.println("🔵 [UPDATE STATUS] ========================================");
-        System.out.println("🔵 [UPDATE STATUS] Starting status update for orderId: " + orderId);
-        System.out.println("🔵 [UPDATE STATUS] Request body: " + (request != null ? request.toString() : "null"));
+        log.debug("🔵 [UPDATE STATUS] ========================================");
+        log.debug("🔵 [UPDATE STATUS] Starting status update for orderId: {}", orderId);
+        log.debug("🔵 [UPDATE STATUS] Request body: {}", request);
         
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null) {
-                System.err.println("❌ [UPDATE STATUS] Authentication is null");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ [UPDATE STATUS] Authentication is null");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required"));
             }
             
-            String identifier = authentication.getName(); // Could be email or username
-            System.out.println("🔵 [UPDATE STATUS] Authenticated user identifier: " + identifier);
-            
-            // Try to find user by email first, then by username
-            User deliveryMan = userRepository.findByEmail(identifier)
-                    .orElse(userRepository.findByUsername(identifier)
-                            .orElseThrow(() -> {
-                                System.err.println("❌ [UPDATE STATUS] Delivery man not found for identifier: " + identifier);
-                                return new RuntimeException("Delivery man not found");
-                            }));
+            Long deliveryManId = currentUser.id()
+                    .orElseThrow(() -> {
+                        log.warn("❌ [UPDATE STATUS] Delivery man not found for token subject");
+                        return new RuntimeException("Delivery man not found");
+                    });
             
-            System.out.println("🔵 [UPDATE STATUS] Found delivery man: " + deliveryMan.getUsername() + " (Role: " + deliveryMan.getRole() + ")");
+            log.debug("🔵 [UPDATE STATUS] Delivery man ID: {}", deliveryManId);
             
-            if (deliveryMan.getRole() != User.UserRole.DELIVERY_MAN) {
-                System.err.println("❌ [UPDATE STATUS] Access denied - user is not a delivery man");
+            if (!currentUser.hasRole(User.UserRole.DELIVERY_MAN)) {
+                log.warn("❌ [UPDATE STATUS] Access denied - user is not a delivery man");
                 return ResponseEntity.status(403).body(Map.of("error", "Access denied. Delivery man role required."));
             }
             
             Order order = orderRepository.findById(orderId)
                     .orElseThrow(() -> {
-                        System.err.println("❌ [UPDATE STATUS] Order not found: " + orderId);
+                        log.warn("❌ [UPDATE STATUS] Order not found: {}", orderId);
                         return new RuntimeException("Order not found");
                     });
             
-            System.out.println("🔵 [UPDATE STATUS] Found order: " + order.getOrderNumber() + " (Current Status: " + order.getStatus() + ")");
+            log.debug("🔵 [UPDATE STATUS] Found order: {} (Current Status: {})", order.getOrderNumber(), order.getStatus());
             
             // Verify order is assigned to this delivery man
-            if (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(deliveryMan.getId())) {
-                System.err.println("❌ [UPDATE STATUS] Order is not assigned to this delivery man");
+            if (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(deliveryManId)) {
+                log.warn("❌ [UPDATE STATUS] Order is not assigned to this delivery man");
                 return ResponseEntity.status(403).body(Map.of("error", "Order is not assigned to you"));
             }
             
             // Handle null request body
             if (request == null) {
-                System.err.println("❌ [UPDATE STATUS] Request body is null");
+                log.warn("❌ [UPDATE STATUS] Request body is null");
                 return ResponseEntity.status(400).body(Map.of("error", "Request body is required"));
             }
             
             String statusStr = request.get("status");
             if (statusStr == null || statusStr.isEmpty()) {
-                System.err.println("❌ [UPDATE STATUS] Status is missing in request");
-                System.err.println("❌ [UPDATE STATUS] Request keys: " + request.keySet());
+                log.warn("❌ [UPDATE STATUS] Status is missing in request");
+                log.warn("❌ [UPDATE STATUS] Request keys: {}", request.keySet());
                 return ResponseEntity.status(400).body(Map.of("error", "Status is required"));
             }
             
-            System.out.println("🔵 [UPDATE STATUS] Requested status: " + statusStr);
+            log.debug("🔵 [UPDATE STATUS] Requested status: {}", statusStr);
             
             Order.OrderStatus newStatus;
             try {
                 newStatus = Order.OrderStatus.valueOf(statusStr);
             } catch (IllegalArgumentException e) {
-                System.err.println("❌ [UPDATE STATUS] Invalid status value: " + statusStr);
+                log.warn("❌ [UPDATE STATUS] Invalid status value: {}", statusStr);
                 return ResponseEntity.status(400).body(Map.of("error", "Invalid status: " + statusStr));
             }
             
             // Validate status transition
             if (!isValidStatusTransition(order.getStatus(), newStatus)) {
-                System.err.println("❌ [UPDATE STATUS] Invalid status transition from " + order.getStatus() + " to " + newStatus);
+                log.warn("❌ [UPDATE STATUS] Invalid status transition from {} to {}", order.getStatus(), newStatus);
                 return ResponseEntity.status(400).body(Map.of(
                     "error", "Invalid status transition",
                     "currentStatus", order.getStatus(),
@@ -419,7 +307,7 @@ public class DeliveryManController {
                 ));
             }
             
-            System.out.println("🔵 [UPDATE STATUS] Status transition is valid, initializing order fields...");
+            log.debug("🔵 [UPDATE STATUS] Status transition is valid, initializing order fields...");
             
             // Initialize lazy-loaded collections BEFORE calling service to avoid issues
             try {
@@ -438,20 +326,19 @@ public class DeliveryManController {
                 if (order.getDeliveryAddress() != null) {
                     order.getDeliveryAddress().length(); // Force initialization
                 }
-                System.out.println("🔵 [UPDATE STATUS] Order fields initialized");
+                log.debug("🔵 [UPDATE STATUS] Order fields initialized");
             } catch (Exception initError) {
-                System.err.println("⚠️ [UPDATE STATUS] Warning: Error initializing order fields: " + initError.getMessage());
-                initError.printStackTrace();
+                log.error("⚠️ [UPDATE STATUS] Warning: Error initializing order fields: {}", initError.getMessage(), initError);
                 // Continue anyway - might still work
             }
             
-            System.out.println("🔵 [UPDATE STATUS] Calling OrderService.updateOrderStatus...");
+            log.debug("🔵 [UPDATE STATUS] Calling OrderService.updateOrderStatus...");
             
             // Update via OrderService - it will handle status, timestamps, tracking events, and notifications
             try {
-                System.out.println("🔵 [UPDATE STATUS] About to call orderService.updateOrderStatus...");
+                log.debug("🔵 [UPDATE STATUS] About to call orderService.updateOrderStatus...");
                 Order updatedOrder = orderService.updateOrderStatus(orderId, newStatus);
-                System.out.println("✅ [UPDATE STATUS] OrderService.updateOrderStatus returned successfully");
+                log.debug("✅ [UPDATE STATUS] OrderService.updateOrderStatus returned successfully");
                 
                 // Return a simple success response immediately - don't access the order object after transaction
                 try {
@@ -460,13 +347,12 @@ public class DeliveryManController {
                     response.put("orderId", orderId);
                     response.put("status", newStatus.toString());
                     
-                    System.out.println("✅ [UPDATE STATUS] Success response built, returning...");
+                    log.debug("✅ [UPDATE STATUS] Success response built, returning...");
                     ResponseEntity<?> result = ResponseEntity.ok(response);
-                    System.out.println("✅ [UPDATE STATUS] Response entity created successfully");
+                    log.debug("✅ [UPDATE STATUS] Response entity created successfully");
                     return result;
                 } catch (Exception responseError) {
-                    System.err.println("❌ [UPDATE STATUS] Error building response: " + responseError.getMessage());
-                    responseError.printStackTrace();
+                    log.error("❌ [UPDATE STATUS] Error building response: {}", responseError.getMessage(), responseError);
                     // Fallback: return minimal response
                     return ResponseEntity.ok(Map.of(
                         "message", "Order status updated",
@@ -476,17 +362,16 @@ public class DeliveryManController {
                 }
                 
             } catch (Exception serviceError) {
-                System.err.println("❌ [UPDATE STATUS] ========================================");
-                System.err.println("❌ [UPDATE STATUS] Error in OrderService.updateOrderStatus");
-                System.err.println("❌ [UPDATE STATUS] Exception type: " + serviceError.getClass().getName());
-                System.err.println("❌ [UPDATE STATUS] Exception message: " + serviceError.getMessage());
+                log.error("❌ [UPDATE STATUS] ========================================");
+                log.error("❌ [UPDATE STATUS] Error in OrderService.updateOrderStatus");
+                log.error("❌ [UPDATE STATUS] Exception type: {}", serviceError.getClass().getName());
+                log.error("❌ [UPDATE STATUS] Exception message: {}", serviceError.getMessage());
                 if (serviceError.getCause() != null) {
-                    System.err.println("❌ [UPDATE STATUS] Exception cause: " + serviceError.getCause().getMessage());
-                    System.err.println("❌ [UPDATE STATUS] Exception cause type: " + serviceError.getCause().getClass().getName());
+                    log.error("❌ [UPDATE STATUS] Exception cause: {}", serviceError.getCause().getMessage());
+                    log.error("❌ [UPDATE STATUS] Exception cause type: {}", serviceError.getCause().getClass().getName());
                 }
-                System.err.println("❌ [UPDATE STATUS] Stack trace:");
-                serviceError.printStackTrace();
-                System.err.println("❌ [UPDATE STATUS] ========================================");
+                log.error("❌ [UPDATE STATUS] Stack trace", serviceError);
+                log.error("❌ [UPDATE STATUS] ========================================");
                 
                 // Try to get the error message safely
                 String errorMessage = serviceError.getMessage();
@@ -510,20 +395,17 @@ public class DeliveryManController {
                 ));
             }
         } catch (IllegalArgumentException e) {
-            System.err.println("❌ [UPDATE STATUS] IllegalArgumentException: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ [UPDATE STATUS] IllegalArgumentException: {}", e.getMessage(), e);
             return ResponseEntity.status(400).body(Map.of("error", "Invalid request: " + e.getMessage()));
         } catch (RuntimeException e) {
-            System.err.println("❌ [UPDATE STATUS] RuntimeException: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ [UPDATE STATUS] RuntimeException: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to update order status: " + e.getMessage()));
         } catch (Exception e) {
-            System.err.println("❌ [UPDATE STATUS] ========================================");
-            System.err.println("❌ [UPDATE STATUS] Unexpected Exception: " + e.getMessage());
-            System.err.println("❌ [UPDATE STATUS] Exception type: " + e.getClass().getName());
-            System.err.println("❌ [UPDATE STATUS] Exception cause: " + (e.getCause() != null ? e.getCause().getMessage() : "none"));
-            e.printStackTrace();
-            System.err.println("❌ [UPDATE STATUS] ========================================");
+            log.error("❌ [UPDATE STATUS] ========================================");
+            log.error("❌ [UPDATE STATUS] Unexpected Exception: {}", e.getMessage());
+            log.error("❌ [UPDATE STATUS] Exception type: {}", e.getClass().getName());
+            log.error("❌ [UPDATE STATUS] Exception cause: {}", (e.getCause() != null ? e.getCause().getMessage() : "none"), e);
+            log.error("❌ [UPDATE STATUS] ========================================");
             
             String errorMessage = e.getMessage();
             if (errorMessage == null || errorMessage.isEmpty()) {
@@ -535,7 +417,7 @@ public class DeliveryManController {
                 "exceptionType", e.getClass().getSimpleName()
             ));
         } finally {
-            System.out.println("🔵 [UPDATE STATUS] Method execution completed for orderId: " + orderId);
+            log.debug("🔵 [UPDATE STATUS] Method execution completed for orderId: {}", orderId);
         }
     }
     
@@ -548,19 +430,14 @@ public class DeliveryManController {
             @PathVariable Long orderId,
             @RequestBody Map<String, Object> locationData) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String identifier = authentication.getName(); // Could be email or username
-            
-            // Try to find user by email first, then by username
-            User deliveryMan = userRepository.findByEmail(identifier)
-                    .orElse(userRepository.findByUsername(identifier)
-                            .orElseThrow(() -> new RuntimeException("Delivery man not found")));
+            Long deliveryManId = currentUser.id()
+                    .orElseThrow(() -> new RuntimeException("Delivery man not found"));
             
             Order order = orderRepository.findById(orderId)
                     .orElseThrow(() -> new RuntimeException("Order not found"));
             
             // Verify order is assigned to this delivery man
-            if (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(deliveryMan.getId())) {
+            if (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(deliveryManId)) {
                 return ResponseEntity.status(403).body(Map.of("error", "Order is not assigned to you"));
             }
             
@@ -628,7 +505,7 @@ public class DeliveryManController {
                 )
             ));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to update location", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to update location: " + e.getMessage()));
         }
     }
@@ -662,7 +539,7 @@ public class DeliveryManController {
                     deliveryLocation = objectMapper.readValue(order.getDeliveryLocation(), Map.class);
                 }
             } catch (Exception e) {
-                System.err.println("Error parsing locations: " + e.getMessage());
+                log.error("Error parsing locations: {}", e.getMessage());
             }
             
             // Default locations (Bangalore area) if not set
@@ -737,7 +614,7 @@ public class DeliveryManController {
                 "delivery", Map.of("lat", deliveryLat, "lng", deliveryLng)
             ));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to generate fake locations", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to generate fake locations: " + e.getMessage()));
         }
     }
@@ -748,20 +625,15 @@ public class DeliveryManController {
     @GetMapping("/orders/{orderId}")
     public ResponseEntity<?> getOrderDetails(@PathVariable Long orderId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String identifier = authentication.getName(); // Could be email or username
-            
-            // Try to find user by email first, then by username
-            User deliveryMan = userRepository.findByEmail(identifier)
-                    .orElse(userRepository.findByUsername(identifier)
-                            .orElseThrow(() -> new RuntimeException("Delivery man not found")));
+            Long deliveryManId = currentUser.id()
+                    .orElseThrow(() -> new RuntimeException("Delivery man not found"));
             
             Order order = orderRepository.findById(orderId)
                     .orElseThrow(() -> new RuntimeException("Order not found"));
             
             // Verify order is assigned to this delivery man or user is admin
-            if (deliveryMan.getRole() != User.UserRole.ADMIN) {
-                if (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(deliveryMan.getId())) {
+            if (!currentUser.hasRole(User.UserRole.ADMIN)) {
+                if (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(deliveryManId)) {
                     return ResponseEntity.status(403).body(Map.of("error", "Access denied"));
                 }
             }
@@ -774,7 +646,7 @@ public class DeliveryManController {
             
             return ResponseEntity.ok(orderDetails);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to fetch order details", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch order details: " + e.getMessage()));
         }
     }
@@ -793,129 +665,4 @@ public class DeliveryManController {
             default -> false;
         };
     }
-    
-    /**
-     * Build a safe map representation of an Order without lazy-loaded issues
-     */
-    private Map<String, Object> buildOrderMap(Order order) {
-        Map<String, Object> orderMap = new HashMap<>();
-        
-        try {
-            orderMap.put("id", order.getId());
-            orderMap.put("orderNumber", order.getOrderNumber());
-            orderMap.put("status", order.getStatus() != null ? order.getStatus().toString() : null);
-            orderMap.put("totalAmount", order.getTotalAmount());
-            orderMap.put("paymentMode", order.getPaymentMode() != null ? order.getPaymentMode().toString() : null);
-            orderMap.put("deliveryName", order.getDeliveryName());
-            orderMap.put("deliveryEmail", order.getDeliveryEmail());
-            orderMap.put("deliveryMobile", order.getDeliveryMobile());
-            orderMap.put("deliveryAddress", order.getDeliveryAddress());
-            orderMap.put("deliveryPincode", order.getDeliveryPincode());
-            orderMap.put("estimatedDeliveryStart", order.getEstimatedDeliveryStart());
-            orderMap.put("estimatedDeliveryEnd", order.getEstimatedDeliveryEnd());
-            orderMap.put("pickedUpAt", order.getPickedUpAt());
-            orderMap.put("outForDeliveryAt", order.getOutForDeliveryAt());
-            orderMap.put("deliveredAt", order.getDeliveredAt());
-            orderMap.put("createdAt", order.getCreatedAt());
-            orderMap.put("trackingId", order.getTrackingId());
-            orderMap.put("currentLocation", order.getCurrentLocation());
-            
-            // Safely get customer info
-            try {
-                if (order.getCustomer() != null) {
-                    Map<String, Object> customerMap = new HashMap<>();
-                    customerMap.put("id", order.getCustomer().getId());
-                    customerMap.put("name", order.getCustomer().getName());
-                    customerMap.put("email", order.getCustomer().getEmail());
-                    customerMap.put("mobile", order.getCustomer().getMobile());
-                    orderMap.put("customer", customerMap);
-                }
-            } catch (Exception e) {
-                System.err.println("⚠️ Error getting customer for order " + order.getId() + ": " + e.getMessage());
-            }
-            
-            // Safely get assignedTo info
-            try {
-                if (order.getAssignedTo() != null) {
-                    Map<String, Object> assignedToMap = new HashMap<>();
-                    assignedToMap.put("id", order.getAssignedTo().getId());
-                    assignedToMap.put("name", order.getAssignedTo().getName());
-                    assignedToMap.put("email", order.getAssignedTo().getEmail());
-                    orderMap.put("assignedTo", assignedToMap);
-                }
-            } catch (Exception e) {
-                System.err.println("⚠️ Error getting assignedTo for order " + order.getId() + ": " + e.getMessage());
-            }
-            
-            // Safely get items
-            try {
-                if (order.getItems() != null) {
-                    List<Map<String, Object>> itemsList = new java.util.ArrayList<>();
-                    for (var item : order.getItems()) {
-                        try {
-                            Map<String, Object> itemMap = new HashMap<>();
-                            itemMap.put("id", item.getId());
-                            itemMap.put("quantity", item.getQuantity());
-                            itemMap.put("unitPrice", item.getUnitPrice());
-                            itemMap.put("totalPrice", item.getTotalPrice());
-                            
-                            // Safely get product info
-                            try {
-                                if (item.getProduct() != null) {
-                                    Map<String, Object> productMap = new HashMap<>();
-                                    productMap.put("id", item.getProduct().getId());
-                                    productMap.put("name", item.getProduct().getName());
-                                    productMap.put("description", item.getProduct().getDescription());
-                                    productMap.put("price", item.getProduct().getPrice());
-                                    productMap.put("imageUrl", item.getProduct().getImageUrl());
-                                    itemMap.put("product", productMap);
-                                }
-                            } catch (Exception e) {
-                                System.err.println("⚠️ Error getting product for item " + item.getId() + ": " + e.getMessage());
-                            }
-                            
-                            itemsList.add(itemMap);
-                        } catch (Exception e) {
-                            System.err.println("⚠️ Error building item map: " + e.getMessage());
-                        }
-                    }
-                    orderMap.put("items", itemsList);
-                }
-            } catch (Exception e) {
-                System.err.println("⚠️ Error getting items for order " + order.getId() + ": " + e.getMessage());
-            }
-            
-            // Safely get tracking events
-            try {
-                if (order.getTrackingEvents() != null) {
-                    List<Map<String, Object>> eventsList = new java.util.ArrayList<>();
-                    for (var event : order.getTrackingEvents()) {
-                        try {
-                            Map<String, Object> eventMap = new HashMap<>();
-                            eventMap.put("id", event.getId());
-                            eventMap.put("eventType", event.getEventType() != null ? event.getEventType().toString() : null);
-                            eventMap.put("description", event.getDescription());
-                            eventMap.put("location", event.getLocation());
-                            eventMap.put("eventTime", event.getEventTime());
-                            eventMap.put("sequence", event.getSequence());
-                            eventsList.add(eventMap);
-                        } catch (Exception e) {
-                            System.err.println("⚠️ Error building tracking event map: " + e.getMessage());
-                        }
-                    }
-                    orderMap.put("trackingEvents", eventsList);
-                }
-            } catch (Exception e) {
-                System.err.println("⚠️ Error getting tracking events for order " + order.getId() + ": " + e.getMessage());
-            }
-            
-        } catch (Exception e) {
-            System.err.println("❌ Error building order map: " + e.getMessage());
-            throw e;
-        }
-        
-        return orderMap;
-    }
 }
-
-
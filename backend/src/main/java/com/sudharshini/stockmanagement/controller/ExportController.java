@@ -0,0 +1,100 @@
+package com.sudharshini.stockmanagement.controller;
+
+import com.sudharshini.stockmanagement.entity.Order;
+import com.sudharshini.stockmanagement.entity.StockMovement;
+import com.sudharshini.stockmanagement.service.ExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Export Controller
+ * Streaming admin exports (NDJSON or CSV) of orders and stock movements
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+public class ExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportController.class);
+    
+    @Autowired
+    private ExportService exportService;
+    
+    /**
+     * Export orders with their items
+     * Optional filters: from/to (yyyy-MM-dd, inclusive), status. format = ndjson (default) or csv
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String status) {
+        ExportService.Format exportFormat = parseFormat(format);
+        LocalDate fromDate = parseDate(from);
+        LocalDate toDate = parseDate(to);
+        Order.OrderStatus orderStatus = status != null && !status.isBlank()
+                ? Order.OrderStatus.valueOf(status.trim().toUpperCase()) : null;
+        
+        StreamingResponseBody body = out -> {
+            long orders = exportService.exportOrders(out, exportFormat, fromDate, toDate, orderStatus);
+            log.debug("📤 Exported {} orders as {}", orders, exportFormat);
+        };
+        return streaming(body, exportFormat, "orders");
+    }
+    
+    /**
+     * Export stock movements
+     * Optional filters: from/to (yyyy-MM-dd, inclusive), productId, type (IN/OUT). format = ndjson (default) or csv
+     */
+    @GetMapping("/stock-movements")
+    public ResponseEntity<StreamingResponseBody> exportStockMovements(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) String type) {
+        ExportService.Format exportFormat = parseFormat(format);
+        LocalDate fromDate = parseDate(from);
+        LocalDate toDate = parseDate(to);
+        StockMovement.MovementType movementType = type != null && !type.isBlank()
+                ? StockMovement.MovementType.valueOf(type.trim().toUpperCase()) : null;
+        
+        StreamingResponseBody body = out -> {
+            long movements = exportService.exportStockMovements(out, exportFormat, fromDate, toDate, productId, movementType);
+            log.debug("📤 Exported {} stock movements as {}", movements, exportFormat);
+        };
+        return streaming(body, exportFormat, "stock-movements");
+    }
+    
+    private ResponseEntity<StreamingResponseBody> streaming(StreamingResponseBody body, ExportService.Format format, String name) {
+        boolean csv = format == ExportService.Format.CSV;
+        String filename = name + "-" + LocalDate.now() + (csv ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+    
+    private ExportService.Format parseFormat(String format) {
+        return ExportService.Format.valueOf(format.trim().toUpperCase());
+    }
+    
+    // Bad parameters surface as IllegalArgumentException, which the global handler turns into a 400
+    private LocalDate parseDate(String value) {
+        try {
+            return value != null && !value.isBlank() ? LocalDate.parse(value.trim()) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+}
@@ -1,27 +1,33 @@
 package com.sudharshini.stockmanagement.controller;
 
+import com.sudharshini.stockmanagement.dto.OrderPage;
 import com.sudharshini.stockmanagement.dto.OrderRequest;
 import com.sudharshini.stockmanagement.entity.LocationTracking;
 import com.sudharshini.stockmanagement.entity.Order;
 import com.sudharshini.stockmanagement.entity.OrderItem;
 import com.sudharshini.stockmanagement.entity.User;
+import com.sudharshini.stockmanagement.exception.InsufficientStockException;
 import com.sudharshini.stockmanagement.repository.LocationTrackingRepository;
 import com.sudharshini.stockmanagement.repository.OrderRepository;
-import com.sudharshini.stockmanagement.repository.UserRepository;
+import com.sudharshini.stockmanagement.service.CurrentUserResolver;
 import com.sudharshini.stockmanagement.service.GoogleMapsService;
 import com.sudharshini.stockmanagement.service.GoogleSheetsService;
+import com.sudharshini.stockmanagement.service.OrderQueryService;
 import com.sudharshini.stockmanagement.service.OrderService;
 import com.sudharshini.stockmanagement.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,12 +40,17 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderController.class);
     
     @Autowired
     private OrderService orderService;
     
     @Autowired
-    private UserRepository userRepository;
+    private OrderQueryService orderQueryService;
+    
+    @Autowired
+    private CurrentUserResolver currentUser;
     
     @Autowired
     private JwtUtil jwtUtil;
@@ -67,33 +78,29 @@ public class OrderController {
     @PostMapping
     public ResponseEntity<?> createOrder(@RequestBody OrderRequest request) {
         try {
-            System.out.println("🔍 Creating order with request: " + request);
+            log.debug("🔍 Creating order with request: {}", request);
             
             // Get authenticated user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || authentication.getName() == null) {
-                System.out.println("❌ Authentication failed");
+            Long customerId = currentUser.id().orElse(null);
+            if (customerId == null) {
+                log.warn("❌ Authentication failed");
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required"));
             }
             
-            String email = authentication.getName();
-            System.out.println("🔍 Finding user with email: " + email);
-            
-            User customer = userRepository.findByEmail(email)
-                    .orElseThrow(() -> {
-                        System.out.println("❌ User not found: " + email);
-                        return new RuntimeException("User not found");
-                    });
-            
-            System.out.println("✅ Found customer: " + customer.getEmail() + " (ID: " + customer.getId() + ")");
-            System.out.println("📦 Order items: " + (request.getItems() != null ? request.getItems().size() : 0));
+            log.debug("✅ Customer ID: {}", customerId);
+            log.debug("📦 Order items: {}", (request.getItems() != null ? request.getItems().size() : 0));
             
-            Order order = orderService.createOrder(customer.getId(), request);
-            System.out.println("✅ Order created successfully: " + order.getId());
+            Order order = orderService.createOrder(customerId, request);
+            log.debug("✅ Order created successfully: {}", order.getId());
             return ResponseEntity.ok(order);
+        } catch (InsufficientStockException e) {
+            return ResponseEntity.status(409).body(Map.of(
+                "error", "Failed to create order",
+                "message", e.getMessage(),
+                "productId", e.getProductId()
+            ));
         } catch (Exception e) {
-            System.out.println("❌ Error creating order: " + e.getClass().getName() + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error creating order: {}: {}", e.getClass().getName(), e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to create order",
                 "message", e.getMessage()
@@ -117,20 +124,15 @@ public class OrderController {
     @Transactional(readOnly = true)
     public ResponseEntity<?> getMyOrders() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || authentication.getName() == null) {
+            Long customerId = currentUser.id().orElse(null);
+            if (customerId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required"));
             }
             
-            String email = authentication.getName();
-            User customer = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            
-            List<Order> orders = orderService.getOrdersByCustomer(customer.getId());
+            List<Map<String, Object>> orders = orderQueryService.getCustomerOrders(customerId);
             return ResponseEntity.ok(orders);
         } catch (Exception e) {
-            System.err.println("❌ Error getting customer orders: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting customer orders: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to load orders",
                 "message", e.getMessage()
@@ -142,8 +144,8 @@ public class OrderController {
      * Get orders by customer ID (admin only)
      */
     @GetMapping("/customer/{customerId}")
-    public List<Order> getCustomerOrders(@PathVariable Long customerId) {
-        return orderService.getOrdersByCustomer(customerId);
+    public List<Map<String, Object>> getCustomerOrders(@PathVariable Long customerId) {
+        return orderQueryService.getCustomerOrders(customerId);
     }
     
     /**
@@ -164,8 +166,7 @@ public class OrderController {
                 "status", order.getStatus().name()
             ));
         } catch (Exception e) {
-            System.err.println("Error finding order by order number: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error finding order by order number: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to find order: " + e.getMessage()));
         }
     }
@@ -188,8 +189,7 @@ public class OrderController {
                 "status", order.getStatus().name()
             ));
         } catch (Exception e) {
-            System.err.println("Error finding order by tracking ID: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error finding order by tracking ID: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to find order: " + e.getMessage()));
         }
     }
@@ -239,16 +239,14 @@ public class OrderController {
      */
     @GetMapping("/all")
     public ResponseEntity<?> getAllOrders() {
-        System.out.println("🔵 [GET ALL ORDERS] Starting to fetch all orders...");
+        log.debug("🔵 [GET ALL ORDERS] Starting to fetch all orders...");
         try {
-            List<Order> orders = orderService.getAllOrders();
-            System.out.println("✅ [GET ALL ORDERS] Successfully fetched " + (orders != null ? orders.size() : 0) + " orders");
+            List<Map<String, Object>> orders = orderQueryService.getAllOrders();
+            log.debug("✅ [GET ALL ORDERS] Successfully fetched {} orders", (orders != null ? orders.size() : 0));
             return ResponseEntity.ok(orders);
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("❌ [GET ALL ORDERS] Error in getAllOrders: " + e.getMessage());
-            System.err.println("❌ [GET ALL ORDERS] Exception type: " + e.getClass().getName());
-            e.printStackTrace();
+            log.error("❌ [GET ALL ORDERS] Error in getAllOrders: {}", e.getMessage());
+            log.error("❌ [GET ALL ORDERS] Exception type: {}", e.getClass().getName(), e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to load orders: " + e.getMessage(),
                 "exceptionType", e.getClass().getSimpleName()
@@ -256,6 +254,36 @@ public class OrderController {
         }
     }
     
+    /**
+     * Get one page of orders (admin), newest first
+     * Optional filters: status, from/to (yyyy-MM-dd, inclusive), assignedTo (delivery man ID), pincode.
+     * Pass the returned nextCursor as cursor to get the next page; limit is capped at 100.
+     */
+    @GetMapping("/all/page")
+    public ResponseEntity<?> getOrdersPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) String pincode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            Order.OrderStatus orderStatus = status != null && !status.isBlank()
+                    ? Order.OrderStatus.valueOf(status.trim().toUpperCase()) : null;
+            LocalDate fromDate = from != null && !from.isBlank() ? LocalDate.parse(from.trim()) : null;
+            LocalDate toDate = to != null && !to.isBlank() ? LocalDate.parse(to.trim()) : null;
+            
+            OrderPage page = orderService.getOrdersPage(orderStatus, fromDate, toDate, assignedTo, pincode, cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid filter: " + e.getMessage()));
+        } catch (Exception e) {
+            log.error("❌ [GET ORDERS PAGE] Error: {}", e.getMessage());
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to load orders: " + e.getMessage()));
+        }
+    }
+    
     /**
      * Update order status
      */
@@ -288,7 +316,7 @@ public class OrderController {
         } catch (RuntimeException e) {
             return ResponseEntity.status(400).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to update order status", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to update order status: " + e.getMessage()));
         }
     }
@@ -312,7 +340,7 @@ public class OrderController {
                     order.getTrackingEvents().size(); // Force initialization
                 }
             } catch (Exception e) {
-                System.err.println("Warning: Error initializing tracking events: " + e.getMessage());
+                log.error("Warning: Error initializing tracking events: {}", e.getMessage());
             }
             
             Map<String, Object> tracking = new HashMap<>();
@@ -327,8 +355,7 @@ public class OrderController {
             
             return ResponseEntity.ok(tracking);
         } catch (Exception e) {
-            System.err.println("Error getting tracking information: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error getting tracking information: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get tracking information: " + e.getMessage()));
         }
     }
@@ -345,20 +372,15 @@ public class OrderController {
             // Optional: Verify user is the customer or admin if authenticated
             // But allow public access (like tracking endpoint) for better UX
             try {
-                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                if (authentication != null && authentication.isAuthenticated() && !authentication.getName().equals("anonymousUser")) {
-                    String email = authentication.getName();
-                    User user = userRepository.findByEmail(email).orElse(null);
-                    
-                    // If user is authenticated, verify they are the customer or admin
-                    if (user != null && user.getRole() != User.UserRole.ADMIN && 
-                        (order.getCustomer() == null || !order.getCustomer().getId().equals(user.getId()))) {
-                        return ResponseEntity.status(403).body(Map.of("error", "Access denied"));
-                    }
+                Optional<Long> userId = currentUser.id();
+                // If user is authenticated, verify they are the customer or admin
+                if (userId.isPresent() && !currentUser.hasRole(User.UserRole.ADMIN) &&
+                    (order.getCustomer() == null || !order.getCustomer().getId().equals(userId.get()))) {
+                    return ResponseEntity.status(403).body(Map.of("error", "Access denied"));
                 }
             } catch (Exception e) {
                 // If authentication check fails, allow public access (for tracking page)
-                System.out.println("Authentication check failed, allowing public access: " + e.getMessage());
+                log.debug("Authentication check failed, allowing public access: {}", e.getMessage());
             }
             
             // Check if order is accepted and has a delivery man assigned
@@ -382,7 +404,7 @@ public class OrderController {
                 try {
                     currentLocation = objectMapper.readValue(order.getCurrentLocation(), Map.class);
                 } catch (Exception e) {
-                    System.err.println("Error parsing current location: " + e.getMessage());
+                    log.error("Error parsing current location: {}", e.getMessage());
                 }
             }
             
@@ -394,7 +416,7 @@ public class OrderController {
                 try {
                     pickupLocation = objectMapper.readValue(order.getPickupLocation(), Map.class);
                 } catch (Exception e) {
-                    System.err.println("Error parsing pickup location: " + e.getMessage());
+                    log.error("Error parsing pickup location: {}", e.getMessage());
                 }
             }
             
@@ -402,14 +424,14 @@ public class OrderController {
                 try {
                     deliveryLocation = objectMapper.readValue(order.getDeliveryLocation(), Map.class);
                 } catch (Exception e) {
-                    System.err.println("Error parsing delivery location: " + e.getMessage());
+                    log.error("Error parsing delivery location: {}", e.getMessage());
                 }
             }
             
             // If delivery location is missing but pincode exists, geocode it
             if (deliveryLocation == null && order.getDeliveryPincode() != null && !order.getDeliveryPincode().isEmpty()) {
                 try {
-                    System.out.println("📍 Geocoding pincode for order: " + order.getDeliveryPincode());
+                    log.debug("📍 Geocoding pincode for order: {}", order.getDeliveryPincode());
                     Map<String, Object> geocodeResult = googleMapsService.geocodePincode(order.getDeliveryPincode(), "IN");
                     if (geocodeResult.get("success") != null && (Boolean) geocodeResult.get("success")) {
                         deliveryLocation = new HashMap<>();
@@ -422,14 +444,15 @@ public class OrderController {
                         String deliveryLocationJson = objectMapper.writeValueAsString(deliveryLocation);
                         String updateSql = "UPDATE orders SET delivery_location = ? WHERE id = ?";
                         jakarta.persistence.Query updateQuery = entityManager.createNativeQuery(updateSql);
+                        updateQuery.unwrap(NativeQuery.class).addSynchronizedQuerySpace("orders");
                         updateQuery.setParameter(1, deliveryLocationJson);
                         updateQuery.setParameter(2, order.getId());
                         updateQuery.executeUpdate();
                         
-                        System.out.println("✅ Geocoded and saved delivery location for pincode: " + order.getDeliveryPincode());
+                        log.debug("✅ Geocoded and saved delivery location for pincode: {}", order.getDeliveryPincode());
                     }
                 } catch (Exception e) {
-                    System.err.println("Error geocoding pincode in location tracking: " + e.getMessage());
+                    log.error("Error geocoding pincode in location tracking: {}", e.getMessage());
                 }
             }
             
@@ -452,7 +475,7 @@ public class OrderController {
                     
                     route = googleMapsService.getRoute(currentLat, currentLng, destLat, destLng);
                 } catch (Exception e) {
-                    System.err.println("Error calculating route: " + e.getMessage());
+                    log.error("Error calculating route: {}", e.getMessage());
                 }
             }
             
@@ -481,7 +504,7 @@ public class OrderController {
         
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to get location tracking", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get location tracking: " + e.getMessage()));
         }
     }
@@ -1,15 +1,22 @@
 package com.sudharshini.stockmanagement.controller;
 
 import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.entity.StockMovement;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
 import com.sudharshini.stockmanagement.repository.ProductRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
+import com.sudharshini.stockmanagement.service.InventoryMetricsService;
+import com.sudharshini.stockmanagement.service.ProductCatalogCache;
+import com.sudharshini.stockmanagement.service.ProductSearchIndex;
+import com.sudharshini.stockmanagement.service.StockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +31,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,12 +43,26 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductController.class);
     
     @Autowired
     private ProductRepository productRepository;
     
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private NativeInsertRepository nativeInsertRepository;
+    
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+    
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    
+    @Autowired
+    private InventoryMetricsService inventoryMetricsService;
+    
+    @Autowired
+    private StockService stockService;
     
     @Value("${file.upload.dir:uploads/products}")
     private String uploadDir;
@@ -58,9 +79,74 @@ public class ProductController {
         return path;
     }
     
+    /**
+     * Whole catalog, served from the pre-serialized snapshot.
+     * Clients revalidate with If-None-Match and get 304 while nothing changed.
+     */
     @GetMapping
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ProductCatalogCache.Snapshot catalog = productCatalogCache.get();
+        if (etagMatches(ifNoneMatch, catalog.etag())) {
+            productCatalogCache.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(catalog.body());
+    }
+    
+    /**
+     * Search products (prefix match on name, description, category and SKU)
+     * Optional: category, minPrice, maxPrice, inStock, sort (relevance, name, price_asc, price_desc),
+     * page (from 0) and size (max 100). Facets count matches per category.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        ProductSearchIndex.Sort order = sort != null && !sort.isBlank()
+                ? ProductSearchIndex.Sort.valueOf(sort.trim().toUpperCase()) : null;
+        int pageSize = size == null ? ProductSearchIndex.DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(size, ProductSearchIndex.MAX_PAGE_SIZE));
+        
+        ProductSearchIndex.SearchResult result = productSearchIndex.search(
+                q, category, minPrice, maxPrice, inStock, order, Math.max(0, page), pageSize);
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("products", result.products());
+        response.put("total", result.total());
+        response.put("page", result.page());
+        response.put("size", result.size());
+        response.put("facets", Map.of("category", result.facets()));
+        return ResponseEntity.ok(response);
+    }
+    
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     @GetMapping("/{id}")
@@ -70,84 +156,71 @@ public class ProductController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Create a product. Errors propagate to GlobalExceptionHandler, so the
+     * product row, metrics and initial stock movement roll back together; an
+     * unparseable price or quantity is a 400.
+     */
     @PostMapping
     @Transactional
     public ResponseEntity<?> createProduct(@RequestBody Map<String, Object> productData) {
-        try {
-            // Validate required fields
-            if (productData.get("name") == null || productData.get("name").toString().isEmpty()) {
-                return ResponseEntity.status(400).body(Map.of("error", "Product name is required"));
-            }
-            if (productData.get("price") == null) {
-                return ResponseEntity.status(400).body(Map.of("error", "Price is required"));
-            }
-            if (productData.get("stockQuantity") == null) {
-                return ResponseEntity.status(400).body(Map.of("error", "Stock quantity is required"));
-            }
-            
-            // Use native SQL to avoid getGeneratedKeys() issue with SQLite
-            String name = productData.get("name").toString();
-            BigDecimal price = new BigDecimal(productData.get("price").toString());
-            Integer stockQuantity = Integer.parseInt(productData.get("stockQuantity").toString());
-            String description = productData.get("description") != null ? productData.get("description").toString() : null;
-            String imageUrl = productData.get("imageUrl") != null ? productData.get("imageUrl").toString() : null;
-            String category = productData.get("category") != null ? productData.get("category").toString() : null;
-            String sku = productData.get("sku") != null ? productData.get("sku").toString() : null;
-            LocalDate expiryDate = null;
-            if (productData.get("expiryDate") != null && !productData.get("expiryDate").toString().isEmpty()) {
-                expiryDate = LocalDate.parse(productData.get("expiryDate").toString());
-            }
-            
-            String sql = "INSERT INTO products (name, description, price, stock_quantity, image_url, category, sku, expiry_date, created_at, updated_at) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            
-            Query query = entityManager.createNativeQuery(sql);
-            query.setParameter(1, name);
-            query.setParameter(2, description);
-            query.setParameter(3, price);
-            query.setParameter(4, stockQuantity);
-            query.setParameter(5, imageUrl);
-            query.setParameter(6, category);
-            query.setParameter(7, sku);
-            query.setParameter(8, expiryDate);
-            LocalDateTime now = LocalDateTime.now();
-            query.setParameter(9, now);
-            query.setParameter(10, now);
-            
-            query.executeUpdate();
-            
-            // Use SQLite's last_insert_rowid() to get the ID of the newly inserted row
-            Query idQuery = entityManager.createNativeQuery("SELECT last_insert_rowid()");
-            Long newId = ((Number) idQuery.getSingleResult()).longValue();
-            
-            // Fetch the newly created product by ID
-            Optional<Product> createdProduct = productRepository.findById(newId);
-            
-            if (createdProduct.isPresent()) {
-                return ResponseEntity.ok(createdProduct.get());
-            } else {
-                // Fallback: reload all products and find by name and created_at
-                entityManager.flush();
-                entityManager.clear();
-                Optional<Product> foundProduct = productRepository.findAll().stream()
-                    .filter(p -> p.getName().equals(name) && 
-                            p.getCreatedAt() != null && 
-                            p.getCreatedAt().isAfter(now.minusSeconds(2)))
-                    .findFirst();
-                
-                if (foundProduct.isPresent()) {
-                    return ResponseEntity.ok(foundProduct.get());
-                } else {
-                    throw new RuntimeException("Failed to retrieve created product");
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).body(Map.of("error", "Failed to create product: " + e.getMessage()));
+        // Validate required fields
+        if (productData.get("name") == null || productData.get("name").toString().isEmpty()) {
+            return ResponseEntity.status(400).body(Map.of("error", "Product name is required"));
+        }
+        if (productData.get("price") == null) {
+            return ResponseEntity.status(400).body(Map.of("error", "Price is required"));
         }
+        if (productData.get("stockQuantity") == null) {
+            return ResponseEntity.status(400).body(Map.of("error", "Stock quantity is required"));
+        }
+        
+        // Use native SQL to avoid getGeneratedKeys() issue with SQLite
+        String name = productData.get("name").toString();
+        BigDecimal price = new BigDecimal(productData.get("price").toString());
+        Integer stockQuantity = Integer.parseInt(productData.get("stockQuantity").toString());
+        String description = productData.get("description") != null ? productData.get("description").toString() : null;
+        String imageUrl = productData.get("imageUrl") != null ? productData.get("imageUrl").toString() : null;
+        String category = productData.get("category") != null ? productData.get("category").toString() : null;
+        String sku = productData.get("sku") != null ? productData.get("sku").toString() : null;
+        LocalDate expiryDate = null;
+        if (productData.get("expiryDate") != null && !productData.get("expiryDate").toString().isEmpty()) {
+            expiryDate = LocalDate.parse(productData.get("expiryDate").toString());
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", name);
+        values.put("description", description);
+        values.put("price", price);
+        values.put("stock_quantity", stockQuantity);
+        values.put("image_url", imageUrl);
+        values.put("category", category);
+        values.put("sku", sku);
+        values.put("expiry_date", expiryDate);
+        values.put("created_at", now);
+        values.put("updated_at", now);
+        
+        Product createdProduct = nativeInsertRepository.insertReturning(Product.class, "products", values);
+        inventoryMetricsService.productAdded(price, stockQuantity);
+        if (stockQuantity > 0) {
+            stockService.recordMovement(createdProduct.getId(), StockMovement.MovementType.IN, stockQuantity,
+                    "Initial stock", null, LocalDateTime.now());
+        }
+        productCatalogCache.invalidate();
+        productSearchIndex.markChanged(createdProduct.getId());
+        return ResponseEntity.ok(createdProduct);
     }
     
+    /**
+     * Update a product. The stock quantity in the body is applied as the
+     * difference from the quantity loaded here, through StockService's
+     * increment or conditional decrement, so a sale committed meanwhile is
+     * kept rather than overwritten. Errors propagate to GlobalExceptionHandler
+     * and roll the whole edit back (409 when the decrement finds too little stock).
+     */
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product productDetails) {
         Optional<Product> productOpt = productRepository.findById(id);
         if (productOpt.isEmpty()) {
@@ -155,23 +228,53 @@ public class ProductController {
         }
         
         Product product = productOpt.get();
+        BigDecimal oldPrice = product.getPrice();
+        int loadedStockQuantity = product.getStockQuantity();
         product.setName(productDetails.getName());
         product.setDescription(productDetails.getDescription());
         product.setPrice(productDetails.getPrice());
-        product.setStockQuantity(productDetails.getStockQuantity());
         product.setImageUrl(productDetails.getImageUrl());
         product.setCategory(productDetails.getCategory());
         product.setSku(productDetails.getSku());
         product.setExpiryDate(productDetails.getExpiryDate());
         product.setSupplier(productDetails.getSupplier());
         
-        return ResponseEntity.ok(productRepository.save(product));
+        // Flushed first: the UPDATE locks the row, so the quantity read next is
+        // the one the price change applies to
+        Product saved = productRepository.saveAndFlush(product);
+        int stockQuantity = productRepository.findStockQuantity(id).orElseThrow();
+        inventoryMetricsService.productUpdated(oldPrice, stockQuantity, saved.getPrice(), stockQuantity);
+        
+        int stockChange = productDetails.getStockQuantity() != null
+                ? productDetails.getStockQuantity() - loadedStockQuantity : 0;
+        if (stockChange != 0) {
+            if (stockChange > 0) {
+                stockService.restock(id, stockChange);
+            } else {
+                stockService.reserve(id, -stockChange);
+            }
+            // Edited quantities go through the ledger too, so point-in-time stock stays exact
+            stockService.recordMovement(id, stockChange > 0 ? StockMovement.MovementType.IN : StockMovement.MovementType.OUT,
+                    Math.abs(stockChange), "Adjustment", "Product edit", LocalDateTime.now());
+            stockQuantity = productRepository.findStockQuantity(id).orElseThrow();
+        }
+        // Not written from the entity; set so the response shows the stored quantity
+        saved.setStockQuantity(stockQuantity);
+        productCatalogCache.invalidate();
+        productSearchIndex.markChanged(id);
+        return ResponseEntity.ok(saved);
     }
     
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> deleteProduct(@PathVariable Long id) {
-        if (productRepository.existsById(id)) {
-            productRepository.deleteById(id);
+        Optional<Product> productOpt = productRepository.findById(id);
+        if (productOpt.isPresent()) {
+            Product product = productOpt.get();
+            productRepository.delete(product);
+            inventoryMetricsService.productRemoved(product.getPrice(), product.getStockQuantity());
+            productCatalogCache.invalidate();
+            productSearchIndex.markChanged(id);
             return ResponseEntity.ok().build();
         }
         return ResponseEntity.notFound().build();
@@ -211,7 +314,7 @@ public class ProductController {
             return ResponseEntity.ok(Map.of("imageUrl", imageUrl, "filename", filename));
             
         } catch (IOException e) {
-            e.printStackTrace();
+            log.error("Failed to upload file", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to upload file: " + e.getMessage()));
         }
     }
@@ -1,102 +1,108 @@
 package com.sudharshini.stockmanagement.controller;
 
+import com.sudharshini.stockmanagement.dto.InventoryTotals;
 import com.sudharshini.stockmanagement.entity.Product;
 import com.sudharshini.stockmanagement.repository.ProductRepository;
+import com.sudharshini.stockmanagement.service.EntityCacheService;
+import com.sudharshini.stockmanagement.service.InventoryMetricsService;
+import com.sudharshini.stockmanagement.service.ProductRatingService;
+import com.sudharshini.stockmanagement.service.SalesRollupService;
+import com.sudharshini.stockmanagement.service.StockAlertScanner;
+import com.sudharshini.stockmanagement.service.StockHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Report Controller
- * Handles dashboard reports and summaries
+ * Handles dashboard reports and summaries.
+ * Headline totals come from the running inventory metrics; item lists are
+ * paged and only loaded when asked for (includeItems=true, or the list endpoints).
+ * Time-series reports read only the daily rollup tables.
  */
 @RestController
 @RequestMapping("/api/reports")
 public class ReportController {
-    
+
+    private static final Logger log = LoggerFactory.getLogger(ReportController.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_REPORT_DAYS = 30;
+    private static final int MAX_TOP_PRODUCTS = 100;
+
+    private static final Sort LOW_STOCK_ORDER = Sort.by("stockQuantity", "id");
+    private static final Sort NEAR_EXPIRY_ORDER = Sort.by("expiryDate", "id");
+
     @Autowired
     private ProductRepository productRepository;
-    
+
+    @Autowired
+    private InventoryMetricsService inventoryMetricsService;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private ProductRatingService productRatingService;
+
+    @Autowired
+    private StockAlertScanner stockAlertScanner;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    @Autowired
+    private StockHistoryService stockHistoryService;
+
+    /**
+     * Dashboard summary: product count, total units, total stock value, and
+     * low-stock / near-expiry counts. With includeItems=true the first page (size items)
+     * of each list is included as lowStockItems / nearExpiryItems.
+     */
     @GetMapping("/summary")
     @Transactional(readOnly = true)
-    public ResponseEntity<?> getSummary() {
-        System.out.println("🔵 [GET SUMMARY] Starting summary generation...");
+    public ResponseEntity<?> getSummary(
+            @RequestParam(defaultValue = "false") boolean includeItems,
+            @RequestParam(required = false) Integer size) {
+        log.debug("🔵 [GET SUMMARY] Starting summary generation...");
+        int pageSize = validSize(size);
         try {
-            List<Product> allProducts;
-            try {
-                allProducts = productRepository.findAll();
-                System.out.println("🔵 [GET SUMMARY] Found " + (allProducts != null ? allProducts.size() : 0) + " products");
-            } catch (Exception e) {
-                System.err.println("❌ [GET SUMMARY] Error fetching all products: " + e.getMessage());
-                e.printStackTrace();
-                allProducts = List.of();
-            }
-            
-            List<Product> lowStock;
-            try {
-                lowStock = productRepository.findByStockQuantityLessThan(10);
-                System.out.println("🔵 [GET SUMMARY] Found " + (lowStock != null ? lowStock.size() : 0) + " low stock items");
-            } catch (Exception e) {
-                System.err.println("❌ [GET SUMMARY] Error fetching low stock: " + e.getMessage());
-                e.printStackTrace();
-                lowStock = List.of();
-            }
-            
-            // Safely get near expiry products
-            List<Product> nearExpiry = List.of();
-            try {
-                nearExpiry = productRepository.findNearExpiryProducts();
-                System.out.println("🔵 [GET SUMMARY] Found " + (nearExpiry != null ? nearExpiry.size() : 0) + " near expiry items");
-            } catch (Exception e) {
-                System.err.println("⚠️ [GET SUMMARY] Warning: Error fetching near expiry products: " + e.getMessage());
-                e.printStackTrace();
-                // Use empty list if method fails - this is not critical
-            }
-            
-            // Calculate total stock value
-            BigDecimal totalStockValue = BigDecimal.ZERO;
-            try {
-                if (allProducts != null && !allProducts.isEmpty()) {
-                    totalStockValue = allProducts.stream()
-                            .filter(p -> p != null && p.getPrice() != null && p.getStockQuantity() != null)
-                            .map(p -> {
-                                try {
-                                    return p.getPrice().multiply(BigDecimal.valueOf(p.getStockQuantity()));
-                                } catch (Exception ex) {
-                                    System.err.println("⚠️ Warning: Error calculating value for product " + p.getId() + ": " + ex.getMessage());
-                                    return BigDecimal.ZERO;
-                                }
-                            })
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-                }
-                System.out.println("🔵 [GET SUMMARY] Total stock value: " + totalStockValue);
-            } catch (Exception e) {
-                System.err.println("⚠️ [GET SUMMARY] Warning: Error calculating total stock value: " + e.getMessage());
-                e.printStackTrace();
-                // Continue with zero value
-            }
-            
+            LocalDate today = LocalDate.now();
+            InventoryTotals totals = inventoryMetricsService.current();
+            // Depends on today's date, so it is counted rather than maintained
+            long nearExpiryCount = productRepository.countByExpiryDateBetween(
+                    today, today.plusDays(ProductRepository.NEAR_EXPIRY_DAYS));
+
             Map<String, Object> summary = new HashMap<>();
-            summary.put("totalProducts", allProducts != null ? allProducts.size() : 0);
-            summary.put("totalStockValue", totalStockValue);
-            summary.put("lowStockCount", lowStock != null ? lowStock.size() : 0);
-            summary.put("lowStockItems", lowStock != null ? lowStock : List.of());
-            summary.put("nearExpiryCount", nearExpiry != null ? nearExpiry.size() : 0);
-            summary.put("nearExpiryItems", nearExpiry != null ? nearExpiry : List.of());
-            
-            System.out.println("✅ [GET SUMMARY] Summary generated successfully");
+            summary.put("totalProducts", totals.productCount());
+            summary.put("totalUnits", totals.totalUnits());
+            summary.put("totalStockValue", totals.totalStockValue());
+            summary.put("lowStockCount", totals.lowStockCount());
+            summary.put("nearExpiryCount", nearExpiryCount);
+
+            if (includeItems) {
+                summary.put("lowStockItems", lowStockPage(0, pageSize).getContent());
+                summary.put("nearExpiryItems", nearExpiryPage(0, pageSize).getContent());
+            }
+
+            log.debug("✅ [GET SUMMARY] Summary generated: {} products, {} low stock, {} near expiry",
+                    totals.productCount(), totals.lowStockCount(), nearExpiryCount);
             return ResponseEntity.ok(summary);
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("❌ [GET SUMMARY] Error in getSummary: " + e.getMessage());
-            System.err.println("❌ [GET SUMMARY] Exception type: " + e.getClass().getName());
-            e.printStackTrace();
+            log.error("❌ [GET SUMMARY] Error in getSummary: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to load summary",
                 "message", e.getMessage() != null ? e.getMessage() : "Unknown error",
@@ -104,5 +110,182 @@ public class ReportController {
             ));
         }
     }
-}
 
+    /**
+     * Recompute the running inventory totals from the products table
+     * (e.g. after editing products directly in the database).
+     */
+    @PostMapping("/inventory-metrics/rebuild")
+    public ResponseEntity<InventoryTotals> rebuildInventoryMetrics() {
+        return ResponseEntity.ok(inventoryMetricsService.rebuild());
+    }
+
+    /**
+     * Recompute every product's rating sum and count from the reviews table.
+     */
+    @PostMapping("/ratings/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileRatings() {
+        return ResponseEntity.ok(Map.of("corrected", productRatingService.reconcile()));
+    }
+
+    /**
+     * Run the low-stock / near-expiry scan now and send a digest if anything
+     * new needs attention.
+     */
+    @PostMapping("/alerts/scan")
+    public ResponseEntity<StockAlertScanner.ScanResult> scanStockAlerts() {
+        return ResponseEntity.ok(stockAlertScanner.scan());
+    }
+
+    /**
+     * Take stock snapshots now instead of waiting for the nightly run.
+     */
+    @PostMapping("/stock-snapshots")
+    public ResponseEntity<Map<String, Object>> takeStockSnapshots() {
+        int written = stockHistoryService.takeSnapshots();
+        return ResponseEntity.ok(Map.of("message", "Stock snapshots taken", "snapshots", written));
+    }
+
+    /**
+     * Second-level cache hit/miss counts per region.
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(entityCacheService.stats());
+    }
+
+    /**
+     * Empty the second-level cache (e.g. after editing the database directly).
+     */
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Map<String, Object>> evictCache() {
+        entityCacheService.evictAll();
+        return ResponseEntity.ok(Map.of("message", "Second-level cache cleared"));
+    }
+
+    /**
+     * Products with fewer than 10 units in stock, lowest stock first.
+     */
+    @GetMapping("/low-stock")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getLowStock(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(toResponse(lowStockPage(validPage(page), validSize(size))));
+    }
+
+    /**
+     * Products expiring within the next 15 days, soonest first.
+     */
+    @GetMapping("/near-expiry")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getNearExpiry(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(toResponse(nearExpiryPage(validPage(page), validSize(size))));
+    }
+
+    /**
+     * Orders, units sold and revenue per day, week or month (default: last 30 days, daily).
+     */
+    @GetMapping("/sales")
+    public ResponseEntity<List<Map<String, Object>>> getSalesSeries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_REPORT_DAYS - 1);
+        return ResponseEntity.ok(salesRollupService.salesSeries(start, end, parseGranularity(granularity)));
+    }
+
+    /**
+     * Units sold, revenue, orders and stock in/out for one product per period.
+     */
+    @GetMapping("/products/{productId}/sales")
+    public ResponseEntity<List<Map<String, Object>>> getProductSalesSeries(
+            @PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_REPORT_DAYS - 1);
+        return ResponseEntity.ok(salesRollupService.productSeries(productId, start, end, parseGranularity(granularity)));
+    }
+
+    /**
+     * Best sellers in a date range, by units (default) or revenue.
+     */
+    @GetMapping("/top-products")
+    public ResponseEntity<List<Map<String, Object>>> getTopProducts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "units") String by,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (!by.equalsIgnoreCase("units") && !by.equalsIgnoreCase("revenue")) {
+            throw new IllegalArgumentException("by must be units or revenue");
+        }
+        if (limit < 1 || limit > MAX_TOP_PRODUCTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOP_PRODUCTS);
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_REPORT_DAYS - 1);
+        return ResponseEntity.ok(salesRollupService.topProducts(start, end, by.equalsIgnoreCase("revenue"), limit));
+    }
+
+    /**
+     * Recompute the daily rollups for a date range (default: all history) from
+     * orders and stock movements.
+     */
+    @PostMapping("/rollups/backfill")
+    public ResponseEntity<Map<String, Object>> backfillRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesRollupService.backfill(from, to));
+    }
+
+    private SalesRollupService.Granularity parseGranularity(String granularity) {
+        try {
+            return SalesRollupService.Granularity.valueOf(granularity.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("granularity must be day, week or month");
+        }
+    }
+
+    private Page<Product> lowStockPage(int page, int size) {
+        return productRepository.findByStockQuantityLessThan(Product.LOW_STOCK_THRESHOLD,
+                PageRequest.of(page, size, LOW_STOCK_ORDER));
+    }
+
+    private Page<Product> nearExpiryPage(int page, int size) {
+        LocalDate today = LocalDate.now();
+        return productRepository.findByExpiryDateBetween(today, today.plusDays(ProductRepository.NEAR_EXPIRY_DAYS),
+                PageRequest.of(page, size, NEAR_EXPIRY_ORDER));
+    }
+
+    private int validPage(int page) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        return page;
+    }
+
+    private int validSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    private Map<String, Object> toResponse(Page<Product> page) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", page.getContent());
+        response.put("total", page.getTotalElements());
+        response.put("page", page.getNumber());
+        response.put("size", page.getSize());
+        response.put("hasMore", page.hasNext());
+        return response;
+    }
+}
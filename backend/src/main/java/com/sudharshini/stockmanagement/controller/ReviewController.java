@@ -3,13 +3,15 @@ package com.sudharshini.stockmanagement.controller;
 import com.sudharshini.stockmanagement.entity.Product;
 import com.sudharshini.stockmanagement.entity.Review;
 import com.sudharshini.stockmanagement.entity.User;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
 import com.sudharshini.stockmanagement.repository.ProductRepository;
 import com.sudharshini.stockmanagement.repository.ReviewRepository;
-import com.sudharshini.stockmanagement.repository.UserRepository;
+import com.sudharshini.stockmanagement.service.CurrentUserResolver;
+import com.sudharshini.stockmanagement.service.ProductRatingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +24,8 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/reviews")
 public class ReviewController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewController.class);
     
     @Autowired
     private ReviewRepository reviewRepository;
@@ -30,10 +34,13 @@ public class ReviewController {
     private ProductRepository productRepository;
     
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUser;
+    
+    @Autowired
+    private NativeInsertRepository nativeInsertRepository;
     
-    @jakarta.persistence.PersistenceContext
-    private jakarta.persistence.EntityManager entityManager;
+    @Autowired
+    private ProductRatingService productRatingService;
     
     /**
      * Get all reviews for a product
@@ -63,18 +70,17 @@ public class ReviewController {
                 return reviewMap;
             }).collect(Collectors.toList());
             
-            // Get average rating and review count
-            Double averageRating = reviewRepository.getAverageRatingByProductId(productId);
-            Long reviewCount = reviewRepository.getReviewCountByProductId(productId);
+            // Average rating and review count from the reviews already loaded
+            double averageRating = reviews.stream().mapToInt(Review::getRating).average().orElse(0.0);
             
             Map<String, Object> response = new HashMap<>();
             response.put("reviews", reviewList);
-            response.put("averageRating", averageRating != null ? averageRating : 0.0);
-            response.put("reviewCount", reviewCount != null ? reviewCount : 0);
+            response.put("averageRating", averageRating);
+            response.put("reviewCount", reviews.size());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to get reviews", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get reviews: " + e.getMessage()));
         }
     }
@@ -85,18 +91,12 @@ public class ReviewController {
     @GetMapping("/user/me")
     public ResponseEntity<?> getMyReviews() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || authentication.getName() == null) {
+            Long userId = currentUser.id().orElse(null);
+            if (userId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required"));
             }
             
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElse(userRepository.findByUsername(email)
-                            .orElse(userRepository.findByGoogleId(email)
-                                    .orElseThrow(() -> new RuntimeException("User not found"))));
-            
-            List<Review> reviews = reviewRepository.findByUser_IdOrderByCreatedAtDesc(user.getId());
+            List<Review> reviews = reviewRepository.findByUser_IdOrderByCreatedAtDesc(userId);
             
             List<Map<String, Object>> reviewList = reviews.stream().map(review -> {
                 Map<String, Object> reviewMap = new HashMap<>();
@@ -120,7 +120,7 @@ public class ReviewController {
             
             return ResponseEntity.ok(reviewList);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to get reviews", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get reviews: " + e.getMessage()));
         }
     }
@@ -132,53 +132,33 @@ public class ReviewController {
     @Transactional
     public ResponseEntity<?> addReview(@PathVariable Long productId, @RequestBody Map<String, Object> request) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            
-            System.out.println("🔍 ReviewController - Authentication check:");
-            System.out.println("   Authentication object: " + (authentication != null ? "exists" : "null"));
-            System.out.println("   Authentication name: " + (authentication != null ? authentication.getName() : "null"));
-            System.out.println("   Is anonymous: " + (authentication != null && "anonymousUser".equals(authentication.getName())));
-            
-            if (authentication == null || authentication.getName() == null || 
-                authentication.getName().equals("anonymousUser")) {
-                System.out.println("❌ No authentication found for review");
-                System.out.println("   Request path: /api/reviews/product/" + productId);
-                System.out.println("   This usually means the JWT token was not validated or is missing");
+            if (!currentUser.isAuthenticated()) {
+                log.warn("❌ No authentication found for review");
+                log.debug("   Request path: /api/reviews/product/{}", productId);
+                log.debug("   This usually means the JWT token was not validated or is missing");
                 return ResponseEntity.status(401).body(Map.of(
                     "error", "Authentication required. Please login again.",
                     "details", "Your session may have expired. Please refresh the page and login."
                 ));
             }
             
-            String identifier = authentication.getName();
-            System.out.println("🔍 Adding review for product " + productId + " by user: " + identifier);
-            
-            // Try to find user by email, username, or Google ID (same pattern as other endpoints)
-            Optional<User> userOpt = userRepository.findByEmail(identifier);
-            if (userOpt.isEmpty()) {
-                System.out.println("   Not found by email, trying username...");
-                userOpt = userRepository.findByUsername(identifier);
-            }
+            // The review response includes the reviewer's name and email
+            Optional<User> userOpt = currentUser.user();
             if (userOpt.isEmpty()) {
-                System.out.println("   Not found by username, trying Google ID...");
-                userOpt = userRepository.findByGoogleId(identifier);
-            }
-            
-            if (userOpt.isEmpty()) {
-                System.out.println("❌ User not found with identifier: " + identifier);
+                log.warn("❌ User not found for token subject: {}", currentUser.principal().get().username());
                 return ResponseEntity.status(404).body(Map.of("error", "User not found. Please login again."));
             }
             
             User user = userOpt.get();
-            System.out.println("✅ Found user: " + user.getEmail() + " (ID: " + user.getId() + ")");
+            log.debug("✅ Found user: {} (ID: {})", user.getEmail(), user.getId());
             
             Product product = productRepository.findById(productId)
                     .orElseThrow(() -> {
-                        System.out.println("❌ Product not found: " + productId);
+                        log.warn("❌ Product not found: {}", productId);
                         return new RuntimeException("Product not found");
                     });
             
-            System.out.println("✅ Found product: " + product.getName() + " (ID: " + product.getId() + ")");
+            log.debug("✅ Found product: {} (ID: {})", product.getName(), product.getId());
             
             // Handle rating - it might come as Integer or Number
             Object ratingObj = request.get("rating");
@@ -202,11 +182,11 @@ public class ReviewController {
             
             // Validate comment is not empty
             if (comment == null || comment.isEmpty()) {
-                System.out.println("❌ Comment is empty or null");
+                log.warn("❌ Comment is empty or null");
                 return ResponseEntity.status(400).body(Map.of("error", "Comment is required and cannot be empty"));
             }
             
-            System.out.println("📝 Review data - Rating: " + rating + ", Comment length: " + (comment != null ? comment.length() : 0));
+            log.debug("📝 Review data - Rating: {}, Comment length: {}", rating, (comment != null ? comment.length() : 0));
             
             if (rating == null || rating < 1 || rating > 5) {
                 return ResponseEntity.status(400).body(Map.of("error", "Rating must be between 1 and 5"));
@@ -216,15 +196,17 @@ public class ReviewController {
             Optional<Review> existingReview = reviewRepository.findByProduct_IdAndUser_Id(productId, user.getId());
             
             Review review;
+            int previousRating = 0;
             if (existingReview.isPresent()) {
                 // Update existing review
-                System.out.println("📝 Updating existing review");
+                log.debug("📝 Updating existing review");
                 review = existingReview.get();
+                previousRating = review.getRating();
                 review.setRating(rating);
                 review.setComment(comment);
             } else {
                 // Create new review
-                System.out.println("✨ Creating new review");
+                log.debug("✨ Creating new review");
                 review = new Review();
                 review.setProduct(product);
                 review.setUser(user);
@@ -232,42 +214,34 @@ public class ReviewController {
                 review.setComment(comment);
             }
             
-            System.out.println("💾 Saving review...");
-            System.out.println("   Review details - Product ID: " + product.getId() + ", User ID: " + user.getId() + ", Rating: " + rating + ", Comment: " + (comment != null ? comment.substring(0, Math.min(50, comment.length())) : "null"));
+            log.debug("💾 Saving review...");
+            log.debug("   Review details - Product ID: {}, User ID: {}, Rating: {}, Comment: {}",
+                    product.getId(), user.getId(), rating, (comment != null ? comment.substring(0, Math.min(50, comment.length())) : "null"));
             
             try {
                 // Use native SQL to avoid SQLite getGeneratedKeys() issue
                 if (existingReview.isEmpty()) {
                     // Insert new review
-                    String insertSql = "INSERT INTO reviews (product_id, user_id, rating, comment, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
-                    jakarta.persistence.Query insertQuery = entityManager.createNativeQuery(insertSql);
-                    insertQuery.setParameter(1, product.getId());
-                    insertQuery.setParameter(2, user.getId());
-                    insertQuery.setParameter(3, rating);
-                    insertQuery.setParameter(4, comment);
                     java.sql.Timestamp now = java.sql.Timestamp.valueOf(java.time.LocalDateTime.now());
-                    insertQuery.setParameter(5, now);
-                    insertQuery.setParameter(6, now);
-                    insertQuery.executeUpdate();
-                    
-                    // Get the generated ID using last_insert_rowid()
-                    jakarta.persistence.Query idQuery = entityManager.createNativeQuery("SELECT last_insert_rowid()");
-                    Object idResult = idQuery.getSingleResult();
-                    Long generatedId = ((Number) idResult).longValue();
-                    
-                    // Fetch the saved review
-                    review = reviewRepository.findById(generatedId)
-                            .orElseThrow(() -> new RuntimeException("Failed to retrieve saved review"));
+                    Map<String, Object> values = new java.util.LinkedHashMap<>();
+                    values.put("product_id", product.getId());
+                    values.put("user_id", user.getId());
+                    values.put("rating", rating);
+                    values.put("comment", comment);
+                    values.put("created_at", now);
+                    values.put("updated_at", now);
+                    review = nativeInsertRepository.insertReturning(Review.class, "reviews", values);
+                    productRatingService.reviewAdded(product.getId(), rating);
                 } else {
                     // Update existing review
                     review = reviewRepository.save(review);
                     reviewRepository.flush();
+                    productRatingService.reviewChanged(product.getId(), previousRating, rating);
                 }
-                System.out.println("✅ Review saved successfully (ID: " + review.getId() + ")");
+                log.debug("✅ Review saved successfully (ID: {})", review.getId());
             } catch (Exception saveException) {
-                System.out.println("❌ Error saving review to database: " + saveException.getClass().getName());
-                System.out.println("   Error message: " + saveException.getMessage());
-                saveException.printStackTrace();
+                log.warn("❌ Error saving review to database: {}", saveException.getClass().getName());
+                log.error("   Error message: {}", saveException.getMessage(), saveException);
                 throw new RuntimeException("Failed to save review: " + saveException.getMessage(), saveException);
             }
             
@@ -286,23 +260,23 @@ public class ReviewController {
             
             return ResponseEntity.ok(reviewMap);
         } catch (RuntimeException e) {
-            System.out.println("❌ RuntimeException in addReview: " + e.getMessage());
-            System.out.println("   Exception class: " + e.getClass().getName());
+            log.warn("❌ RuntimeException in addReview: {}", e.getMessage());
+            log.debug("   Exception class: {}", e.getClass().getName());
             if (e.getCause() != null) {
-                System.out.println("   Caused by: " + e.getCause().getClass().getName() + " - " + e.getCause().getMessage());
+                log.debug("   Caused by: {} - {}", e.getCause().getClass().getName(), e.getCause().getMessage());
             }
-            e.printStackTrace();
+            log.error("Failed to save review", e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to save review",
                 "message", e.getMessage()
             ));
         } catch (Exception e) {
-            System.out.println("❌ Exception in addReview: " + e.getMessage());
-            System.out.println("   Exception class: " + e.getClass().getName());
+            log.warn("❌ Exception in addReview: {}", e.getMessage());
+            log.debug("   Exception class: {}", e.getClass().getName());
             if (e.getCause() != null) {
-                System.out.println("   Caused by: " + e.getCause().getClass().getName() + " - " + e.getCause().getMessage());
+                log.debug("   Caused by: {} - {}", e.getCause().getClass().getName(), e.getCause().getMessage());
             }
-            e.printStackTrace();
+            log.error("Failed to add review", e);
             String errorMessage = "Failed to add review: " + e.getMessage();
             if (e.getCause() != null) {
                 errorMessage += " (Caused by: " + e.getCause().getMessage() + ")";
@@ -318,30 +292,25 @@ public class ReviewController {
     @Transactional
     public ResponseEntity<?> deleteReview(@PathVariable Long reviewId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || authentication.getName() == null) {
+            Long userId = currentUser.id().orElse(null);
+            if (userId == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Authentication required"));
             }
             
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElse(userRepository.findByUsername(email)
-                            .orElse(userRepository.findByGoogleId(email)
-                                    .orElseThrow(() -> new RuntimeException("User not found"))));
-            
             Review review = reviewRepository.findById(reviewId)
                     .orElseThrow(() -> new RuntimeException("Review not found"));
             
             // Check if user owns this review
-            if (!review.getUser().getId().equals(user.getId())) {
+            if (!review.getUser().getId().equals(userId)) {
                 return ResponseEntity.status(403).body(Map.of("error", "You can only delete your own reviews"));
             }
             
             reviewRepository.delete(review);
+            productRatingService.reviewRemoved(review.getProduct().getId(), review.getRating());
             
             return ResponseEntity.ok(Map.of("message", "Review deleted successfully"));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to delete review", e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to delete review: " + e.getMessage()));
         }
     }
@@ -3,24 +3,24 @@ package com.sudharshini.stockmanagement.controller;
 import com.sudharshini.stockmanagement.entity.Product;
 import com.sudharshini.stockmanagement.entity.StockMovement;
 import com.sudharshini.stockmanagement.entity.User;
+import com.sudharshini.stockmanagement.exception.InsufficientStockException;
 import com.sudharshini.stockmanagement.repository.ProductRepository;
-import com.sudharshini.stockmanagement.repository.StockMovementRepository;
 import com.sudharshini.stockmanagement.repository.UserRepository;
-import com.sudharshini.stockmanagement.service.EmailService;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
+import com.sudharshini.stockmanagement.service.StockHistoryService;
+import com.sudharshini.stockmanagement.service.StockService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Stock Controller
@@ -30,123 +30,124 @@ import java.util.Optional;
 @RequestMapping("/api/stock")
 public class StockController {
     
-    @Autowired
-    private ProductRepository productRepository;
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(1970, 1, 1, 0, 0);
     
     @Autowired
-    private StockMovementRepository stockMovementRepository;
+    private ProductRepository productRepository;
     
     @Autowired
-    private EmailService emailService;
+    private StockService stockService;
     
     @Autowired
     private UserRepository userRepository;
     
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private StockHistoryService stockHistoryService;
     
     @Value("${admin.email}")
     private String adminEmail;
     
     /**
-     * Add stock IN
+     * Add stock IN. Errors propagate to GlobalExceptionHandler, so the stock
+     * change and its movement roll back together; bad input (e.g. a quantity
+     * that is not positive) is a 400.
      */
     @PostMapping("/in")
     @Transactional
     public ResponseEntity<?> stockIn(@RequestBody Map<String, Object> request) {
-        try {
-            Long productId = Long.parseLong(request.get("productId").toString());
-            Integer quantity = Integer.parseInt(request.get("quantity").toString());
-            String reason = (String) request.getOrDefault("reason", "Purchase");
-            String notes = (String) request.getOrDefault("notes", "");
-            
-            Optional<Product> productOpt = productRepository.findById(productId);
-            if (productOpt.isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Product not found"));
-            }
-            
-            Product product = productOpt.get();
-            product.setStockQuantity(product.getStockQuantity() + quantity);
-            productRepository.save(product);
-            
-            // Use native SQL to avoid getGeneratedKeys() issue with SQLite
-            String sql = "INSERT INTO stock_movements (product_id, type, quantity, reason, notes, created_at) " +
-                        "VALUES (?, ?, ?, ?, ?, ?)";
-            
-            Query query = entityManager.createNativeQuery(sql);
-            query.setParameter(1, productId);
-            query.setParameter(2, "IN");
-            query.setParameter(3, quantity);
-            query.setParameter(4, reason != null ? reason : "Purchase");
-            query.setParameter(5, notes != null ? notes : "");
-            query.setParameter(6, java.sql.Timestamp.valueOf(LocalDateTime.now()));
-            
-            query.executeUpdate();
-            
-            return ResponseEntity.ok(Map.of("message", "Stock added successfully", "product", product));
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
+        Long productId = Long.parseLong(request.get("productId").toString());
+        Integer quantity = Integer.parseInt(request.get("quantity").toString());
+        String reason = (String) request.getOrDefault("reason", "Purchase");
+        String notes = (String) request.getOrDefault("notes", "");
+        
+        if (!stockService.restock(productId, quantity)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Product not found"));
         }
+        
+        stockService.recordMovement(productId, StockMovement.MovementType.IN, quantity,
+                reason != null ? reason : "Purchase", notes, LocalDateTime.now());
+        
+        // Loaded after the UPDATE so the response carries the committed quantity
+        Product product = productRepository.findById(productId).orElseThrow();
+        return ResponseEntity.ok(Map.of("message", "Stock added successfully", "product", product));
     }
     
     /**
-     * Add stock OUT
+     * Add stock OUT. Errors propagate as for stock IN.
      */
     @PostMapping("/out")
     @Transactional
     public ResponseEntity<?> stockOut(@RequestBody Map<String, Object> request) {
+        Long productId = Long.parseLong(request.get("productId").toString());
+        Integer quantity = Integer.parseInt(request.get("quantity").toString());
+        String reason = (String) request.getOrDefault("reason", "Adjustment");
+        String notes = (String) request.getOrDefault("notes", "");
+        
         try {
-            Long productId = Long.parseLong(request.get("productId").toString());
-            Integer quantity = Integer.parseInt(request.get("quantity").toString());
-            String reason = (String) request.getOrDefault("reason", "Adjustment");
-            String notes = (String) request.getOrDefault("notes", "");
-            
-            Optional<Product> productOpt = productRepository.findById(productId);
-            if (productOpt.isEmpty()) {
+            stockService.reserve(productId, quantity);
+        } catch (InsufficientStockException e) {
+            // Nothing was changed, so answering normally commits nothing
+            if (!productRepository.existsById(productId)) {
                 return ResponseEntity.badRequest().body(Map.of("error", "Product not found"));
             }
-            
-            Product product = productOpt.get();
-            if (product.getStockQuantity() < quantity) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Insufficient stock"));
-            }
-            
-            product.setStockQuantity(product.getStockQuantity() - quantity);
-            productRepository.save(product);
-            
-            // Use native SQL to avoid getGeneratedKeys() issue with SQLite
-            String sql = "INSERT INTO stock_movements (product_id, type, quantity, reason, notes, created_at) " +
-                        "VALUES (?, ?, ?, ?, ?, ?)";
-            
-            Query query = entityManager.createNativeQuery(sql);
-            query.setParameter(1, productId);
-            query.setParameter(2, "OUT");
-            query.setParameter(3, quantity);
-            query.setParameter(4, reason != null ? reason : "Adjustment");
-            query.setParameter(5, notes != null ? notes : "");
-            query.setParameter(6, java.sql.Timestamp.valueOf(LocalDateTime.now()));
-            
-            query.executeUpdate();
-            
-            // Check for low stock after OUT
-            if (product.isLowStock()) {
-                emailService.sendLowStockAlert(product);
-            }
-            
-            return ResponseEntity.ok(Map.of("message", "Stock reduced successfully", "product", product));
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).body(Map.of("error", "Internal server error: " + e.getMessage()));
+            return ResponseEntity.badRequest().body(Map.of("error", "Insufficient stock"));
         }
+        
+        stockService.recordMovement(productId, StockMovement.MovementType.OUT, quantity,
+                reason != null ? reason : "Adjustment", notes, LocalDateTime.now());
+        
+        // Low stock is reported by the StockAlertScanner digest
+        Product product = productRepository.findById(productId).orElseThrow();
+        return ResponseEntity.ok(Map.of("message", "Stock reduced successfully", "product", product));
     }
     
     /**
-     * Get stock history for a product
+     * Stock movements for a product, newest first, one page at a time.
+     * Optional from/to (ISO dates, inclusive) limit the range.
      */
     @GetMapping("/history/{productId}")
-    public List<StockMovement> getStockHistory(@PathVariable Long productId) {
-        return stockMovementRepository.findByProductIdOrderByCreatedAtDesc(productId);
+    public ResponseEntity<Map<String, Object>> getStockHistory(
+            @PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        int pageSize = size != null ? size : DEFAULT_HISTORY_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        LocalDateTime start = from != null ? from.atStartOfDay() : HISTORY_START;
+        LocalDateTime end = (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+        
+        Page<StockMovement> movements = stockHistoryService.history(productId, start, end, page, pageSize);
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", movements.getContent());
+        response.put("total", movements.getTotalElements());
+        response.put("page", movements.getNumber());
+        response.put("size", movements.getSize());
+        response.put("hasMore", movements.hasNext());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Stock quantity of a product at a point in time (ISO date-time, or a date
+     * for the end of that day).
+     */
+    @GetMapping("/at/{productId}")
+    public ResponseEntity<Map<String, Object>> getStockAt(@PathVariable Long productId, @RequestParam String at) {
+        LocalDateTime time;
+        try {
+            time = at.length() <= 10
+                    ? LocalDate.parse(at).plusDays(1).atStartOfDay().minusNanos(1_000_000)
+                    : LocalDateTime.parse(at);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("at must be an ISO date or date-time");
+        }
+        return ResponseEntity.ok(stockHistoryService.stockAt(productId, time));
     }
 }
-
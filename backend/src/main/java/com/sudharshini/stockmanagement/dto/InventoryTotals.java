@@ -0,0 +1,13 @@
+package com.sudharshini.stockmanagement.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Running inventory totals for the dashboard headline numbers.
+ */
+public record InventoryTotals(
+        long productCount,
+        long totalUnits,
+        BigDecimal totalStockValue,
+        long lowStockCount) {
+}
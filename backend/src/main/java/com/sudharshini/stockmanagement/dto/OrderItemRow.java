@@ -0,0 +1,22 @@
+package com.sudharshini.stockmanagement.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection of an order item and the product fields order lists show.
+ * productId is null when the product has since been deleted.
+ */
+public record OrderItemRow(
+        Long orderId,
+        Long id,
+        Integer quantity,
+        BigDecimal unitPrice,
+        BigDecimal totalPrice,
+        Long productId,
+        String productName,
+        String productDescription,
+        BigDecimal productPrice,
+        String productImageUrl,
+        String productCategory,
+        String productSku) {
+}
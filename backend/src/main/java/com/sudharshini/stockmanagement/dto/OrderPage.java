@@ -0,0 +1,61 @@
+package com.sudharshini.stockmanagement.dto;
+
+import com.sudharshini.stockmanagement.entity.Order;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a keyset-paginated order listing.
+ * Pass nextCursor back as the cursor parameter to fetch the following page;
+ * it is null on the last page.
+ */
+public class OrderPage {
+    private List<Order> orders;
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+    
+    // Constructors
+    public OrderPage() {
+    }
+    
+    public OrderPage(List<Order> orders, String nextCursor, int limit) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+        this.limit = limit;
+    }
+    
+    // Getters and Setters
+    public List<Order> getOrders() {
+        return orders;
+    }
+    
+    public void setOrders(List<Order> orders) {
+        this.orders = orders;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sudharshini.stockmanagement.dto;
+
+import com.sudharshini.stockmanagement.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of one order row for list views, with the customer and
+ * delivery man columns those views show. Selected with a JPQL constructor
+ * expression, so no entity is loaded or dirty-checked.
+ */
+public record OrderRow(
+        Long id,
+        String orderNumber,
+        BigDecimal totalAmount,
+        Order.OrderStatus status,
+        Order.PaymentMode paymentMode,
+        String deliveryName,
+        String deliveryEmail,
+        String deliveryMobile,
+        String deliveryAddress,
+        String deliveryPincode,
+        LocalDate estimatedDeliveryStart,
+        LocalDate estimatedDeliveryEnd,
+        String trackingId,
+        String courierName,
+        String pickupLocation,
+        String deliveryLocation,
+        String currentLocation,
+        LocalDateTime acceptedAt,
+        LocalDateTime pickedUpAt,
+        LocalDateTime outForDeliveryAt,
+        LocalDateTime deliveredAt,
+        String cancellationReason,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long customerId,
+        String customerName,
+        String customerEmail,
+        String customerMobile,
+        Long assignedToId,
+        String assignedToName,
+        String assignedToEmail) {
+}
@@ -0,0 +1,18 @@
+package com.sudharshini.stockmanagement.dto;
+
+import com.sudharshini.stockmanagement.entity.TrackingEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a tracking event for order lists.
+ */
+public record TrackingEventRow(
+        Long orderId,
+        Long id,
+        TrackingEvent.EventType eventType,
+        String description,
+        String location,
+        LocalDateTime eventTime,
+        Integer sequence) {
+}
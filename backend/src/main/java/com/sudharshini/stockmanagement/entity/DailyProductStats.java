@@ -0,0 +1,127 @@
+package com.sudharshini.stockmanagement.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Daily Product Stats Entity - Per-day, per-product rollup of sales (order_items)
+ * and stock movements. Units in/out cover every stock movement, orders included;
+ * units sold, revenue and order count cover orders only.
+ */
+@Entity
+@Table(name = "daily_product_stats", indexes = {
+    @Index(name = "idx_daily_product_stats_product_day", columnList = "product_id, day")
+})
+@IdClass(DailyProductStats.Key.class)
+public class DailyProductStats {
+    @Id
+    private LocalDate day;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold;
+
+    @Column(name = "revenue_minor", nullable = false)
+    private Long revenueMinor;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "units_in", nullable = false)
+    private Long unitsIn;
+
+    @Column(name = "units_out", nullable = false)
+    private Long unitsOut;
+
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private Long productId;
+
+        public Key() {
+        }
+
+        public Key(LocalDate day, Long productId) {
+            this.day = day;
+            this.productId = productId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(day, key.day) && Objects.equals(productId, key.productId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(day, productId);
+        }
+    }
+
+    // Constructors
+    public DailyProductStats() {
+    }
+
+    // Getters and Setters
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public Long getRevenueMinor() {
+        return revenueMinor;
+    }
+
+    public void setRevenueMinor(Long revenueMinor) {
+        this.revenueMinor = revenueMinor;
+    }
+
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public Long getUnitsIn() {
+        return unitsIn;
+    }
+
+    public void setUnitsIn(Long unitsIn) {
+        this.unitsIn = unitsIn;
+    }
+
+    public Long getUnitsOut() {
+        return unitsOut;
+    }
+
+    public void setUnitsOut(Long unitsOut) {
+        this.unitsOut = unitsOut;
+    }
+}
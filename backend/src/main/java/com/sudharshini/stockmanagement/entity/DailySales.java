@@ -0,0 +1,61 @@
+package com.sudharshini.stockmanagement.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Daily Sales Entity - Orders placed per day (rollup of orders / order_items).
+ * Maintained as orders are written; revenue is kept in minor units (paise).
+ */
+@Entity
+@Table(name = "daily_sales")
+public class DailySales {
+    @Id
+    private LocalDate day;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold;
+
+    @Column(name = "revenue_minor", nullable = false)
+    private Long revenueMinor;
+
+    // Constructors
+    public DailySales() {
+    }
+
+    // Getters and Setters
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public Long getRevenueMinor() {
+        return revenueMinor;
+    }
+
+    public void setRevenueMinor(Long revenueMinor) {
+        this.revenueMinor = revenueMinor;
+    }
+}
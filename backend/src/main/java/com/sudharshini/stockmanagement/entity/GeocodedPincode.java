@@ -0,0 +1,112 @@
+package com.sudharshini.stockmanagement.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Geocoded Pincode Entity - Persistent geocode cache, one row per
+ * pincode and country (key e.g. "IN:560001"), filled from Nominatim
+ * lookups and from the offline pincode gazetteer.
+ */
+@Entity
+@Table(name = "geocode_cache")
+public class GeocodedPincode {
+    @Id
+    @Column(name = "cache_key", length = 40)
+    private String cacheKey;
+
+    @Column(name = "country_code", nullable = false, length = 8)
+    private String countryCode;
+
+    @Column(nullable = false, length = 20)
+    private String pincode;
+
+    @Column(nullable = false)
+    private Double lat;
+
+    @Column(nullable = false)
+    private Double lng;
+
+    @Column(length = 500)
+    private String address;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Source source;
+
+    private LocalDateTime createdAt;
+
+    public enum Source {
+        NOMINATIM,
+        GAZETTEER
+    }
+
+    // Constructors
+    public GeocodedPincode() {
+    }
+
+    // Getters and Setters
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public String getPincode() {
+        return pincode;
+    }
+
+    public void setPincode(String pincode) {
+        this.pincode = pincode;
+    }
+
+    public Double getLat() {
+        return lat;
+    }
+
+    public void setLat(Double lat) {
+        this.lat = lat;
+    }
+
+    public Double getLng() {
+        return lng;
+    }
+
+    public void setLng(Double lng) {
+        this.lng = lng;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public void setSource(Source source) {
+        this.source = source;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
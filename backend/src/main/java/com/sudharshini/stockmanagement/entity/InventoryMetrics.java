@@ -0,0 +1,85 @@
+package com.sudharshini.stockmanagement.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Inventory Metrics Entity - One stripe of the running inventory totals.
+ * The headline numbers are the sum over all stripes; each transaction adds its
+ * delta to a single, randomly chosen stripe, so concurrent stock changes do not
+ * queue up on one row. Stock value is kept in minor units (paise) so repeated
+ * additions stay exact on every database.
+ */
+@Entity
+@Table(name = "inventory_metrics")
+public class InventoryMetrics {
+    @Id
+    private Integer stripe;
+
+    @Column(name = "product_count", nullable = false)
+    private Long productCount;
+
+    @Column(name = "total_units", nullable = false)
+    private Long totalUnits;
+
+    @Column(name = "stock_value_minor", nullable = false)
+    private Long stockValueMinor;
+
+    @Column(name = "low_stock_count", nullable = false)
+    private Long lowStockCount;
+
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InventoryMetrics() {
+    }
+
+    // Getters and Setters
+    public Integer getStripe() {
+        return stripe;
+    }
+
+    public void setStripe(Integer stripe) {
+        this.stripe = stripe;
+    }
+
+    public Long getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(Long productCount) {
+        this.productCount = productCount;
+    }
+
+    public Long getTotalUnits() {
+        return totalUnits;
+    }
+
+    public void setTotalUnits(Long totalUnits) {
+        this.totalUnits = totalUnits;
+    }
+
+    public Long getStockValueMinor() {
+        return stockValueMinor;
+    }
+
+    public void setStockValueMinor(Long stockValueMinor) {
+        this.stockValueMinor = stockValueMinor;
+    }
+
+    public Long getLowStockCount() {
+        return lowStockCount;
+    }
+
+    public void setLowStockCount(Long lowStockCount) {
+        this.lowStockCount = lowStockCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
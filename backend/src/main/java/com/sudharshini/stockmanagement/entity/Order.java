@@ -12,7 +12,13 @@ import java.util.List;
  * Order Entity - Stores customer orders
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    // Admin order listing: keyset pagination on (created_at, id) plus its filters
+    @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_orders_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_orders_assigned_to_created_at", columnList = "assigned_to, created_at"),
+    @Index(name = "idx_orders_delivery_pincode_created_at", columnList = "delivery_pincode, created_at")
+})
 public class Order {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
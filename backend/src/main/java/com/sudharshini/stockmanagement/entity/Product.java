@@ -1,16 +1,27 @@
 package com.sudharshini.stockmanagement.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * Product Entity - Stores product information
+ * Cached in the "products" second-level cache region.
  */
 @Entity
-@Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_stock_quantity", columnList = "stock_quantity"),
+    @Index(name = "idx_products_expiry_date", columnList = "expiry_date")
+})
 public class Product {
+    /** Products with fewer units than this are low in stock. */
+    public static final int LOW_STOCK_THRESHOLD = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -23,7 +34,9 @@ public class Product {
     @Column(nullable = false)
     private BigDecimal price;
     
-    @Column(nullable = false)
+    // Changed only by StockService's conditional UPDATEs; never written from the
+    // entity, so saving a product's details cannot overwrite a concurrent sale.
+    @Column(nullable = false, updatable = false)
     private Integer stockQuantity;
     
     private String imageUrl;
@@ -40,6 +53,16 @@ public class Product {
     
     private String sku; // Stock Keeping Unit
     
+    // Review aggregates, maintained by ProductRatingService with single-statement
+    // UPDATEs; never written from the entity, so saving a product cannot overwrite
+    // a concurrent review's increment. NULL (no reviews yet) reads as 0.
+    @Column(name = "rating_sum", insertable = false, updatable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private Long ratingSum;
+    
+    @Column(name = "rating_count", insertable = false, updatable = false)
+    private Long ratingCount;
+    
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -58,7 +81,7 @@ public class Product {
      * Check if product is low in stock (< 10)
      */
     public boolean isLowStock() {
-        return stockQuantity != null && stockQuantity < 10;
+        return stockQuantity != null && stockQuantity < LOW_STOCK_THRESHOLD;
     }
     
     /**
@@ -178,6 +201,22 @@ public class Product {
         this.createdAt = createdAt;
     }
     
+    public Long getRatingSum() {
+        return ratingSum != null ? ratingSum : 0L;
+    }
+    
+    public Long getRatingCount() {
+        return ratingCount != null ? ratingCount : 0L;
+    }
+    
+    /**
+     * Average review rating rounded to one decimal (0.0 without reviews)
+     */
+    public double getAverageRating() {
+        long count = getRatingCount();
+        return count == 0 ? 0.0 : Math.round(getRatingSum() * 10.0 / count) / 10.0;
+    }
+    
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
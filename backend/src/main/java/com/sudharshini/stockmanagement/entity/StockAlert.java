@@ -0,0 +1,93 @@
+package com.sudharshini.stockmanagement.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Stock Alert Entity - When the admin was last alerted about a product's low
+ * stock or near expiry. The scanner skips products alerted within the dedupe
+ * window, and drops the record once the condition clears.
+ */
+@Entity
+@Table(name = "stock_alerts")
+@IdClass(StockAlert.Key.class)
+public class StockAlert {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type", length = 20)
+    private AlertType alertType;
+
+    @Column(name = "last_alerted_at", nullable = false)
+    private LocalDateTime lastAlertedAt;
+
+    public enum AlertType {
+        LOW_STOCK, NEAR_EXPIRY
+    }
+
+    public static class Key implements Serializable {
+        private Long productId;
+        private AlertType alertType;
+
+        public Key() {
+        }
+
+        public Key(Long productId, AlertType alertType) {
+            this.productId = productId;
+            this.alertType = alertType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(productId, key.productId) && alertType == key.alertType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, alertType);
+        }
+    }
+
+    // Constructors
+    public StockAlert() {
+    }
+
+    public StockAlert(Long productId, AlertType alertType, LocalDateTime lastAlertedAt) {
+        this.productId = productId;
+        this.alertType = alertType;
+        this.lastAlertedAt = lastAlertedAt;
+    }
+
+    // Getters and Setters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public AlertType getAlertType() {
+        return alertType;
+    }
+
+    public void setAlertType(AlertType alertType) {
+        this.alertType = alertType;
+    }
+
+    public LocalDateTime getLastAlertedAt() {
+        return lastAlertedAt;
+    }
+
+    public void setLastAlertedAt(LocalDateTime lastAlertedAt) {
+        this.lastAlertedAt = lastAlertedAt;
+    }
+}
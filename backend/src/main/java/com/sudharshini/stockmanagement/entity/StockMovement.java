@@ -7,7 +7,9 @@ import java.time.LocalDateTime;
  * Stock Movement Entity - Tracks all stock IN and OUT transactions
  */
 @Entity
-@Table(name = "stock_movements")
+@Table(name = "stock_movements", indexes = {
+    @Index(name = "idx_stock_movements_product_created", columnList = "product_id, created_at")
+})
 public class StockMovement {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,96 @@
+package com.sudharshini.stockmanagement.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Stock Snapshot Entity - A product's stock quantity at a point in time.
+ * Stock at any other time is the nearest snapshot plus or minus the stock
+ * movements between the two, so the ledger is never replayed from the start.
+ */
+@Entity
+@Table(name = "stock_snapshots")
+@IdClass(StockSnapshot.Key.class)
+public class StockSnapshot {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "snapshot_at")
+    private LocalDateTime snapshotAt;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // Highest stock movement id included in quantity. Movements are ordered by
+    // id, not by their timestamps, when applied to a snapshot. NULL on snapshots
+    // taken before the column existed, which fall back to timestamps.
+    @Column(name = "last_movement_id")
+    private Long lastMovementId;
+
+    public static class Key implements Serializable {
+        private Long productId;
+        private LocalDateTime snapshotAt;
+
+        public Key() {
+        }
+
+        public Key(Long productId, LocalDateTime snapshotAt) {
+            this.productId = productId;
+            this.snapshotAt = snapshotAt;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(productId, key.productId) && Objects.equals(snapshotAt, key.snapshotAt);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, snapshotAt);
+        }
+    }
+
+    // Constructors
+    public StockSnapshot() {
+    }
+
+    // Getters and Setters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public LocalDateTime getSnapshotAt() {
+        return snapshotAt;
+    }
+
+    public void setSnapshotAt(LocalDateTime snapshotAt) {
+        this.snapshotAt = snapshotAt;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getLastMovementId() {
+        return lastMovementId;
+    }
+
+    public void setLastMovementId(Long lastMovementId) {
+        this.lastMovementId = lastMovementId;
+    }
+}
@@ -1,13 +1,18 @@
 package com.sudharshini.stockmanagement.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Supplier Entity - Stores supplier information
+ * Cached in the "suppliers" second-level cache region.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "suppliers")
 @Table(name = "suppliers")
 public class Supplier {
     @Id
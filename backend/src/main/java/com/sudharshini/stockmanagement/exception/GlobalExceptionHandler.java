@@ -59,6 +59,16 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<Map<String, Object>> handleInsufficientStock(
+            InsufficientStockException ex, WebRequest request) {
+        return buildErrorResponse(
+            HttpStatus.CONFLICT,
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(
             RuntimeException ex, WebRequest request) {
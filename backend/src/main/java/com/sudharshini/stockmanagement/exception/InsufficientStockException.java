@@ -0,0 +1,26 @@
+package com.sudharshini.stockmanagement.exception;
+
+/**
+ * Thrown when a conditional stock decrement finds fewer units than requested
+ * (or no such product). Callers inside a transaction should let it propagate
+ * so that earlier decrements for the same order are rolled back.
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long productId;
+    private final int requestedQuantity;
+
+    public InsufficientStockException(Long productId, int requestedQuantity, String message) {
+        super(message);
+        this.productId = productId;
+        this.requestedQuantity = requestedQuantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getRequestedQuantity() {
+        return requestedQuantity;
+    }
+}
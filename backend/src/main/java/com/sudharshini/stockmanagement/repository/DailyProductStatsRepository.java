@@ -0,0 +1,32 @@
+package com.sudharshini.stockmanagement.repository;
+
+import com.sudharshini.stockmanagement.entity.DailyProductStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyProductStatsRepository extends JpaRepository<DailyProductStats, DailyProductStats.Key> {
+    List<DailyProductStats> findByProductIdAndDayBetweenOrderByDay(Long productId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM DailyProductStats s WHERE s.day BETWEEN :from AND :to")
+    int deleteByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Best sellers over a date range: [productId, unitsSold, revenueMinor, orderCount]
+    @Query("SELECT s.productId, SUM(s.unitsSold), SUM(s.revenueMinor), SUM(s.orderCount) FROM DailyProductStats s " +
+           "WHERE s.day BETWEEN :from AND :to GROUP BY s.productId HAVING SUM(s.unitsSold) > 0 " +
+           "ORDER BY SUM(s.unitsSold) DESC, s.productId")
+    List<Object[]> findTopByUnitsSold(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Query("SELECT s.productId, SUM(s.unitsSold), SUM(s.revenueMinor), SUM(s.orderCount) FROM DailyProductStats s " +
+           "WHERE s.day BETWEEN :from AND :to GROUP BY s.productId HAVING SUM(s.unitsSold) > 0 " +
+           "ORDER BY SUM(s.revenueMinor) DESC, s.productId")
+    List<Object[]> findTopByRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.sudharshini.stockmanagement.repository;
+
+import com.sudharshini.stockmanagement.entity.GeocodedPincode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeocodedPincodeRepository extends JpaRepository<GeocodedPincode, String> {
+}
@@ -0,0 +1,47 @@
+package com.sudharshini.stockmanagement.repository;
+
+import com.sudharshini.stockmanagement.entity.InventoryMetrics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventoryMetricsRepository extends JpaRepository<InventoryMetrics, Integer> {
+
+    // Totals across all stripes: [productCount, totalUnits, stockValueMinor, lowStockCount]
+    @Query("SELECT COALESCE(SUM(m.productCount), 0), COALESCE(SUM(m.totalUnits), 0), " +
+           "COALESCE(SUM(m.stockValueMinor), 0), COALESCE(SUM(m.lowStockCount), 0) FROM InventoryMetrics m")
+    List<Object[]> sumStripes();
+
+    @Modifying
+    @Query("UPDATE InventoryMetrics m SET m.productCount = m.productCount + :products, " +
+           "m.totalUnits = m.totalUnits + :units, m.stockValueMinor = m.stockValueMinor + :valueMinor, " +
+           "m.lowStockCount = m.lowStockCount + :lowStock, m.updatedAt = :now WHERE m.stripe = :stripe")
+    int addDelta(@Param("stripe") int stripe,
+                 @Param("products") long products,
+                 @Param("units") long units,
+                 @Param("valueMinor") long valueMinor,
+                 @Param("lowStock") long lowStock,
+                 @Param("now") LocalDateTime now);
+
+    // Overwrite one stripe; used by the rebuild, which zeroes the others
+    @Modifying
+    @Query("UPDATE InventoryMetrics m SET m.productCount = :products, m.totalUnits = :units, " +
+           "m.stockValueMinor = :valueMinor, m.lowStockCount = :lowStock, m.updatedAt = :now WHERE m.stripe = :stripe")
+    int setStripe(@Param("stripe") int stripe,
+                  @Param("products") long products,
+                  @Param("units") long units,
+                  @Param("valueMinor") long valueMinor,
+                  @Param("lowStock") long lowStock,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE InventoryMetrics m SET m.productCount = 0, m.totalUnits = 0, m.stockValueMinor = 0, " +
+           "m.lowStockCount = 0, m.updatedAt = :now")
+    int resetAll(@Param("now") LocalDateTime now);
+}
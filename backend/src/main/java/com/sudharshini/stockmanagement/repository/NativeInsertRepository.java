@@ -0,0 +1,228 @@
+package com.sudharshini.stockmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Cache;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native Insert Repository
+ * Native SQL inserts for tables whose IDs are generated by the database
+ * (SQLite cannot hand back generated keys to Hibernate).
+ * - insertRows: multi-row INSERT ... VALUES (...), (...). One statement carries
+ *   as many rows as the database's bind-parameter limit allows, so N rows cost
+ *   one round trip on both SQLite and PostgreSQL instead of N.
+ * - insertReturning: inserts one row and returns it as an entity.
+ * - upsertAdding: inserts rows, adding their values to the row already stored
+ *   under the same key (counters and rollups).
+ * Every statement declares the table it writes as its query space, so Hibernate
+ * invalidates only that table's cached data instead of the whole second-level
+ * cache (its default for native statements). Inserts read back with RETURNING
+ * evict the cached query results instead (see evictCachedQueries).
+ */
+@Repository
+public class NativeInsertRepository {
+
+    // SQLite builds before 3.32 cap bind parameters at 999; stay under it.
+    private static final int SQLITE_MAX_PARAMETERS = 999;
+    // The PostgreSQL wire protocol carries the parameter count in 16 bits.
+    private static final int POSTGRES_MAX_PARAMETERS = 32767;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+    private volatile Boolean returningSupported;
+
+    /**
+     * Insert rows into table. Each row holds one value per column, in column order.
+     * Returns the number of rows inserted.
+     */
+    public int insertRows(String table, List<String> columns, List<Object[]> rows) {
+        return insertRows(table, columns, rows, "");
+    }
+
+    /**
+     * Like insertRows, but rows whose conflictColumn value already exists are
+     * skipped (ON CONFLICT DO NOTHING, supported by SQLite 3.24+ and PostgreSQL).
+     * Returns the number of rows actually inserted.
+     */
+    public int insertRowsIgnoringDuplicates(String table, List<String> columns, List<Object[]> rows, String conflictColumn) {
+        return insertRows(table, columns, rows, " ON CONFLICT (" + conflictColumn + ") DO NOTHING");
+    }
+
+    /**
+     * Insert rows keyed by keyColumns; where a row with the same key exists, every
+     * other column is incremented by the new value instead
+     * (INSERT ... ON CONFLICT (key) DO UPDATE SET c = c + excluded.c, SQLite 3.24+
+     * and PostgreSQL). Keys must be unique within rows: PostgreSQL rejects a
+     * statement that updates the same row twice.
+     */
+    public int upsertAdding(String table, List<String> columns, List<Object[]> rows, List<String> keyColumns) {
+        StringBuilder suffix = new StringBuilder(" ON CONFLICT (").append(String.join(", ", keyColumns)).append(") DO UPDATE SET ");
+        boolean first = true;
+        for (String column : columns) {
+            if (keyColumns.contains(column)) {
+                continue;
+            }
+            if (!first) {
+                suffix.append(", ");
+            }
+            suffix.append(column).append(" = ").append(table).append('.').append(column)
+                    .append(" + excluded.").append(column);
+            first = false;
+        }
+        return insertRows(table, columns, rows, suffix.toString());
+    }
+
+    private int insertRows(String table, List<String> columns, List<Object[]> rows, String suffix) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int rowsPerStatement = Math.max(1, maxParameters() / columns.size());
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        String insertPrefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+
+        int inserted = 0;
+        for (int start = 0; start < rows.size(); start += rowsPerStatement) {
+            List<Object[]> chunk = rows.subList(start, Math.min(rows.size(), start + rowsPerStatement));
+
+            StringBuilder sql = new StringBuilder(insertPrefix);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(rowPlaceholders);
+            }
+            sql.append(suffix);
+
+            Query query = writing(entityManager.createNativeQuery(sql.toString()), table);
+            int position = 1;
+            for (Object[] row : chunk) {
+                if (row.length != columns.size()) {
+                    throw new IllegalArgumentException("Expected " + columns.size() + " values for " + table + ", got " + row.length);
+                }
+                for (Object value : row) {
+                    query.setParameter(position++, value);
+                }
+            }
+            inserted += query.executeUpdate();
+        }
+        return inserted;
+    }
+
+    /**
+     * Insert one row (column name -> value, in insertion order) and return it as a
+     * managed entity of entityClass, including the generated ID and any column
+     * defaults. PostgreSQL and SQLite 3.35+ use INSERT ... RETURNING *, a single
+     * round trip; older SQLite builds fall back to last_insert_rowid() and a
+     * lookup by ID.
+     */
+    public <T> T insertReturning(Class<T> entityClass, String table, Map<String, Object> values) {
+        List<String> columns = new ArrayList<>(values.keySet());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" +
+                String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        if (supportsReturning()) {
+            Query query = writing(entityManager.createNativeQuery(sql + " RETURNING *", entityClass), table);
+            bind(query, values);
+            T entity = entityClass.cast(query.getSingleResult());
+            evictCachedQueries();
+            return entity;
+        }
+
+        Query query = writing(entityManager.createNativeQuery(sql), table);
+        bind(query, values);
+        query.executeUpdate();
+        Long id = ((Number) entityManager.createNativeQuery("SELECT last_insert_rowid()").getSingleResult()).longValue();
+        T entity = entityManager.find(entityClass, id);
+        if (entity == null) {
+            throw new IllegalStateException("Inserted row " + id + " not found in " + table);
+        }
+        return entity;
+    }
+
+    private static Query writing(Query query, String table) {
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(table);
+        return query;
+    }
+
+    private void bind(Query query, Map<String, Object> values) {
+        int position = 1;
+        for (Object value : values.values()) {
+            query.setParameter(position++, value);
+        }
+    }
+
+    /**
+     * Hibernate invalidates cached data for a native statement's query spaces
+     * only when it runs through executeUpdate, which a statement read back with
+     * RETURNING does not. A new row cannot make a cached entity stale, only a
+     * cached query result, and the public Cache API evicts those by region, not
+     * by table: so every query region is emptied, now and again when the
+     * transaction completes (a result cached in the meantime would miss the row).
+     */
+    private void evictCachedQueries() {
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        cache.evictQueryRegions();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evictQueryRegions();
+                }
+            });
+        }
+    }
+
+    /**
+     * True when INSERT/UPDATE ... RETURNING is available: PostgreSQL, SQLite 3.35+.
+     */
+    public boolean supportsReturning() {
+        Boolean result = returningSupported;
+        if (result == null) {
+            if (isPostgres()) {
+                result = true;
+            } else {
+                // RETURNING arrived in SQLite 3.35.0
+                String version = entityManager.createNativeQuery("SELECT sqlite_version()").getSingleResult().toString();
+                String[] parts = version.split("\\.");
+                int major = Integer.parseInt(parts[0]);
+                int minor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+                result = major > 3 || (major == 3 && minor >= 35);
+            }
+            returningSupported = result;
+        }
+        return result;
+    }
+
+    /**
+     * True when running against the PostgreSQL (production) profile.
+     */
+    public boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+
+    private int maxParameters() {
+        return isPostgres() ? POSTGRES_MAX_PARAMETERS : SQLITE_MAX_PARAMETERS;
+    }
+}
@@ -1,16 +1,33 @@
 package com.sudharshini.stockmanagement.repository;
 
+import com.sudharshini.stockmanagement.dto.OrderItemRow;
+import com.sudharshini.stockmanagement.dto.OrderRow;
 import com.sudharshini.stockmanagement.entity.Order;
 import com.sudharshini.stockmanagement.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+    
+    // Column list for OrderRow list projections (see OrderQueryService)
+    String ORDER_ROW_SELECT = "SELECT new com.sudharshini.stockmanagement.dto.OrderRow(" +
+           "o.id, o.orderNumber, o.totalAmount, o.status, o.paymentMode, " +
+           "o.deliveryName, o.deliveryEmail, o.deliveryMobile, o.deliveryAddress, o.deliveryPincode, " +
+           "o.estimatedDeliveryStart, o.estimatedDeliveryEnd, o.trackingId, o.courierName, " +
+           "o.pickupLocation, o.deliveryLocation, o.currentLocation, " +
+           "o.acceptedAt, o.pickedUpAt, o.outForDeliveryAt, o.deliveredAt, o.cancellationReason, " +
+           "o.createdAt, o.updatedAt, " +
+           "c.id, c.name, c.email, c.mobile, a.id, a.name, a.email) " +
+           "FROM Order o LEFT JOIN o.customer c LEFT JOIN o.assignedTo a ";
+    
     List<Order> findByCustomerOrderByCreatedAtDesc(User customer);
     Optional<Order> findByOrderNumber(String orderNumber);
     Optional<Order> findByTrackingId(String trackingId);
@@ -21,13 +38,38 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByStatus(Order.OrderStatus status);
     List<Order> findByAssignedToAndStatus(User deliveryMan, Order.OrderStatus status);
     
-    // Custom query to handle missing products gracefully using LEFT JOIN
+    // One page of the admin listing, loaded by ID with everything it serializes
     @Query("SELECT DISTINCT o FROM Order o " +
            "LEFT JOIN FETCH o.items i " +
            "LEFT JOIN FETCH i.product " +
            "LEFT JOIN FETCH o.customer " +
            "LEFT JOIN FETCH o.assignedTo " +
-           "ORDER BY o.createdAt DESC")
-    List<Order> findAllWithProducts();
+           "WHERE o.id IN :ids")
+    List<Order> findAllWithProductsByIdIn(@Param("ids") List<Long> ids);
+    
+    // List view projections: one query for the orders, one for all of their items.
+    // Admin and customer lists are newest first; delivery lists oldest first.
+    @Query(ORDER_ROW_SELECT + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderRow> findAllRows();
+    
+    @Query(ORDER_ROW_SELECT + "WHERE c.id = :customerId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderRow> findRowsByCustomerId(@Param("customerId") Long customerId);
+    
+    @Query(ORDER_ROW_SELECT + "WHERE a.id = :assignedToId ORDER BY o.createdAt, o.id")
+    List<OrderRow> findRowsByAssignedToId(@Param("assignedToId") Long assignedToId);
+    
+    @Query(ORDER_ROW_SELECT + "WHERE a.id IS NULL AND o.status IN :statuses ORDER BY o.createdAt, o.id")
+    List<OrderRow> findUnassignedRowsByStatusIn(@Param("statuses") List<Order.OrderStatus> statuses);
+    
+    @Query("SELECT new com.sudharshini.stockmanagement.dto.OrderItemRow(" +
+           "i.order.id, i.id, i.quantity, i.unitPrice, i.totalPrice, " +
+           "p.id, p.name, p.description, p.price, p.imageUrl, p.category, p.sku) " +
+           "FROM OrderItem i LEFT JOIN i.product p WHERE i.order.id IN :orderIds ORDER BY i.id")
+    List<OrderItemRow> findItemRowsByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE Order o SET o.deliveryLocation = :deliveryLocation WHERE o.id = :id")
+    int updateDeliveryLocation(@Param("id") Long id, @Param("deliveryLocation") String deliveryLocation);
 }
 
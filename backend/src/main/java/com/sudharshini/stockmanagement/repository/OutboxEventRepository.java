@@ -0,0 +1,54 @@
+package com.sudharshini.stockmanagement.repository;
+
+import com.sudharshini.stockmanagement.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Events ready for delivery: pending ones whose retry time has come, and
+    // processing ones whose lease expired (dispatcher died mid-delivery)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status IN :statuses AND e.eventType IN :types " +
+           "AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt, e.id")
+    List<OutboxEvent> findDue(@Param("statuses") List<OutboxEvent.Status> statuses,
+                              @Param("types") Collection<OutboxEvent.EventType> types,
+                              @Param("now") LocalDateTime now,
+                              Pageable pageable);
+
+    // Claiming is a conditional UPDATE so only one dispatcher wins a given event;
+    // the winner holds it until leaseUntil.
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.status = :processing, e.attempts = e.attempts + 1, e.nextAttemptAt = :leaseUntil " +
+           "WHERE e.id = :id AND e.status IN :claimable AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("claimable") List<OutboxEvent.Status> claimable,
+              @Param("processing") OutboxEvent.Status processing,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError, " +
+           "e.processedAt = :processedAt WHERE e.id = :id")
+    int updateOutcome(@Param("id") Long id,
+                      @Param("status") OutboxEvent.Status status,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxEvent.Status status, @Param("before") LocalDateTime before);
+}
@@ -1,15 +1,30 @@
 package com.sudharshini.stockmanagement.repository;
 
 import com.sudharshini.stockmanagement.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    /** Products whose expiry date falls within this many days count as near expiry. */
+    int NEAR_EXPIRY_DAYS = 15;
+
     List<Product> findByStockQuantityLessThan(Integer quantity);
+
+    Page<Product> findByStockQuantityLessThan(Integer quantity, Pageable pageable);
+
+    Page<Product> findByExpiryDateBetween(LocalDate start, LocalDate end, Pageable pageable);
+
+    long countByExpiryDateBetween(LocalDate start, LocalDate end);
     
     // Derived query so Hibernate emits SQL for whichever dialect is active.
     // The previous native query used SQLite's date('now', '+15 days'), which
@@ -20,7 +35,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     /** Products expiring within the next 15 days (inclusive of today). */
     default List<Product> findNearExpiryProducts() {
         LocalDate today = LocalDate.now();
-        return findByExpiryDateBetween(today, today.plusDays(15));
+        return findByExpiryDateBetween(today, today.plusDays(NEAR_EXPIRY_DAYS));
     }
+
+    // Current stock straight from the row, not from an entity loaded earlier
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockQuantity(@Param("id") Long id);
 }
 
@@ -2,8 +2,6 @@ package com.sudharshini.stockmanagement.repository;
 
 import com.sudharshini.stockmanagement.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,10 +14,4 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByUser_IdOrderByCreatedAtDesc(Long userId);
     
     Optional<Review> findByProduct_IdAndUser_Id(Long productId, Long userId);
-    
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.product.id = :productId")
-    Double getAverageRatingByProductId(@Param("productId") Long productId);
-    
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.product.id = :productId")
-    Long getReviewCountByProductId(@Param("productId") Long productId);
 }
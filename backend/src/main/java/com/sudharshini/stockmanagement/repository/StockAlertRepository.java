@@ -0,0 +1,32 @@
+package com.sudharshini.stockmanagement.repository;
+
+import com.sudharshini.stockmanagement.entity.StockAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockAlertRepository extends JpaRepository<StockAlert, StockAlert.Key> {
+    // Products already alerted for this condition since the given time
+    @Query("SELECT a.productId FROM StockAlert a WHERE a.alertType = :type AND a.lastAlertedAt > :since")
+    List<Long> findRecentlyAlerted(@Param("type") StockAlert.AlertType type, @Param("since") LocalDateTime since);
+
+    // Low-stock records of products that have since been restocked (or deleted)
+    @Modifying
+    @Query("DELETE FROM StockAlert a WHERE a.alertType = :type AND a.productId NOT IN " +
+           "(SELECT p.id FROM Product p WHERE p.stockQuantity < :threshold)")
+    int deleteRecoveredLowStock(@Param("type") StockAlert.AlertType type, @Param("threshold") int threshold);
+
+    // Near-expiry records of products no longer expiring in the window (expired, re-dated or deleted)
+    @Modifying
+    @Query("DELETE FROM StockAlert a WHERE a.alertType = :type AND a.productId NOT IN " +
+           "(SELECT p.id FROM Product p WHERE p.expiryDate BETWEEN :start AND :end)")
+    int deleteClearedExpiry(@Param("type") StockAlert.AlertType type,
+                            @Param("start") LocalDate start, @Param("end") LocalDate end);
+}
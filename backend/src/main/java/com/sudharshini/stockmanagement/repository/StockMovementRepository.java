@@ -1,13 +1,47 @@
 package com.sudharshini.stockmanagement.repository;
 
 import com.sudharshini.stockmanagement.entity.StockMovement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
-    List<StockMovement> findByProductIdOrderByCreatedAtDesc(Long productId);
-}
+    // One page of a product's movements in [from, to); order comes from the Pageable
+    @Query(value = "SELECT m FROM StockMovement m WHERE m.product.id = :productId " +
+                   "AND m.createdAt >= :from AND m.createdAt < :to",
+           countQuery = "SELECT COUNT(m) FROM StockMovement m WHERE m.product.id = :productId " +
+                        "AND m.createdAt >= :from AND m.createdAt < :to")
+    Page<StockMovement> findHistory(@Param("productId") Long productId, @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to, Pageable pageable);
+
+    // Net stock change (IN minus OUT) and movement count in (after, until]: [netChange, movements]
+    @Query("SELECT COALESCE(SUM(CASE WHEN m.type = :in THEN m.quantity ELSE -m.quantity END), 0), COUNT(m) " +
+           "FROM StockMovement m WHERE m.product.id = :productId AND m.createdAt > :after AND m.createdAt <= :until")
+    List<Object[]> netChangeBetween(@Param("productId") Long productId, @Param("after") LocalDateTime after,
+                              @Param("until") LocalDateTime until, @Param("in") StockMovement.MovementType in);
+
+    // Same, for every movement after the given time: [netChange, movements]
+    @Query("SELECT COALESCE(SUM(CASE WHEN m.type = :in THEN m.quantity ELSE -m.quantity END), 0), COUNT(m) " +
+           "FROM StockMovement m WHERE m.product.id = :productId AND m.createdAt > :after")
+    List<Object[]> netChangeAfter(@Param("productId") Long productId, @Param("after") LocalDateTime after,
+                            @Param("in") StockMovement.MovementType in);
 
+    // Movements not yet in a snapshot (id above its last movement id) stamped at or before until
+    @Query("SELECT COALESCE(SUM(CASE WHEN m.type = :in THEN m.quantity ELSE -m.quantity END), 0), COUNT(m) " +
+           "FROM StockMovement m WHERE m.product.id = :productId AND m.id > :afterId AND m.createdAt <= :until")
+    List<Object[]> netChangeSince(@Param("productId") Long productId, @Param("afterId") Long afterId,
+                                  @Param("until") LocalDateTime until, @Param("in") StockMovement.MovementType in);
+
+    // Movements included in a snapshot (id up to its last movement id) stamped after the given time
+    @Query("SELECT COALESCE(SUM(CASE WHEN m.type = :in THEN m.quantity ELSE -m.quantity END), 0), COUNT(m) " +
+           "FROM StockMovement m WHERE m.product.id = :productId AND m.id <= :throughId AND m.createdAt > :after")
+    List<Object[]> netChangeThrough(@Param("productId") Long productId, @Param("throughId") Long throughId,
+                                    @Param("after") LocalDateTime after, @Param("in") StockMovement.MovementType in);
+}
@@ -0,0 +1,24 @@
+package com.sudharshini.stockmanagement.repository;
+
+import com.sudharshini.stockmanagement.entity.StockSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, StockSnapshot.Key> {
+    // Latest snapshot taken at or before the given time
+    Optional<StockSnapshot> findFirstByProductIdAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(Long productId, LocalDateTime at);
+
+    // Earliest snapshot taken after the given time
+    Optional<StockSnapshot> findFirstByProductIdAndSnapshotAtGreaterThanOrderBySnapshotAtAsc(Long productId, LocalDateTime at);
+
+    @Modifying
+    @Query("DELETE FROM StockSnapshot s WHERE s.snapshotAt < :before")
+    int deleteBySnapshotAtBefore(@Param("before") LocalDateTime before);
+}
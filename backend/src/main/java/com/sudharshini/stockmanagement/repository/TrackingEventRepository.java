@@ -1,7 +1,10 @@
 package com.sudharshini.stockmanagement.repository;
 
+import com.sudharshini.stockmanagement.dto.TrackingEventRow;
 import com.sudharshini.stockmanagement.entity.TrackingEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,5 +12,10 @@ import java.util.List;
 @Repository
 public interface TrackingEventRepository extends JpaRepository<TrackingEvent, Long> {
     List<TrackingEvent> findByOrderIdOrderBySequenceAsc(Long orderId);
+    
+    @Query("SELECT new com.sudharshini.stockmanagement.dto.TrackingEventRow(" +
+           "e.order.id, e.id, e.eventType, e.description, e.location, e.eventTime, e.sequence) " +
+           "FROM TrackingEvent e WHERE e.order.id IN :orderIds ORDER BY e.sequence, e.id")
+    List<TrackingEventRow> findRowsByOrderIdIn(@Param("orderIds") List<Long> orderIds);
 }
 
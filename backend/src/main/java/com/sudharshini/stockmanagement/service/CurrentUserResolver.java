@@ -0,0 +1,89 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.config.AuthenticatedUser;
+import com.sudharshini.stockmanagement.entity.User;
+import com.sudharshini.stockmanagement.repository.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Optional;
+
+/**
+ * Current User Resolver
+ * The authenticated user of the current request. The ID and role come from the
+ * token (AuthenticatedUser principal), so ownership and role checks need no
+ * query; user() loads the User entity only when a handler needs its other
+ * fields, at most once per request. Tokens issued before the user ID was in
+ * the token fall back to looking the subject up by email, username, then
+ * Google ID, each only if the previous one found nothing.
+ */
+@Component
+@RequestScope
+public class CurrentUserResolver {
+
+    private final UserRepository userRepository;
+    private Optional<User> user;
+
+    public CurrentUserResolver(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * The token's principal, or empty for anonymous requests.
+     */
+    public Optional<AuthenticatedUser> principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+
+    public boolean isAuthenticated() {
+        return principal().isPresent();
+    }
+
+    /**
+     * Whether the token carries the given role. No database access.
+     */
+    public boolean hasRole(User.UserRole role) {
+        return principal().map(principal -> role.name().equals(principal.role())).orElse(false);
+    }
+
+    /**
+     * The current user's ID: from the token, or loaded for older tokens without one.
+     */
+    public Optional<Long> id() {
+        Optional<AuthenticatedUser> principal = principal();
+        if (principal.isEmpty()) {
+            return Optional.empty();
+        }
+        if (principal.get().id() != null) {
+            return Optional.of(principal.get().id());
+        }
+        return user().map(User::getId);
+    }
+
+    /**
+     * The current user's entity, loaded on first use (by ID, normally served
+     * from the second-level cache) and kept for the rest of the request.
+     */
+    public Optional<User> user() {
+        if (user == null) {
+            user = principal().flatMap(this::load);
+        }
+        return user;
+    }
+
+    private Optional<User> load(AuthenticatedUser principal) {
+        if (principal.id() != null) {
+            return userRepository.findById(principal.id());
+        }
+        String identifier = principal.username();
+        return userRepository.findByEmail(identifier)
+                .or(() -> userRepository.findByUsername(identifier))
+                .or(() -> userRepository.findByGoogleId(identifier));
+    }
+}
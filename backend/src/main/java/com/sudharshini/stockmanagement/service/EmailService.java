@@ -2,18 +2,21 @@ package com.sudharshini.stockmanagement.service;
 
 import com.sudharshini.stockmanagement.entity.Order;
 import com.sudharshini.stockmanagement.entity.Product;
-import com.sendgrid.Method;
-import com.sendgrid.Request;
-import com.sendgrid.Response;
-import com.sendgrid.SendGrid;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
 
 /**
  * Email Service
@@ -21,6 +24,8 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class EmailService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailService.class);
     
     @org.springframework.beans.factory.annotation.Autowired(required = false)
     private JavaMailSender mailSender;
@@ -35,14 +40,16 @@ public class EmailService {
     @Value("${MAIL_FROM:${MAIL_USERNAME:}}")
     private String mailFrom;
     
-    public EmailService() {
-        // default constructor
+    private final WebClient sendGridWebClient;
+    
+    public EmailService(@Qualifier("sendGridWebClient") WebClient sendGridWebClient) {
+        this.sendGridWebClient = sendGridWebClient;
     }
     
     /**
      * Send order confirmation email to customer
+     * Delivered by the OutboxDispatcher; failures propagate so the event is retried.
      */
-    @Async
     public void sendOrderConfirmation(Order order) {
         sendEmail(order.getDeliveryEmail(),
                 "Order Confirmation - " + order.getOrderNumber(),
@@ -52,38 +59,23 @@ public class EmailService {
     /**
      * Send order status update email to customer
      * Sends email for all order status changes (ACCEPTED, PICKED_UP, OUT_FOR_DELIVERY, DELIVERED)
+     * Delivered by the OutboxDispatcher; failures propagate so the event is retried.
      */
-    @Async
     public void sendOrderStatusUpdate(Order order) {
-        try {
-            sendEmail(order.getDeliveryEmail(),
-                    "Order Status Update - " + order.getOrderNumber(),
-                    buildOrderStatusUpdateBody(order));
-            System.out.println("✅ Email status update queued for Order #" + order.getOrderNumber() + " - Status: " + order.getStatus());
-        } catch (Exception e) {
-            System.err.println("❌ Failed to send email status update: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    /**
-     * Send low stock alert to admin
-     */
-    @Async
-    public void sendLowStockAlert(Product product) {
-        sendEmail(adminEmail,
-                "Low Stock Alert – " + product.getName(),
-                buildLowStockBody(product));
+        sendEmail(order.getDeliveryEmail(),
+                "Order Status Update - " + order.getOrderNumber(),
+                buildOrderStatusUpdateBody(order));
+        log.info("✅ Email status update sent for Order #{} - Status: {}", order.getOrderNumber(), order.getStatus());
     }
     
     /**
-     * Send near expiry alert to admin
+     * Send the low stock / near expiry digest to admin
+     * Called by the StockAlertScanner; failures propagate so the next scan retries.
      */
-    @Async
-    public void sendExpiryAlert(Product product) {
+    public void sendStockAlertDigest(List<Product> lowStock, List<Product> nearExpiry) {
         sendEmail(adminEmail,
-                "Product Expiring Soon – " + product.getName(),
-                buildExpiryBody(product));
+                "Stock Alerts – " + lowStock.size() + " low stock, " + nearExpiry.size() + " expiring soon",
+                buildStockAlertDigestBody(lowStock, nearExpiry));
     }
     
     private String buildOrderConfirmationBody(Order order) {
@@ -109,20 +101,21 @@ public class EmailService {
         return body.toString();
     }
     
-    private String buildLowStockBody(Product product) {
-        return "Low Stock Alert\n\n" +
-               "Product: " + product.getName() + "\n" +
-               "Current Stock: " + product.getStockQuantity() + "\n" +
-               "SKU: " + product.getSku() + "\n\n" +
-               "Please restock this product soon.";
-    }
-    
-    private String buildExpiryBody(Product product) {
-        return "Product Expiring Soon\n\n" +
-               "Product: " + product.getName() + "\n" +
-               "Expiry Date: " + product.getExpiryDate() + "\n" +
-               "Current Stock: " + product.getStockQuantity() + "\n\n" +
-               "Please take necessary action.";
+    private String buildStockAlertDigestBody(List<Product> lowStock, List<Product> nearExpiry) {
+        StringBuilder body = new StringBuilder("Stock Alerts\n");
+        if (!lowStock.isEmpty()) {
+            body.append("\nLow Stock (please restock soon):\n");
+            lowStock.forEach(product -> body.append("- ").append(product.getName())
+                    .append(" (SKU: ").append(product.getSku()).append(")")
+                    .append(" – Current Stock: ").append(product.getStockQuantity()).append("\n"));
+        }
+        if (!nearExpiry.isEmpty()) {
+            body.append("\nExpiring Soon (please take necessary action):\n");
+            nearExpiry.forEach(product -> body.append("- ").append(product.getName())
+                    .append(" – Expiry Date: ").append(product.getExpiryDate())
+                    .append(", Current Stock: ").append(product.getStockQuantity()).append("\n"));
+        }
+        return body.toString();
     }
     
     /**
@@ -134,8 +127,7 @@ public class EmailService {
                     "Your OTP for Sudharshini Stock Management",
                     buildOtpBody(otpCode));
         } catch (Exception e) {
-            System.err.println("Failed to send OTP email: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to send OTP email: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to send OTP email: " + e.getMessage(), e);
         }
     }
@@ -172,20 +164,23 @@ public class EmailService {
             Content content = new Content("text/plain", body);
             Mail mail = new Mail(fromEmail, subject, toEmail, content);
 
-            SendGrid sg = new SendGrid(sendGridApiKey);
-            Request request = new Request();
-            request.setMethod(Method.POST);
-            request.setEndpoint("mail/send");
-            request.setBody(mail.build());
-            Response response = sg.api(request);
+            // Pooled client shared with the other integrations; error statuses are
+            // logged like before rather than thrown
+            ResponseEntity<String> response = sendGridWebClient.post()
+                    .uri("/v3/mail/send")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(headers -> headers.setBearerAuth(sendGridApiKey))
+                    .bodyValue(mail.build())
+                    .exchangeToMono(clientResponse -> clientResponse.toEntity(String.class))
+                    .block();
 
-            if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
-                System.out.println("📧 SendGrid: Email sent successfully (" + response.getStatusCode() + ")");
-            } else {
-                System.err.println("⚠️ SendGrid: Failed to send email (" + response.getStatusCode() + ") - " + response.getBody());
+            if (response != null && response.getStatusCode().is2xxSuccessful()) {
+                log.debug("📧 SendGrid: Email sent successfully ({})", response.getStatusCode().value());
+            } else if (response != null) {
+                log.warn("⚠️ SendGrid: Failed to send email ({}) - {}", response.getStatusCode().value(), response.getBody());
             }
         } catch (Exception ex) {
-            System.err.println("❌ SendGrid error: " + ex.getMessage());
+            log.warn("❌ SendGrid error: {}", ex.toString());
             throw new RuntimeException("SendGrid email send failed", ex);
         }
     }
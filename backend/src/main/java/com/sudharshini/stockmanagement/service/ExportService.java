@@ -0,0 +1,285 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sudharshini.stockmanagement.entity.Order;
+import com.sudharshini.stockmanagement.entity.StockMovement;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Export Service
+ * Streams orders (with their items) and stock movements straight from a
+ * forward-only result set to the response as NDJSON or CSV. Rows are scalar
+ * projections read with a JDBC fetch size and written as they arrive, so
+ * memory use does not depend on how many rows are exported.
+ */
+@Service
+public class ExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final List<String> ORDER_CSV_HEADER = List.of(
+            "orderId", "orderNumber", "createdAt", "status", "paymentMode", "totalAmount", "customerEmail",
+            "deliveryName", "deliveryMobile", "deliveryAddress", "deliveryPincode", "assignedTo", "deliveredAt",
+            "cancellationReason", "itemId", "productId", "productName", "sku", "quantity", "unitPrice", "totalPrice");
+
+    private static final List<String> STOCK_MOVEMENT_CSV_HEADER = List.of(
+            "id", "createdAt", "productId", "productName", "sku", "type", "quantity", "reason", "notes");
+
+    // Flush to the client every this many rows
+    private static final int FLUSH_EVERY = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter lineWriter;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    public ExportService(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.lineWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Write orders created between from and to (inclusive, both optional), oldest
+     * first. NDJSON: one order per line with an items array. CSV: one line per
+     * item, order columns repeated (orders without items get one line).
+     * Returns the number of orders written.
+     */
+    public long exportOrders(OutputStream out, Format format, LocalDate from, LocalDate to, Order.OrderStatus status) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT o.id, o.orderNumber, o.createdAt, o.status, o.paymentMode, o.totalAmount, c.email, " +
+                "o.deliveryName, o.deliveryMobile, o.deliveryAddress, o.deliveryPincode, a.name, o.deliveredAt, " +
+                "o.cancellationReason, i.id, p.id, p.name, p.sku, i.quantity, i.unitPrice, i.totalPrice " +
+                "FROM Order o LEFT JOIN o.customer c LEFT JOIN o.assignedTo a " +
+                "LEFT JOIN o.items i LEFT JOIN i.product p WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        appendDateRange(jpql, params, "o.createdAt", from, to);
+        if (status != null) {
+            jpql.append(" AND o.status = :status");
+            params.put("status", status);
+        }
+        jpql.append(" ORDER BY o.createdAt, o.id, i.id");
+
+        return stream(jpql.toString(), params, out, (rows, writer) -> {
+            if (format == Format.CSV) {
+                writeCsvLine(writer, ORDER_CSV_HEADER);
+            }
+            long orders = 0;
+            Object[] row = rows.hasNext() ? rows.next() : null;
+            while (row != null) {
+                Object orderId = row[0];
+                Object[] first = row;
+                List<Object[]> items = new ArrayList<>();
+                // Rows of one order are adjacent; collect its items (bounded by one order)
+                while (row != null && orderId.equals(row[0])) {
+                    if (row[14] != null) {
+                        items.add(row);
+                    }
+                    row = rows.hasNext() ? rows.next() : null;
+                }
+                if (format == Format.CSV) {
+                    writeOrderCsv(writer, first, items);
+                } else {
+                    writeOrderJson(writer, first, items);
+                }
+                if (++orders % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            return orders;
+        });
+    }
+
+    /**
+     * Write stock movements between from and to (inclusive, both optional),
+     * oldest first, optionally for one product and/or one movement type.
+     * Returns the number of movements written.
+     */
+    public long exportStockMovements(OutputStream out, Format format, LocalDate from, LocalDate to,
+                                     Long productId, StockMovement.MovementType type) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT m.id, m.createdAt, p.id, p.name, p.sku, m.type, m.quantity, m.reason, m.notes " +
+                "FROM StockMovement m LEFT JOIN m.product p WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        appendDateRange(jpql, params, "m.createdAt", from, to);
+        if (productId != null) {
+            jpql.append(" AND p.id = :productId");
+            params.put("productId", productId);
+        }
+        if (type != null) {
+            jpql.append(" AND m.type = :type");
+            params.put("type", type);
+        }
+        jpql.append(" ORDER BY m.id");
+
+        return stream(jpql.toString(), params, out, (rows, writer) -> {
+            if (format == Format.CSV) {
+                writeCsvLine(writer, STOCK_MOVEMENT_CSV_HEADER);
+            }
+            long count = 0;
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, Arrays.asList(row));
+                } else {
+                    Map<String, Object> movement = new LinkedHashMap<>();
+                    movement.put("id", row[0]);
+                    movement.put("createdAt", row[1]);
+                    movement.put("productId", row[2]);
+                    movement.put("productName", row[3]);
+                    movement.put("sku", row[4]);
+                    movement.put("type", row[5]);
+                    movement.put("quantity", row[6]);
+                    movement.put("reason", row[7]);
+                    movement.put("notes", row[8]);
+                    writeJsonLine(writer, movement);
+                }
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            return count;
+        });
+    }
+
+    private interface RowConsumer {
+        long accept(Iterator<Object[]> rows, Writer writer) throws IOException;
+    }
+
+    private long stream(String jpql, Map<String, Object> params, OutputStream out, RowConsumer consumer) {
+        Long written = transactionTemplate.execute(status -> {
+            Query query = entityManager.createQuery(jpql);
+            params.forEach(query::setParameter);
+            query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+            query.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            @SuppressWarnings("unchecked")
+            Stream<Object[]> rows = query.getResultStream();
+            try (rows) {
+                long count = consumer.accept(rows.iterator(), writer);
+                writer.flush();
+                return count;
+            } catch (IOException e) {
+                // Usually the client went away; the transaction just ends
+                throw new UncheckedIOException(e);
+            }
+        });
+        return written != null ? written : 0;
+    }
+
+    private void appendDateRange(StringBuilder jpql, Map<String, Object> params, String column,
+                                 LocalDate from, LocalDate to) {
+        if (from != null) {
+            jpql.append(" AND ").append(column).append(" >= :from");
+            params.put("from", from.atStartOfDay());
+        }
+        if (to != null) {
+            jpql.append(" AND ").append(column).append(" < :to");
+            params.put("to", to.plusDays(1).atStartOfDay());
+        }
+    }
+
+    private void writeOrderJson(Writer writer, Object[] order, List<Object[]> items) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", order[0]);
+        json.put("orderNumber", order[1]);
+        json.put("createdAt", order[2]);
+        json.put("status", order[3]);
+        json.put("paymentMode", order[4]);
+        json.put("totalAmount", order[5]);
+        json.put("customerEmail", order[6]);
+        json.put("deliveryName", order[7]);
+        json.put("deliveryMobile", order[8]);
+        json.put("deliveryAddress", order[9]);
+        json.put("deliveryPincode", order[10]);
+        json.put("assignedTo", order[11]);
+        json.put("deliveredAt", order[12]);
+        json.put("cancellationReason", order[13]);
+        List<Map<String, Object>> itemList = new ArrayList<>(items.size());
+        for (Object[] item : items) {
+            Map<String, Object> itemJson = new LinkedHashMap<>();
+            itemJson.put("id", item[14]);
+            itemJson.put("productId", item[15]);
+            itemJson.put("productName", item[16]);
+            itemJson.put("sku", item[17]);
+            itemJson.put("quantity", item[18]);
+            itemJson.put("unitPrice", item[19]);
+            itemJson.put("totalPrice", item[20]);
+            itemList.add(itemJson);
+        }
+        json.put("items", itemList);
+        writeJsonLine(writer, json);
+    }
+
+    private void writeOrderCsv(Writer writer, Object[] order, List<Object[]> items) throws IOException {
+        if (items.isEmpty()) {
+            writeCsvLine(writer, Arrays.asList(order));
+            return;
+        }
+        for (Object[] item : items) {
+            writeCsvLine(writer, Arrays.asList(item));
+        }
+    }
+
+    private void writeJsonLine(Writer writer, Object value) throws IOException {
+        lineWriter.writeValue(writer, value);
+        writer.write('\n');
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text; // keep spreadsheets from evaluating customer-entered text as a formula
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,296 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.GeocodedPincode;
+import com.sudharshini.stockmanagement.repository.GeocodedPincodeRepository;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Geocode Cache Service
+ * Two-tier cache for pincode geocoding so Nominatim is only asked about a
+ * pincode the first time it is seen:
+ * - a bounded in-memory LRU (geocode.cache.max-entries)
+ * - the geocode_cache table, keyed by country and pincode ("IN:560001")
+ * The table can be seeded from an offline pincode gazetteer CSV
+ * (geocode.gazetteer.path) with a header naming the pincode, latitude and
+ * longitude columns. Only successful lookups are cached; the approximate
+ * fallback location never is.
+ */
+@Service
+public class GeocodeCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodeCacheService.class);
+
+    private static final List<String> COLUMNS = List.of(
+            "cache_key", "country_code", "pincode", "lat", "lng", "address", "source", "created_at");
+
+    private final GeocodedPincodeRepository geocodedPincodeRepository;
+    private final NativeInsertRepository nativeInsertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CachedLocation> memory;
+
+    @Value("${geocode.gazetteer.path:}")
+    private String gazetteerPath;
+
+    @Value("${geocode.gazetteer.country:IN}")
+    private String gazetteerCountry;
+
+    private record CachedLocation(double lat, double lng, String address) {
+    }
+
+    public GeocodeCacheService(
+            GeocodedPincodeRepository geocodedPincodeRepository,
+            NativeInsertRepository nativeInsertRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${geocode.cache.max-entries:5000}") int maxEntries) {
+        this.geocodedPincodeRepository = geocodedPincodeRepository;
+        this.nativeInsertRepository = nativeInsertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.memory = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLocation> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Cached geocode result for a pincode (same shape as
+     * GoogleMapsService.geocodePincode), or null if it has not been seen yet.
+     */
+    public Map<String, Object> lookup(String countryCode, String pincode) {
+        String key = cacheKey(countryCode, pincode);
+
+        CachedLocation location = memory.get(key);
+        if (location != null) {
+            count("memory");
+            return toResult(location, pincode);
+        }
+
+        GeocodedPincode stored = geocodedPincodeRepository.findById(key).orElse(null);
+        if (stored != null) {
+            location = new CachedLocation(stored.getLat(), stored.getLng(), stored.getAddress());
+            memory.put(key, location);
+            count("database");
+            return toResult(location, pincode);
+        }
+
+        count("miss");
+        return null;
+    }
+
+    /**
+     * Remember a successful lookup in memory and in the geocode_cache table.
+     * A failed write only costs a future network lookup, so it is not rethrown.
+     */
+    @Transactional
+    public void store(String countryCode, String pincode, double lat, double lng, String address) {
+        String key = cacheKey(countryCode, pincode);
+        memory.put(key, new CachedLocation(lat, lng, address));
+        try {
+            List<Object[]> rows = new ArrayList<>(1);
+            rows.add(row(key, countryCode, pincode, lat, lng, address, GeocodedPincode.Source.NOMINATIM));
+            nativeInsertRepository.insertRowsIgnoringDuplicates("geocode_cache", COLUMNS, rows, "cache_key");
+        } catch (Exception e) {
+            log.warn("⚠️ Could not persist geocode for pincode {}: {}", pincode, e.getMessage());
+        }
+    }
+
+    /**
+     * Seed the geocode_cache table from the configured gazetteer CSV. Pincodes
+     * already in the table are left alone, so restarting is cheap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadGazetteer() {
+        if (gazetteerPath == null || gazetteerPath.isBlank()) {
+            return;
+        }
+        Path path = Path.of(gazetteerPath);
+        if (!Files.isReadable(path)) {
+            log.warn("⚠️ Pincode gazetteer not found: {}", path);
+            return;
+        }
+
+        try {
+            List<Object[]> rows = readGazetteer(path);
+            Integer inserted = transactionTemplate.execute(status ->
+                    nativeInsertRepository.insertRowsIgnoringDuplicates("geocode_cache", COLUMNS, rows, "cache_key"));
+            log.info("✅ Pincode gazetteer: {} pincodes read, {} new", rows.size(), inserted);
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to load pincode gazetteer {}: {}", path, e.getMessage());
+        }
+    }
+
+    private List<Object[]> readGazetteer(Path path) throws Exception {
+        String country = gazetteerCountry.trim().toUpperCase(Locale.ROOT);
+        List<Object[]> rows = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return rows;
+            }
+            Map<String, Integer> header = new HashMap<>();
+            List<String> headerFields = splitCsvLine(headerLine.replace("\uFEFF", ""));
+            for (int i = 0; i < headerFields.size(); i++) {
+                header.put(headerFields.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            int pincodeColumn = column(header, "pincode", "pin", "postcode", "postal_code");
+            int latColumn = column(header, "latitude", "lat");
+            int lngColumn = column(header, "longitude", "lng", "lon");
+            if (pincodeColumn < 0 || latColumn < 0 || lngColumn < 0) {
+                throw new IllegalArgumentException("CSV header must name pincode, latitude and longitude columns");
+            }
+            int[] addressColumns = {
+                column(header, "officename", "office_name", "place", "locality"),
+                column(header, "district", "districtname"),
+                column(header, "statename", "state")
+            };
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> fields = splitCsvLine(line);
+                String pincode = normalize(field(fields, pincodeColumn));
+                if (pincode.isEmpty() || seen.contains(pincode)) {
+                    continue; // several post offices can share a pincode; the first one wins
+                }
+                Double lat = parseCoordinate(field(fields, latColumn));
+                Double lng = parseCoordinate(field(fields, lngColumn));
+                if (lat == null || lng == null || Math.abs(lat) > 90 || Math.abs(lng) > 180) {
+                    continue;
+                }
+                List<String> parts = new ArrayList<>();
+                for (int addressColumn : addressColumns) {
+                    String part = field(fields, addressColumn).trim();
+                    if (!part.isEmpty() && !"NA".equalsIgnoreCase(part)) {
+                        parts.add(part);
+                    }
+                }
+                parts.add(pincode);
+                seen.add(pincode);
+                rows.add(row(cacheKey(country, pincode), country, pincode, lat, lng,
+                        String.join(", ", parts), GeocodedPincode.Source.GAZETTEER));
+            }
+        }
+        return rows;
+    }
+
+    private Object[] row(String key, String countryCode, String pincode, double lat, double lng,
+                         String address, GeocodedPincode.Source source) {
+        if (address != null && address.length() > 500) {
+            address = address.substring(0, 500);
+        }
+        return new Object[] {
+            key,
+            countryCode.trim().toUpperCase(Locale.ROOT),
+            normalize(pincode),
+            lat,
+            lng,
+            address,
+            source.name(),
+            Timestamp.valueOf(LocalDateTime.now())
+        };
+    }
+
+    private static String cacheKey(String countryCode, String pincode) {
+        return countryCode.trim().toUpperCase(Locale.ROOT) + ":" + normalize(pincode);
+    }
+
+    private static String normalize(String pincode) {
+        return pincode == null ? "" : pincode.replaceAll("\\s+", "").toUpperCase(Locale.ROOT);
+    }
+
+    private static Map<String, Object> toResult(CachedLocation location, String pincode) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("lat", location.lat());
+        result.put("lng", location.lng());
+        result.put("address", location.address());
+        result.put("pincode", pincode);
+        return result;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("geocode.pincode.lookups", "result", result).increment();
+    }
+
+    private static int column(Map<String, Integer> header, String... names) {
+        for (String name : names) {
+            Integer index = header.get(name);
+            if (index != null) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : "";
+    }
+
+    private static Double parseCoordinate(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Minimal CSV splitting: commas, double-quoted fields and "" escapes
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
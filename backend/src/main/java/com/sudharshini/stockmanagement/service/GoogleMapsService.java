@@ -1,23 +1,45 @@
 package com.sudharshini.stockmanagement.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Google Maps Service - Handles Google Maps API integration for route calculation
  */
 @Service
 public class GoogleMapsService {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleMapsService.class);
     
     @Value("${google.maps.api.key:}")
     private String apiKey;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Nominatim usage policy: at most one request per second
+    private static final long NOMINATIM_MIN_INTERVAL_MS = 1000;
+    
+    private final WebClient mapsWebClient;
+    private final WebClient nominatimWebClient;
+    private final GeocodeCacheService geocodeCacheService;
+    // A lock rather than synchronized: the holder sleeps and does HTTP I/O,
+    // which would pin the carrier thread when running on virtual threads
+    private final ReentrantLock nominatimLock = new ReentrantLock(true);
+    private long lastNominatimCallAt;
+    
+    public GoogleMapsService(GeocodeCacheService geocodeCacheService,
+                             @Qualifier("mapsWebClient") WebClient mapsWebClient,
+                             @Qualifier("nominatimWebClient") WebClient nominatimWebClient) {
+        this.geocodeCacheService = geocodeCacheService;
+        this.mapsWebClient = mapsWebClient;
+        this.nominatimWebClient = nominatimWebClient;
+    }
     
     /**
      * Get route information between two points
@@ -34,19 +56,18 @@ public class GoogleMapsService {
         }
         
         try {
-            String url = UriComponentsBuilder.fromHttpUrl("https://maps.googleapis.com/maps/api/directions/json")
-                    .queryParam("origin", originLat + "," + originLng)
-                    .queryParam("destination", destLat + "," + destLng)
-                    .queryParam("key", apiKey)
-                    .toUriString();
-            
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            Map<String, Object> response = mapsWebClient.get()
+                    .uri("/maps/api/directions/json?origin={origin}&destination={destination}&key={key}",
+                            originLat + "," + originLng, destLat + "," + destLng, apiKey)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block();
             
             if (response != null && "OK".equals(response.get("status"))) {
                 return extractRouteInfo(response);
             }
         } catch (Exception e) {
-            System.err.println("Error calling Google Maps API: " + e.getMessage());
+            log.error("Error calling Google Maps API: {}", e.toString());
         }
         
         // Fallback to mock data
@@ -55,36 +76,28 @@ public class GoogleMapsService {
     
     /**
      * Geocode pincode to get coordinates
-     * Uses OpenStreetMap Nominatim API (free, no API key needed)
+     * Served from the geocode cache when the pincode has been seen before (or is
+     * in the gazetteer); otherwise uses OpenStreetMap Nominatim API (free, no API
+     * key needed) and caches a successful answer
      */
     public Map<String, Object> geocodePincode(String pincode, String countryCode) {
         Map<String, Object> result = new HashMap<>();
         
+        // For India, add country code
+        if (countryCode == null || countryCode.isEmpty()) {
+            countryCode = "IN"; // Default to India
+        }
+        
+        Map<String, Object> cached = geocodeCacheService.lookup(countryCode, pincode);
+        if (cached != null) {
+            return cached;
+        }
+        
         try {
             // Use Nominatim API (OpenStreetMap) - free and no API key required
-            String url = "https://nominatim.openstreetmap.org/search";
-            String query = pincode;
-            
-            // For India, add country code
-            if (countryCode == null || countryCode.isEmpty()) {
-                countryCode = "IN"; // Default to India
-            }
-            
             String fullQuery = pincode + ", " + countryCode;
             
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("q", fullQuery)
-                    .queryParam("format", "json")
-                    .queryParam("limit", "1")
-                    .queryParam("addressdetails", "1");
-            
-            RestTemplate restTemplate = new RestTemplate();
-            restTemplate.getInterceptors().add((request, body, execution) -> {
-                request.getHeaders().add("User-Agent", "Sudharshini-Stock-Management/1.0");
-                return execution.execute(request, body);
-            });
-            
-            java.util.List<Map<String, Object>> response = restTemplate.getForObject(builder.toUriString(), java.util.List.class);
+            java.util.List<Map<String, Object>> response = nominatimSearch(fullQuery);
             
             if (response != null && !response.isEmpty()) {
                 Map<String, Object> location = response.get(0);
@@ -97,11 +110,13 @@ public class GoogleMapsService {
                     result.put("lng", Double.parseDouble(lon));
                     result.put("address", location.get("display_name"));
                     result.put("pincode", pincode);
+                    geocodeCacheService.store(countryCode, pincode, (Double) result.get("lat"), (Double) result.get("lng"),
+                            (String) location.get("display_name"));
                     return result;
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error geocoding pincode " + pincode + ": " + e.getMessage());
+            log.error("Error geocoding pincode {}: {}", pincode, e.toString());
         }
         
         // Fallback: Return approximate coordinates for India (center of country)
@@ -123,21 +138,7 @@ public class GoogleMapsService {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            String url = "https://nominatim.openstreetmap.org/search";
-            
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                    .queryParam("q", address)
-                    .queryParam("format", "json")
-                    .queryParam("limit", "1")
-                    .queryParam("addressdetails", "1");
-            
-            RestTemplate restTemplate = new RestTemplate();
-            restTemplate.getInterceptors().add((request, body, execution) -> {
-                request.getHeaders().add("User-Agent", "Sudharshini-Stock-Management/1.0");
-                return execution.execute(request, body);
-            });
-            
-            java.util.List<Map<String, Object>> response = restTemplate.getForObject(builder.toUriString(), java.util.List.class);
+            java.util.List<Map<String, Object>> response = nominatimSearch(address);
             
             if (response != null && !response.isEmpty()) {
                 Map<String, Object> location = response.get(0);
@@ -153,13 +154,39 @@ public class GoogleMapsService {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error geocoding address " + address + ": " + e.getMessage());
+            log.error("Error geocoding address {}: {}", address, e.toString());
         }
         
         result.put("success", false);
         return result;
     }
     
+    /**
+     * Call the Nominatim search API for the best match of a free-form query,
+     * spacing calls at least one second apart
+     */
+    @SuppressWarnings("unchecked")
+    private java.util.List<Map<String, Object>> nominatimSearch(String query) throws InterruptedException {
+        nominatimLock.lockInterruptibly();
+        try {
+            long waitMs = lastNominatimCallAt + NOMINATIM_MIN_INTERVAL_MS - System.currentTimeMillis();
+            if (waitMs > 0) {
+                Thread.sleep(waitMs);
+            }
+            try {
+                return nominatimWebClient.get()
+                        .uri("/search?q={query}&format=json&limit=1&addressdetails=1", query)
+                        .retrieve()
+                        .bodyToMono(java.util.List.class)
+                        .block();
+            } finally {
+                lastNominatimCallAt = System.currentTimeMillis();
+            }
+        } finally {
+            nominatimLock.unlock();
+        }
+    }
+    
     /**
      * Calculate distance between two points using Haversine formula
      */
@@ -208,7 +235,7 @@ public class GoogleMapsService {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error extracting route info: " + e.getMessage());
+            log.error("Error extracting route info: {}", e.getMessage());
         }
         
         return routeInfo;
@@ -3,14 +3,15 @@ package com.sudharshini.stockmanagement.service;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.sudharshini.stockmanagement.entity.Order;
 import com.sudharshini.stockmanagement.entity.OrderItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import jakarta.annotation.PostConstruct;
 import java.io.InputStream;
@@ -26,6 +27,8 @@ import java.util.Map;
 @Service
 public class GoogleSheetsService {
 
+    private static final Logger log = LoggerFactory.getLogger(GoogleSheetsService.class);
+
     @Value("${google.sheets.spreadsheet.id:}")
     private String spreadsheetId;
 
@@ -33,23 +36,27 @@ public class GoogleSheetsService {
     private String credentialsPath;
 
     private GoogleCredentials credentials;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final WebClient sheetsWebClient;
+
+    public GoogleSheetsService(@Qualifier("sheetsWebClient") WebClient sheetsWebClient) {
+        this.sheetsWebClient = sheetsWebClient;
+    }
 
     @PostConstruct
     public void init() {
         try {
             if (isConfigured()) {
                 credentials = loadCredentials();
-                System.out.println("✅ GoogleSheetsService initialized");
+                log.info("✅ GoogleSheetsService initialized");
             } else {
-                System.out.println("ℹ️ GoogleSheetsService not configured. Skipping initialization.");
+                log.info("ℹ️ GoogleSheetsService not configured. Skipping initialization.");
             }
         } catch (Exception e) {
-            System.err.println("⚠️ Failed to initialize GoogleSheetsService: " + e.getMessage());
+            log.warn("⚠️ Failed to initialize GoogleSheetsService: {}", e.getMessage());
         }
     }
 
-    private boolean isConfigured() {
+    public boolean isConfigured() {
         return spreadsheetId != null && !spreadsheetId.isBlank()
                 && credentialsPath != null && !credentialsPath.isBlank();
     }
@@ -81,7 +88,7 @@ public class GoogleSheetsService {
      */
     public boolean appendOrder(Order order) {
         if (!isConfigured()) {
-            System.out.println("ℹ️ Google Sheets integration is not configured. Skipping upload.");
+            log.debug("ℹ️ Google Sheets integration is not configured. Skipping upload.");
             return false;
         }
         try {
@@ -98,8 +105,7 @@ public class GoogleSheetsService {
             String phone = order.getDeliveryMobile() != null ? order.getDeliveryMobile().trim() : "";
             String name = order.getDeliveryName() != null ? order.getDeliveryName() : "";
             String status = order.getStatus() != null ? order.getStatus().name() : "";
-
-            String url = "https://sheets.googleapis.com/v4/spreadsheets/" + spreadsheetId + "/values/Sheet1!A:F:append?valueInputOption=USER_ENTERED&insertDataOption=INSERT_ROWS";
+            String accessToken = getAccessToken();
 
             Map<String, Object> body = Map.of(
                     "values", List.of(List.of(
@@ -112,22 +118,26 @@ public class GoogleSheetsService {
                     ))
             );
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(getAccessToken());
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
-
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                System.err.println("❌ Failed to append order to Google Sheet. Status: " + response.getStatusCode());
+            // Non-2xx responses throw WebClientResponseException
+            ResponseEntity<String> response = sheetsWebClient.post()
+                    .uri("/v4/spreadsheets/{spreadsheetId}/values/Sheet1!A:F:append"
+                            + "?valueInputOption=USER_ENTERED&insertDataOption=INSERT_ROWS", spreadsheetId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(headers -> headers.setBearerAuth(accessToken))
+                    .bodyValue(body)
+                    .retrieve()
+                    .toEntity(String.class)
+                    .block();
+
+            if (response == null || !response.getStatusCode().is2xxSuccessful()) {
+                log.warn("❌ Failed to append order to Google Sheet. Status: {}", response.getStatusCode());
                 return false;
             }
 
-            System.out.println("✅ Order " + order.getId() + " appended to Google Sheet");
+            log.info("✅ Order {} appended to Google Sheet", order.getId());
             return true;
         } catch (Exception e) {
-            System.err.println("❌ Failed to append order to Google Sheet: " + e.getMessage());
+            log.warn("❌ Failed to append order to Google Sheet: {}", e.toString());
             return false;
         }
     }
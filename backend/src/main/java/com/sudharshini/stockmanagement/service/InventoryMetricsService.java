@@ -0,0 +1,239 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.dto.InventoryTotals;
+import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.repository.InventoryMetricsRepository;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Inventory Metrics Service
+ * Keeps product count, total units, stock value and low-stock count as running
+ * totals, so the dashboard reads a handful of rows instead of scanning products.
+ * Every stock-changing path reports its change here inside its own transaction.
+ * The changes are summed per transaction and written as one delta just before
+ * commit, so they commit or roll back with the business change, and the metrics
+ * row is the last lock the transaction takes. rebuild() recomputes the totals
+ * from the products table.
+ */
+@Service
+public class InventoryMetricsService {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryMetricsService.class);
+
+    static final int STRIPES = 8;
+
+    private static final List<String> COLUMNS = List.of(
+            "stripe", "product_count", "total_units", "stock_value_minor", "low_stock_count", "updated_at");
+
+    private final InventoryMetricsRepository inventoryMetricsRepository;
+    private final NativeInsertRepository nativeInsertRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public InventoryMetricsService(InventoryMetricsRepository inventoryMetricsRepository,
+                                   NativeInsertRepository nativeInsertRepository) {
+        this.inventoryMetricsRepository = inventoryMetricsRepository;
+        this.nativeInsertRepository = nativeInsertRepository;
+    }
+
+    /**
+     * Current totals, summed over the stripes.
+     */
+    @Transactional(readOnly = true)
+    public InventoryTotals current() {
+        Object[] sums = inventoryMetricsRepository.sumStripes().get(0);
+        return new InventoryTotals(
+                ((Number) sums[0]).longValue(),
+                ((Number) sums[1]).longValue(),
+                BigDecimal.valueOf(((Number) sums[2]).longValue(), 2),
+                ((Number) sums[3]).longValue());
+    }
+
+    /**
+     * A product was created with the given price and stock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void productAdded(BigDecimal price, Integer quantity) {
+        record(1, null, null, price, quantity);
+    }
+
+    /**
+     * A product with the given price and stock was deleted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void productRemoved(BigDecimal price, Integer quantity) {
+        record(-1, price, quantity, null, null);
+    }
+
+    /**
+     * A product's price and/or stock were edited.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void productUpdated(BigDecimal oldPrice, Integer oldQuantity, BigDecimal newPrice, Integer newQuantity) {
+        record(0, oldPrice, oldQuantity, newPrice, newQuantity);
+    }
+
+    /**
+     * The product's stock was changed by quantityDelta with a conditional UPDATE.
+     * The row is locked by that UPDATE until commit, so the quantity read back
+     * here is exactly the result of this change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void stockChanged(Long productId, int quantityDelta) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT p.price, p.stockQuantity FROM Product p WHERE p.id = :id", Object[].class)
+                .setParameter("id", productId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        stockChanged((BigDecimal) rows.get(0)[0], ((Number) rows.get(0)[1]).intValue(), quantityDelta);
+    }
+
+    /**
+     * Like stockChanged(productId, quantityDelta), for a caller that already has
+     * the product's price and its quantity after the change (UPDATE ... RETURNING).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void stockChanged(BigDecimal price, int quantityAfter, int quantityDelta) {
+        record(0, price, quantityAfter - quantityDelta, price, quantityAfter);
+    }
+
+    /**
+     * Recompute the totals from the products table. All stripes are zeroed
+     * first, which locks them: a concurrent transaction either committed before
+     * (its change is in the products scan) or waits and applies its delta on
+     * top of the rebuilt totals afterwards.
+     */
+    @Transactional
+    public InventoryTotals rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        ensureStripes(now);
+        inventoryMetricsRepository.resetAll(now);
+
+        Object[] totals = entityManager.createQuery(
+                        "SELECT COUNT(p), COALESCE(SUM(p.stockQuantity), 0), COALESCE(SUM(p.price * p.stockQuantity), 0), " +
+                        "COALESCE(SUM(CASE WHEN p.stockQuantity < :threshold THEN 1 ELSE 0 END), 0) FROM Product p",
+                        Object[].class)
+                .setParameter("threshold", Product.LOW_STOCK_THRESHOLD)
+                .getSingleResult();
+        long valueMinor = new BigDecimal(totals[2].toString()).movePointRight(2)
+                .setScale(0, RoundingMode.HALF_UP).longValueExact();
+        inventoryMetricsRepository.setStripe(0, ((Number) totals[0]).longValue(), ((Number) totals[1]).longValue(),
+                valueMinor, ((Number) totals[3]).longValue(), now);
+
+        InventoryTotals rebuilt = current();
+        log.info("📊 Inventory metrics rebuilt: {} products, {} units, value {}",
+                rebuilt.productCount(), rebuilt.totalUnits(), rebuilt.totalStockValue());
+        return rebuilt;
+    }
+
+    /**
+     * First start (or a new database): build the totals once.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (inventoryMetricsRepository.count() < STRIPES) {
+            rebuild();
+        }
+    }
+
+    private void ensureStripes(LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(STRIPES);
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            rows.add(new Object[] {stripe, 0L, 0L, 0L, 0L, java.sql.Timestamp.valueOf(now)});
+        }
+        nativeInsertRepository.insertRowsIgnoringDuplicates("inventory_metrics", COLUMNS, rows, "stripe");
+    }
+
+    private void record(int productDelta, BigDecimal oldPrice, Integer oldQuantity, BigDecimal newPrice, Integer newQuantity) {
+        int before = oldQuantity != null ? oldQuantity : 0;
+        int after = newQuantity != null ? newQuantity : 0;
+
+        PendingDelta delta = pendingDelta();
+        delta.products += productDelta;
+        delta.units += after - before;
+        delta.valueMinor += valueMinor(newPrice, after) - valueMinor(oldPrice, before);
+        delta.lowStock += (isLowStock(newQuantity) ? 1 : 0) - (isLowStock(oldQuantity) ? 1 : 0);
+    }
+
+    private static boolean isLowStock(Integer quantity) {
+        return quantity != null && quantity < Product.LOW_STOCK_THRESHOLD;
+    }
+
+    private static long valueMinor(BigDecimal price, int quantity) {
+        if (price == null || quantity == 0) {
+            return 0;
+        }
+        return price.multiply(BigDecimal.valueOf(quantity)).movePointRight(2)
+                .setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * The delta collected so far in the current transaction, registering the
+     * before-commit write on first use.
+     */
+    private PendingDelta pendingDelta() {
+        PendingDelta delta = (PendingDelta) TransactionSynchronizationManager.getResource(this);
+        if (delta != null) {
+            return delta;
+        }
+        PendingDelta created = new PendingDelta();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                applyDelta(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(InventoryMetricsService.this);
+            }
+        });
+        return created;
+    }
+
+    private void applyDelta(PendingDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        int updated = inventoryMetricsRepository.addDelta(stripe, delta.products, delta.units,
+                delta.valueMinor, delta.lowStock, LocalDateTime.now());
+        if (updated == 0) {
+            // Not initialized yet; the startup rebuild counts this change
+            log.warn("⚠️ Inventory metrics stripe {} missing, delta skipped", stripe);
+        }
+    }
+
+    private static final class PendingDelta {
+        long products;
+        long units;
+        long valueMinor;
+        long lowStock;
+
+        boolean isEmpty() {
+            return products == 0 && units == 0 && valueMinor == 0 && lowStock == 0;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.dto.OrderItemRow;
+import com.sudharshini.stockmanagement.dto.OrderRow;
+import com.sudharshini.stockmanagement.dto.TrackingEventRow;
+import com.sudharshini.stockmanagement.entity.Order;
+import com.sudharshini.stockmanagement.repository.OrderRepository;
+import com.sudharshini.stockmanagement.repository.TrackingEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Order Query Service
+ * Read model for order list views. Orders, items and tracking events are read
+ * as constructor projections (a fixed number of queries per list, no entities in
+ * the persistence context) and turned into the same JSON shapes the list
+ * endpoints have always returned.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+    // Keeps IN lists under SQLite's bind-parameter limit
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final TrackingEventRepository trackingEventRepository;
+
+    public OrderQueryService(OrderRepository orderRepository, TrackingEventRepository trackingEventRepository) {
+        this.orderRepository = orderRepository;
+        this.trackingEventRepository = trackingEventRepository;
+    }
+
+    /**
+     * All orders, newest first (admin). Same shape as a serialized Order.
+     */
+    public List<Map<String, Object>> getAllOrders() {
+        return toOrderJson(orderRepository.findAllRows());
+    }
+
+    /**
+     * A customer's orders, newest first. Same shape as a serialized Order.
+     */
+    public List<Map<String, Object>> getCustomerOrders(Long customerId) {
+        return toOrderJson(orderRepository.findRowsByCustomerId(customerId));
+    }
+
+    /**
+     * Orders assigned to a delivery man, with tracking events.
+     */
+    public List<Map<String, Object>> getAssignedOrders(Long deliveryManId) {
+        return toDeliveryJson(orderRepository.findRowsByAssignedToId(deliveryManId));
+    }
+
+    /**
+     * Unassigned orders in the given statuses, with tracking events.
+     */
+    public List<Map<String, Object>> getUnassignedOrders(List<Order.OrderStatus> statuses) {
+        return toDeliveryJson(orderRepository.findUnassignedRowsByStatusIn(statuses));
+    }
+
+    private List<Map<String, Object>> toOrderJson(List<OrderRow> rows) {
+        Map<Long, List<Map<String, Object>>> items = loadItems(rows);
+
+        List<Map<String, Object>> orders = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            Map<String, Object> order = new LinkedHashMap<>();
+            order.put("id", row.id());
+            order.put("orderNumber", row.orderNumber());
+            order.put("customerEmail", row.customerEmail());
+            order.put("totalAmount", row.totalAmount());
+            order.put("status", row.status());
+            order.put("paymentMode", row.paymentMode());
+            order.put("deliveryName", row.deliveryName());
+            order.put("deliveryEmail", row.deliveryEmail());
+            order.put("deliveryMobile", row.deliveryMobile());
+            order.put("deliveryAddress", row.deliveryAddress());
+            order.put("deliveryPincode", row.deliveryPincode());
+            order.put("estimatedDeliveryStart", row.estimatedDeliveryStart());
+            order.put("estimatedDeliveryEnd", row.estimatedDeliveryEnd());
+            order.put("trackingId", row.trackingId());
+            order.put("courierName", row.courierName());
+            order.put("items", items.getOrDefault(row.id(), List.of()));
+            order.put("createdAt", row.createdAt());
+            order.put("updatedAt", row.updatedAt());
+            order.put("assignedToName", row.assignedToName());
+            order.put("assignedToId", row.assignedToId());
+            order.put("pickupLocation", row.pickupLocation());
+            order.put("deliveryLocation", row.deliveryLocation());
+            order.put("currentLocation", row.currentLocation());
+            order.put("acceptedAt", row.acceptedAt());
+            order.put("pickedUpAt", row.pickedUpAt());
+            order.put("outForDeliveryAt", row.outForDeliveryAt());
+            order.put("deliveredAt", row.deliveredAt());
+            order.put("cancellationReason", row.cancellationReason());
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private List<Map<String, Object>> toDeliveryJson(List<OrderRow> rows) {
+        Map<Long, List<Map<String, Object>>> items = loadItems(rows);
+        Map<Long, List<Map<String, Object>>> events = loadTrackingEvents(rows);
+
+        List<Map<String, Object>> orders = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            Map<String, Object> order = new HashMap<>();
+            order.put("id", row.id());
+            order.put("orderNumber", row.orderNumber());
+            order.put("status", row.status() != null ? row.status().toString() : null);
+            order.put("totalAmount", row.totalAmount());
+            order.put("paymentMode", row.paymentMode() != null ? row.paymentMode().toString() : null);
+            order.put("deliveryName", row.deliveryName());
+            order.put("deliveryEmail", row.deliveryEmail());
+            order.put("deliveryMobile", row.deliveryMobile());
+            order.put("deliveryAddress", row.deliveryAddress());
+            order.put("deliveryPincode", row.deliveryPincode());
+            order.put("estimatedDeliveryStart", row.estimatedDeliveryStart());
+            order.put("estimatedDeliveryEnd", row.estimatedDeliveryEnd());
+            order.put("pickedUpAt", row.pickedUpAt());
+            order.put("outForDeliveryAt", row.outForDeliveryAt());
+            order.put("deliveredAt", row.deliveredAt());
+            order.put("createdAt", row.createdAt());
+            order.put("trackingId", row.trackingId());
+            order.put("currentLocation", row.currentLocation());
+
+            if (row.customerId() != null) {
+                Map<String, Object> customer = new HashMap<>();
+                customer.put("id", row.customerId());
+                customer.put("name", row.customerName());
+                customer.put("email", row.customerEmail());
+                customer.put("mobile", row.customerMobile());
+                order.put("customer", customer);
+            }
+            if (row.assignedToId() != null) {
+                Map<String, Object> assignedTo = new HashMap<>();
+                assignedTo.put("id", row.assignedToId());
+                assignedTo.put("name", row.assignedToName());
+                assignedTo.put("email", row.assignedToEmail());
+                order.put("assignedTo", assignedTo);
+            }
+            order.put("items", items.getOrDefault(row.id(), List.of()));
+            order.put("trackingEvents", events.getOrDefault(row.id(), List.of()));
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private Map<Long, List<Map<String, Object>>> loadItems(List<OrderRow> rows) {
+        Map<Long, List<Map<String, Object>>> itemsByOrder = new HashMap<>();
+        for (OrderItemRow row : inChunks(rows, orderRepository::findItemRowsByOrderIdIn)) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", row.id());
+            if (row.productId() != null) {
+                Map<String, Object> product = new LinkedHashMap<>();
+                product.put("id", row.productId());
+                product.put("name", row.productName());
+                product.put("description", row.productDescription());
+                product.put("price", row.productPrice());
+                product.put("imageUrl", row.productImageUrl());
+                product.put("category", row.productCategory());
+                product.put("sku", row.productSku());
+                item.put("product", product);
+            } else {
+                item.put("product", null);
+            }
+            item.put("quantity", row.quantity());
+            item.put("unitPrice", row.unitPrice());
+            item.put("totalPrice", row.totalPrice());
+            item.put("productId", row.productId());
+            item.put("productName", row.productName());
+            itemsByOrder.computeIfAbsent(row.orderId(), id -> new ArrayList<>()).add(item);
+        }
+        return itemsByOrder;
+    }
+
+    private Map<Long, List<Map<String, Object>>> loadTrackingEvents(List<OrderRow> rows) {
+        Map<Long, List<Map<String, Object>>> eventsByOrder = new HashMap<>();
+        for (TrackingEventRow row : inChunks(rows, trackingEventRepository::findRowsByOrderIdIn)) {
+            Map<String, Object> event = new HashMap<>();
+            event.put("id", row.id());
+            event.put("eventType", row.eventType() != null ? row.eventType().toString() : null);
+            event.put("description", row.description());
+            event.put("location", row.location());
+            event.put("eventTime", row.eventTime());
+            event.put("sequence", row.sequence());
+            eventsByOrder.computeIfAbsent(row.orderId(), id -> new ArrayList<>()).add(event);
+        }
+        return eventsByOrder;
+    }
+
+    private <T> List<T> inChunks(List<OrderRow> rows, Function<List<Long>, List<T>> query) {
+        List<T> results = new ArrayList<>();
+        for (int start = 0; start < rows.size(); start += IN_CHUNK_SIZE) {
+            List<Long> ids = new ArrayList<>();
+            for (OrderRow row : rows.subList(start, Math.min(rows.size(), start + IN_CHUNK_SIZE))) {
+                ids.add(row.id());
+            }
+            results.addAll(query.apply(ids));
+        }
+        return results;
+    }
+}
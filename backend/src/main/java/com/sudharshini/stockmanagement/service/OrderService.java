@@ -1,21 +1,31 @@
 package com.sudharshini.stockmanagement.service;
 
+import com.sudharshini.stockmanagement.config.SqlStatementCounter;
 import com.sudharshini.stockmanagement.entity.*;
+import com.sudharshini.stockmanagement.dto.OrderPage;
 import com.sudharshini.stockmanagement.dto.OrderRequest;
 import com.sudharshini.stockmanagement.repository.*;
-import com.sudharshini.stockmanagement.service.GoogleMapsService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Random;
 import java.util.UUID;
 
@@ -25,15 +35,24 @@ import java.util.UUID;
  */
 @Service
 public class OrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+    
+    private static final List<String> TRACKING_EVENT_COLUMNS =
+            List.of("order_id", "event_type", "description", "location", "sequence", "event_time");
+    
+    private static final int DEFAULT_ORDER_PAGE_SIZE = 20;
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
     
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final TrackingEventRepository trackingEventRepository;
-    private final StockMovementRepository stockMovementRepository;
-    private final EmailService emailService;
-    private final GoogleMapsService googleMapsService;
-    private final GoogleSheetsService googleSheetsService;
+    private final OutboxService outboxService;
+    private final StockService stockService;
+    private final SalesRollupService salesRollupService;
+    private final NativeInsertRepository nativeInsertRepository;
+    private final SqlStatementCounter sqlStatementCounter;
+    private final DistributionSummary createOrderStatements;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -42,19 +61,24 @@ public class OrderService {
             OrderRepository orderRepository,
             ProductRepository productRepository,
             UserRepository userRepository,
-            TrackingEventRepository trackingEventRepository,
-            StockMovementRepository stockMovementRepository,
-            EmailService emailService,
-            GoogleMapsService googleMapsService,
-            GoogleSheetsService googleSheetsService) {
+            OutboxService outboxService,
+            StockService stockService,
+            SalesRollupService salesRollupService,
+            NativeInsertRepository nativeInsertRepository,
+            SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
         this.userRepository = userRepository;
-        this.trackingEventRepository = trackingEventRepository;
-        this.stockMovementRepository = stockMovementRepository;
-        this.emailService = emailService;
-        this.googleMapsService = googleMapsService;
-        this.googleSheetsService = googleSheetsService;
+        this.outboxService = outboxService;
+        this.stockService = stockService;
+        this.salesRollupService = salesRollupService;
+        this.nativeInsertRepository = nativeInsertRepository;
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.createOrderStatements = DistributionSummary.builder("orders.create.sql.statements")
+                .description("SQL statements issued by one createOrder call")
+                .baseUnit("statements")
+                .register(meterRegistry);
     }
     
     /**
@@ -62,32 +86,33 @@ public class OrderService {
      */
     @Transactional
     public Order createOrder(Long customerId, OrderRequest request) {
+        long statementsBefore = sqlStatementCounter.currentCount();
         try {
-            System.out.println("🔍 OrderService.createOrder - Customer ID: " + customerId);
-            System.out.println("📦 Items count: " + (request.getItems() != null ? request.getItems().size() : 0));
-            System.out.println("📍 Delivery Address: " + request.getDeliveryAddress());
-            System.out.println("📮 Delivery Pincode: " + request.getDeliveryPincode());
+            log.debug("🔍 OrderService.createOrder - Customer ID: {}", customerId);
+            log.debug("📦 Items count: {}", (request.getItems() != null ? request.getItems().size() : 0));
+            log.debug("📍 Delivery Address: {}", request.getDeliveryAddress());
+            log.debug("📮 Delivery Pincode: {}", request.getDeliveryPincode());
             
-            // Verify customer exists
-            userRepository.findById(customerId)
+            // Verify customer exists (loaded once, reused for delivery defaults)
+            User customer = userRepository.findById(customerId)
                     .orElseThrow(() -> {
-                        System.out.println("❌ Customer not found: " + customerId);
+                        log.warn("❌ Customer not found: {}", customerId);
                         return new RuntimeException("Customer not found");
                     });
             
             // Validate request
             if (request.getItems() == null || request.getItems().isEmpty()) {
-                System.out.println("❌ No items in order");
+                log.warn("❌ No items in order");
                 throw new RuntimeException("Order must contain at least one item");
             }
             
             if (request.getDeliveryAddress() == null || request.getDeliveryAddress().trim().isEmpty()) {
-                System.out.println("❌ Delivery address is missing");
+                log.warn("❌ Delivery address is missing");
                 throw new RuntimeException("Delivery address is required");
             }
             
             if (request.getDeliveryPincode() == null || request.getDeliveryPincode().trim().isEmpty()) {
-                System.out.println("❌ Delivery pincode is missing");
+                log.warn("❌ Delivery pincode is missing");
                 throw new RuntimeException("Delivery pincode is required");
             }
             
@@ -99,41 +124,71 @@ public class OrderService {
             BigDecimal total = BigDecimal.ZERO;
             List<OrderRequest.OrderItemRequest> items = request.getItems();
             
+            // Load every referenced product in one query; this snapshot is reused
+            // for validation, price capture, stock reservation and the item rows.
+            Set<Long> productIds = new LinkedHashSet<>();
             for (OrderRequest.OrderItemRequest itemRequest : items) {
-                System.out.println("🔍 Processing item - Product ID: " + itemRequest.getProductId() + ", Quantity: " + itemRequest.getQuantity());
-                
                 if (itemRequest.getProductId() == null) {
                     throw new RuntimeException("Product ID is required for all items");
                 }
+                productIds.add(itemRequest.getProductId());
+            }
+            Map<Long, Product> productsById = new HashMap<>();
+            for (Product product : productRepository.findAllById(productIds)) {
+                productsById.put(product.getId(), product);
+            }
+            
+            // Quantities requested per product, so a product repeated across lines
+            // is checked against its total rather than line by line
+            Map<Long, Integer> requestedByProduct = new HashMap<>();
+            List<Product> lineProducts = new ArrayList<>(items.size());
+            
+            for (OrderRequest.OrderItemRequest itemRequest : items) {
+                log.debug("🔍 Processing item - Product ID: {}, Quantity: {}",
+                        itemRequest.getProductId(), itemRequest.getQuantity());
                 
-                Product product = productRepository.findById(itemRequest.getProductId())
-                        .orElseThrow(() -> {
-                            System.out.println("❌ Product not found: " + itemRequest.getProductId());
-                            return new RuntimeException("Product not found: " + itemRequest.getProductId());
-                        });
+                Product product = productsById.get(itemRequest.getProductId());
+                if (product == null) {
+                    log.warn("❌ Product not found: {}", itemRequest.getProductId());
+                    throw new RuntimeException("Product not found: " + itemRequest.getProductId());
+                }
                 
                 if (itemRequest.getQuantity() == null || itemRequest.getQuantity() <= 0) {
                     throw new RuntimeException("Invalid quantity for product: " + product.getName());
                 }
                 
-                if (product.getStockQuantity() < itemRequest.getQuantity()) {
-                    System.out.println("❌ Insufficient stock for: " + product.getName() + " (Available: " + product.getStockQuantity() + ", Requested: " + itemRequest.getQuantity() + ")");
+                int requested = requestedByProduct.merge(product.getId(), itemRequest.getQuantity(), Integer::sum);
+                if (product.getStockQuantity() < requested) {
+                    log.warn("❌ Insufficient stock for: {} (Available: {}, Requested: {})",
+                            product.getName(), product.getStockQuantity(), requested);
                     throw new RuntimeException("Insufficient stock for: " + product.getName());
                 }
                 
                 BigDecimal itemTotal = product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
                 total = total.add(itemTotal);
-                System.out.println("✅ Item added: " + product.getName() + " - Total: " + itemTotal);
+                lineProducts.add(product);
+                log.debug("✅ Item added: {} - Total: {}", product.getName(), itemTotal);
             }
             
-            System.out.println("💰 Order total: " + total);
+            // Reserve stock before writing anything else. The check above only
+            // rejects obviously short carts; the conditional UPDATE per product is
+            // what guarantees no oversell under concurrent checkouts, and any
+            // failure rolls back the products already reserved. The whole cart
+            // is one UPDATE, however many lines it has.
+            Map<Product, Integer> reservations = new HashMap<>();
+            for (Map.Entry<Long, Integer> requested : requestedByProduct.entrySet()) {
+                reservations.put(productsById.get(requested.getKey()), requested.getValue());
+            }
+            stockService.reserve(reservations);
+            
+            log.debug("💰 Order total: {}", total);
             
             // Validate payment mode
             String paymentMode = request.getPaymentMode();
             if (paymentMode == null || paymentMode.trim().isEmpty()) {
                 paymentMode = "CASH_ON_DELIVERY";
             }
-            System.out.println("💳 Payment mode: " + paymentMode);
+            log.debug("💳 Payment mode: {}", paymentMode);
             
             // Validate delivery name, email, mobile
             String deliveryName = request.getDeliveryName();
@@ -141,20 +196,18 @@ public class OrderService {
             String deliveryMobile = request.getDeliveryMobile();
             
             if (deliveryName == null || deliveryName.trim().isEmpty()) {
-                System.out.println("⚠️ Delivery name is missing, using customer name");
-                User customer = userRepository.findById(customerId).orElse(null);
-                deliveryName = customer != null ? customer.getName() : "Customer";
+                log.warn("⚠️ Delivery name is missing, using customer name");
+                deliveryName = customer.getName() != null ? customer.getName() : "Customer";
             }
             
             if (deliveryEmail == null || deliveryEmail.trim().isEmpty()) {
-                System.out.println("⚠️ Delivery email is missing, using customer email");
-                User customer = userRepository.findById(customerId).orElse(null);
-                deliveryEmail = customer != null ? customer.getEmail() : "";
+                log.warn("⚠️ Delivery email is missing, using customer email");
+                deliveryEmail = customer.getEmail();
             }
             
-            System.out.println("📝 Delivery Name: " + deliveryName);
-            System.out.println("📧 Delivery Email: " + deliveryEmail);
-            System.out.println("📱 Delivery Mobile: " + deliveryMobile);
+            log.debug("📝 Delivery Name: {}", deliveryName);
+            log.debug("📧 Delivery Email: {}", deliveryEmail);
+            log.debug("📱 Delivery Mobile: {}", deliveryMobile);
             
             // Generate delivery window (2-10 days)
             Random random = new Random();
@@ -163,176 +216,98 @@ public class OrderService {
             LocalDate estimatedDeliveryEnd = LocalDate.now().plusDays(days);
             LocalDateTime now = LocalDateTime.now();
             
-            System.out.println("📅 Estimated delivery: " + estimatedDeliveryStart + " to " + estimatedDeliveryEnd);
-            
-            // Use native SQL to create Order (avoiding getGeneratedKeys() issue with SQLite)
-            String orderSql = "INSERT INTO orders (order_number, customer_id, total_amount, status, payment_mode, " +
-                            "delivery_name, delivery_email, delivery_mobile, delivery_address, delivery_pincode, " +
-                            "estimated_delivery_start, estimated_delivery_end, tracking_id, courier_name, created_at, updated_at) " +
-                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            
-            System.out.println("💾 Executing order insert SQL...");
-            Query orderQuery = entityManager.createNativeQuery(orderSql);
-            orderQuery.setParameter(1, orderNumber);
-            orderQuery.setParameter(2, customerId);
-            orderQuery.setParameter(3, total);
-            orderQuery.setParameter(4, "CONFIRMED");
-            orderQuery.setParameter(5, paymentMode);
-            orderQuery.setParameter(6, deliveryName);
-            orderQuery.setParameter(7, deliveryEmail);
-            orderQuery.setParameter(8, deliveryMobile != null ? deliveryMobile : "");
-            orderQuery.setParameter(9, request.getDeliveryAddress());
-            orderQuery.setParameter(10, request.getDeliveryPincode());
-            orderQuery.setParameter(11, estimatedDeliveryStart);
-            orderQuery.setParameter(12, estimatedDeliveryEnd);
-            orderQuery.setParameter(13, trackingId);
-            orderQuery.setParameter(14, "Sudharshini Express");
-            orderQuery.setParameter(15, java.sql.Timestamp.valueOf(now));
-            orderQuery.setParameter(16, java.sql.Timestamp.valueOf(now));
-            
-            int rowsAffected = orderQuery.executeUpdate();
-            System.out.println("✅ Order insert executed, rows affected: " + rowsAffected);
-            
-            // Get the order ID using last_insert_rowid()
-            System.out.println("🔍 Getting order ID from last_insert_rowid()...");
-            Query idQuery = entityManager.createNativeQuery("SELECT last_insert_rowid()");
-            Object result = idQuery.getSingleResult();
-            Long orderId = ((Number) result).longValue();
-            System.out.println("✅ Order ID: " + orderId);
-            
-            // Fetch the created order
-            System.out.println("🔍 Fetching created order from database...");
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> {
-                        System.out.println("❌ Failed to retrieve created order with ID: " + orderId);
-                        return new RuntimeException("Failed to retrieve created order");
-                    });
-            System.out.println("✅ Order retrieved: " + order.getOrderNumber());
-            
-            // Geocode delivery pincode to get coordinates for map
-            if (request.getDeliveryPincode() != null && !request.getDeliveryPincode().isEmpty()) {
-                try {
-                    Map<String, Object> geocodeResult = googleMapsService.geocodePincode(request.getDeliveryPincode(), "IN");
-                    if (geocodeResult.get("success") != null && (Boolean) geocodeResult.get("success")) {
-                        // Create delivery location JSON
-                        com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                        Map<String, Object> deliveryLocation = new HashMap<>();
-                        deliveryLocation.put("lat", geocodeResult.get("lat"));
-                        deliveryLocation.put("lng", geocodeResult.get("lng"));
-                        deliveryLocation.put("address", geocodeResult.get("address"));
-                        deliveryLocation.put("pincode", request.getDeliveryPincode());
-                        
-                        String deliveryLocationJson = objectMapper.writeValueAsString(deliveryLocation);
-                        
-                        // Update order with delivery location
-                        String updateSql = "UPDATE orders SET delivery_location = ? WHERE id = ?";
-                        Query updateQuery = entityManager.createNativeQuery(updateSql);
-                        updateQuery.setParameter(1, deliveryLocationJson);
-                        updateQuery.setParameter(2, orderId);
-                        updateQuery.executeUpdate();
-                        
-                        System.out.println("✅ Geocoded delivery pincode " + request.getDeliveryPincode() + 
-                                          " to coordinates: " + geocodeResult.get("lat") + ", " + geocodeResult.get("lng"));
-                    } else {
-                        System.out.println("⚠️ Failed to geocode pincode: " + request.getDeliveryPincode());
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error geocoding pincode: " + e.getMessage());
-                    // Don't fail order creation if geocoding fails
-                }
-            }
+            log.debug("📅 Estimated delivery: {} to {}", estimatedDeliveryStart, estimatedDeliveryEnd);
             
-            // Set default pickup location (can be configured)
+            // Default pickup location (Bangalore warehouse), written with the order row
+            String pickupLocationJson = null;
             try {
                 com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
                 Map<String, Object> pickupLocation = new HashMap<>();
-                // Default pickup location (Bangalore warehouse)
                 pickupLocation.put("lat", 12.9716);
                 pickupLocation.put("lng", 77.5946);
                 pickupLocation.put("address", "Sudharshini Warehouse, Bangalore");
-                
-                String pickupLocationJson = objectMapper.writeValueAsString(pickupLocation);
-                
-                String updatePickupSql = "UPDATE orders SET pickup_location = ? WHERE id = ?";
-                Query updatePickupQuery = entityManager.createNativeQuery(updatePickupSql);
-                updatePickupQuery.setParameter(1, pickupLocationJson);
-                updatePickupQuery.setParameter(2, orderId);
-                updatePickupQuery.executeUpdate();
+                pickupLocationJson = objectMapper.writeValueAsString(pickupLocation);
             } catch (Exception e) {
-                System.err.println("Error setting pickup location: " + e.getMessage());
+                log.error("Error setting pickup location: {}", e.getMessage());
             }
             
-            // Refresh order to get updated location data
-            entityManager.refresh(order);
-            
-            // Create order items using native SQL
-            for (OrderRequest.OrderItemRequest itemRequest : items) {
-                Product product = productRepository.findById(itemRequest.getProductId())
-                        .orElseThrow(() -> new RuntimeException("Product not found: " + itemRequest.getProductId()));
+            // Use native SQL to create Order (avoiding getGeneratedKeys() issue with SQLite);
+            // the row comes back with its generated ID in the same round trip
+            Map<String, Object> orderValues = new LinkedHashMap<>();
+            orderValues.put("order_number", orderNumber);
+            orderValues.put("customer_id", customerId);
+            orderValues.put("total_amount", total);
+            orderValues.put("status", "CONFIRMED");
+            orderValues.put("payment_mode", paymentMode);
+            orderValues.put("delivery_name", deliveryName);
+            orderValues.put("delivery_email", deliveryEmail);
+            orderValues.put("delivery_mobile", deliveryMobile != null ? deliveryMobile : "");
+            orderValues.put("delivery_address", request.getDeliveryAddress());
+            orderValues.put("delivery_pincode", request.getDeliveryPincode());
+            orderValues.put("estimated_delivery_start", estimatedDeliveryStart);
+            orderValues.put("estimated_delivery_end", estimatedDeliveryEnd);
+            orderValues.put("tracking_id", trackingId);
+            orderValues.put("courier_name", "Sudharshini Express");
+            orderValues.put("pickup_location", pickupLocationJson);
+            orderValues.put("created_at", java.sql.Timestamp.valueOf(now));
+            orderValues.put("updated_at", java.sql.Timestamp.valueOf(now));
+            
+            log.debug("💾 Executing order insert SQL...");
+            Order order = nativeInsertRepository.insertReturning(Order.class, "orders", orderValues);
+            Long orderId = order.getId();
+            log.info("✅ Order created: {} (ID: {})", order.getOrderNumber(), orderId);
+            
+            // Create order items and their stock movements (OUT), pricing from the
+            // snapshot; each table gets one multi-row insert regardless of cart size
+            List<Object[]> itemRows = new ArrayList<>(items.size());
+            List<Object[]> movementRows = new ArrayList<>(items.size());
+            List<OrderItem> orderItems = new ArrayList<>(items.size());
+            List<SalesRollupService.OrderLine> orderLines = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                OrderRequest.OrderItemRequest itemRequest = items.get(i);
+                Product product = lineProducts.get(i);
                 
                 BigDecimal unitPrice = product.getPrice();
                 BigDecimal itemTotal = unitPrice.multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
                 
-                String itemSql = "INSERT INTO order_items (order_id, product_id, quantity, unit_price, total_price) " +
-                               "VALUES (?, ?, ?, ?, ?)";
-                
-                Query itemQuery = entityManager.createNativeQuery(itemSql);
-                itemQuery.setParameter(1, orderId);
-                itemQuery.setParameter(2, itemRequest.getProductId());
-                itemQuery.setParameter(3, itemRequest.getQuantity());
-                itemQuery.setParameter(4, unitPrice);
-                itemQuery.setParameter(5, itemTotal);
-                itemQuery.executeUpdate();
-                
-                // Reduce stock
-                product.setStockQuantity(product.getStockQuantity() - itemRequest.getQuantity());
-                productRepository.save(product);
-                
-                // Create stock movement (OUT) using native SQL
-                String movementSql = "INSERT INTO stock_movements (product_id, type, quantity, reason, created_at) " +
-                                   "VALUES (?, ?, ?, ?, ?)";
-                Query movementQuery = entityManager.createNativeQuery(movementSql);
-                movementQuery.setParameter(1, product.getId());
-                movementQuery.setParameter(2, "OUT");
-                movementQuery.setParameter(3, itemRequest.getQuantity());
-                movementQuery.setParameter(4, "Order: " + orderNumber);
-                movementQuery.setParameter(5, now);
-                movementQuery.executeUpdate();
-                
-                // Check for low stock and send alerts
-                if (product.isLowStock()) {
-                    emailService.sendLowStockAlert(product);
-                }
-            }
-            
-            // Refresh order to get items
-            entityManager.refresh(order);
-            
-            // Push order to Google Sheets (non-blocking)
-            try {
-                boolean pushed = googleSheetsService.appendOrder(order);
-                if (!pushed) {
-                    System.out.println("ℹ️ Order " + order.getId() + " not pushed to Google Sheets (not configured or failed).");
-                }
-            } catch (Exception sheetEx) {
-                System.err.println("⚠️ Failed to push order to Google Sheets: " + sheetEx.getMessage());
+                itemRows.add(new Object[] { orderId, product.getId(), itemRequest.getQuantity(), unitPrice, itemTotal });
+                orderItems.add(new OrderItem(null, order, product, itemRequest.getQuantity(), unitPrice, itemTotal));
+                movementRows.add(new Object[] { product.getId(), "OUT", itemRequest.getQuantity(), "Order: " + orderNumber, java.sql.Timestamp.valueOf(now) });
+                orderLines.add(new SalesRollupService.OrderLine(product.getId(), itemRequest.getQuantity(), itemTotal));
+                salesRollupService.stockMoved(now.toLocalDate(), product.getId(), StockMovement.MovementType.OUT, itemRequest.getQuantity());
             }
+            nativeInsertRepository.insertRows("order_items",
+                    List.of("order_id", "product_id", "quantity", "unit_price", "total_price"), itemRows);
+            nativeInsertRepository.insertRows("stock_movements",
+                    List.of("product_id", "type", "quantity", "reason", "created_at"), movementRows);
+            salesRollupService.orderPlaced(now.toLocalDate(), orderLines);
+            
+            // The response carries the items just inserted; attach them in memory
+            // instead of reading the order back. Detached first, so the commit
+            // does not try to persist them a second time.
+            entityManager.detach(order);
+            order.setItems(orderItems);
             
             // Create initial tracking events
             createTrackingEvents(order);
             
-            // Send notifications via Email
-            System.out.println("📧 Sending order notifications for Order #" + order.getOrderNumber());
-            System.out.println("   Delivery Email: " + (order.getDeliveryEmail() != null ? order.getDeliveryEmail() : "not provided"));
+            // Geocoding, Google Sheets and the confirmation email are delivered by the
+            // outbox after commit, so checkout never waits on Nominatim, Sheets or SMTP
+            log.debug("📧 Queuing order notifications for Order #{}", order.getOrderNumber());
+            log.debug("   Delivery Email: {}", (order.getDeliveryEmail() != null ? order.getDeliveryEmail() : "not provided"));
             
-            emailService.sendOrderConfirmation(order);
+            outboxService.enqueue(
+                new OutboxEvent(OutboxEvent.EventType.ORDER_GEOCODE, orderId, request.getDeliveryPincode()),
+                new OutboxEvent(OutboxEvent.EventType.ORDER_SHEETS_APPEND, orderId, order.getStatus().name()),
+                new OutboxEvent(OutboxEvent.EventType.ORDER_CONFIRMATION_EMAIL, orderId, null)
+            );
             
-            System.out.println("✅ All order notifications queued for Order #" + order.getOrderNumber());
+            log.debug("✅ All order notifications queued for Order #{}", order.getOrderNumber());
             
+            createOrderStatements.record(sqlStatementCounter.currentCount() - statementsBefore);
             return order;
         } catch (Exception e) {
-            System.out.println("❌ Error creating order: " + e.getClass().getName() + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error creating order: {}: {}", e.getClass().getName(), e.getMessage(), e);
             // Re-throw with more context
             if (e instanceof RuntimeException) {
                 throw e; // Re-throw validation errors as-is
@@ -348,38 +323,38 @@ public class OrderService {
     private void createTrackingEvents(Order order) {
         LocalDateTime baseTime = LocalDateTime.now();
         int sequence = 1;
+        List<Object[]> events = new ArrayList<>();
         
         // Label Created
-        createTrackingEventNative(order.getId(), "LABEL_CREATED", "Label created", "Warehouse", sequence++, baseTime.plusHours(sequence));
+        events.add(trackingEventRow(order.getId(), "LABEL_CREATED", "Label created", "Warehouse", sequence++, baseTime.plusHours(sequence)));
         
         // Shipment Picked
-        createTrackingEventNative(order.getId(), "SHIPMENT_PICKED", "Shipment picked up", "Warehouse", sequence++, baseTime.plusHours(sequence));
+        events.add(trackingEventRow(order.getId(), "SHIPMENT_PICKED", "Shipment picked up", "Warehouse", sequence++, baseTime.plusHours(sequence)));
         
         // Package Received at Facility
-        createTrackingEventNative(order.getId(), "PACKAGE_RECEIVED_AT_FACILITY", "Package received at sorting facility", "Sorting Center", sequence++, baseTime.plusHours(sequence));
+        events.add(trackingEventRow(order.getId(), "PACKAGE_RECEIVED_AT_FACILITY", "Package received at sorting facility", "Sorting Center", sequence++, baseTime.plusHours(sequence)));
         
         // Package Left Facility
-        createTrackingEventNative(order.getId(), "PACKAGE_LEFT_FACILITY", "Package left sorting facility", "Sorting Center", sequence++, baseTime.plusHours(sequence));
+        events.add(trackingEventRow(order.getId(), "PACKAGE_LEFT_FACILITY", "Package left sorting facility", "Sorting Center", sequence++, baseTime.plusHours(sequence)));
         
         // Package Arrived at Local Facility
-        createTrackingEventNative(order.getId(), "PACKAGE_ARRIVED_AT_LOCAL_FACILITY", "Package arrived at local facility", "Local Hub", sequence++, baseTime.plusHours(sequence));
+        events.add(trackingEventRow(order.getId(), "PACKAGE_ARRIVED_AT_LOCAL_FACILITY", "Package arrived at local facility", "Local Hub", sequence++, baseTime.plusHours(sequence)));
         
         // Out for Delivery (will be updated when status changes)
         // Delivered (will be added when delivered)
+        
+        nativeInsertRepository.insertRows("tracking_events", TRACKING_EVENT_COLUMNS, events);
     }
     
     private void createTrackingEventNative(Long orderId, String eventType, String description, 
                                           String location, int sequence, LocalDateTime eventTime) {
-        String eventSql = "INSERT INTO tracking_events (order_id, event_type, description, location, sequence, event_time) " +
-                         "VALUES (?, ?, ?, ?, ?, ?)";
-        Query eventQuery = entityManager.createNativeQuery(eventSql);
-        eventQuery.setParameter(1, orderId);
-        eventQuery.setParameter(2, eventType);
-        eventQuery.setParameter(3, description);
-        eventQuery.setParameter(4, location);
-        eventQuery.setParameter(5, sequence);
-        eventQuery.setParameter(6, java.sql.Timestamp.valueOf(eventTime));
-        eventQuery.executeUpdate();
+        nativeInsertRepository.insertRows("tracking_events", TRACKING_EVENT_COLUMNS,
+                List.<Object[]>of(trackingEventRow(orderId, eventType, description, location, sequence, eventTime)));
+    }
+    
+    private Object[] trackingEventRow(Long orderId, String eventType, String description,
+                                      String location, int sequence, LocalDateTime eventTime) {
+        return new Object[] { orderId, eventType, description, location, sequence, java.sql.Timestamp.valueOf(eventTime) };
     }
     
     /**
@@ -395,15 +370,15 @@ public class OrderService {
      */
     @Transactional
     public Order updateOrderStatus(Long orderId, Order.OrderStatus newStatus, String cancellationReason) {
-        System.out.println("🔵 [ORDER SERVICE] updateOrderStatus called for orderId: " + orderId + ", newStatus: " + newStatus);
+        log.debug("🔵 [ORDER SERVICE] updateOrderStatus called for orderId: {}, newStatus: {}", orderId, newStatus);
         try {
         Order order = orderRepository.findById(orderId)
                     .orElseThrow(() -> {
-                        System.err.println("❌ [ORDER SERVICE] Order not found: " + orderId);
+                        log.warn("❌ [ORDER SERVICE] Order not found: {}", orderId);
                         return new RuntimeException("Order not found");
                     });
             
-            System.out.println("🔵 [ORDER SERVICE] Found order: " + order.getOrderNumber() + ", current status: " + order.getStatus());
+            log.debug("🔵 [ORDER SERVICE] Found order: {}, current status: {}", order.getOrderNumber(), order.getStatus());
         
         Order.OrderStatus oldStatus = order.getStatus();
         
@@ -427,15 +402,15 @@ public class OrderService {
             LocalDateTime now = LocalDateTime.now();
             if (newStatus == Order.OrderStatus.PICKED_UP && order.getPickedUpAt() == null) {
                 order.setPickedUpAt(now);
-                System.out.println("🔵 [ORDER SERVICE] Set pickedUpAt timestamp");
+                log.debug("🔵 [ORDER SERVICE] Set pickedUpAt timestamp");
             }
             if (newStatus == Order.OrderStatus.OUT_FOR_DELIVERY && order.getOutForDeliveryAt() == null) {
                 order.setOutForDeliveryAt(now);
-                System.out.println("🔵 [ORDER SERVICE] Set outForDeliveryAt timestamp");
+                log.debug("🔵 [ORDER SERVICE] Set outForDeliveryAt timestamp");
             }
             if (newStatus == Order.OrderStatus.DELIVERED && order.getDeliveredAt() == null) {
                 order.setDeliveredAt(now);
-                System.out.println("🔵 [ORDER SERVICE] Set deliveredAt timestamp");
+                log.debug("🔵 [ORDER SERVICE] Set deliveredAt timestamp");
             }
             
             // Initialize lazy-loaded fields before saving and sending notifications
@@ -447,9 +422,9 @@ public class OrderService {
                 if (order.getItems() != null) {
                     order.getItems().size(); // Force initialization
                 }
-                System.out.println("🔵 [ORDER SERVICE] Lazy-loaded fields initialized");
+                log.debug("🔵 [ORDER SERVICE] Lazy-loaded fields initialized");
             } catch (Exception initError) {
-                System.err.println("⚠️ [ORDER SERVICE] Warning: Error initializing lazy-loaded fields: " + initError.getMessage());
+                log.error("⚠️ [ORDER SERVICE] Warning: Error initializing lazy-loaded fields: {}", initError.getMessage());
                 // Continue anyway
             }
             
@@ -458,10 +433,9 @@ public class OrderService {
         order = orderRepository.save(order);
                 // Flush immediately so that any DB constraint/validation errors surface here
                 orderRepository.flush();
-                System.out.println("🔵 [ORDER SERVICE] Order saved and flushed with new status");
+                log.debug("🔵 [ORDER SERVICE] Order saved and flushed with new status");
             } catch (Exception saveError) {
-                System.err.println("❌ [ORDER SERVICE] Error saving/flushing order: " + saveError.getMessage());
-                saveError.printStackTrace();
+                log.error("❌ [ORDER SERVICE] Error saving/flushing order: {}", saveError.getMessage(), saveError);
                 throw saveError;
             }
             
@@ -476,7 +450,7 @@ public class OrderService {
                         6,
                         LocalDateTime.now()
                     );
-                    System.out.println("🔵 [ORDER SERVICE] Created OUT_FOR_DELIVERY tracking event (native insert)");
+                    log.debug("🔵 [ORDER SERVICE] Created OUT_FOR_DELIVERY tracking event (native insert)");
                 } else if (newStatus == Order.OrderStatus.DELIVERED) {
                     String deliveryLocation = order.getDeliveryAddress() != null && !order.getDeliveryAddress().isEmpty() 
                         ? order.getDeliveryAddress() 
@@ -489,11 +463,10 @@ public class OrderService {
                         7,
                         LocalDateTime.now()
                     );
-                    System.out.println("🔵 [ORDER SERVICE] Created DELIVERED tracking event (native insert)");
+                    log.debug("🔵 [ORDER SERVICE] Created DELIVERED tracking event (native insert)");
                 }
             } catch (Exception eventError) {
-                System.err.println("❌ [ORDER SERVICE] Error creating tracking event: " + eventError.getMessage());
-                eventError.printStackTrace();
+                log.error("❌ [ORDER SERVICE] Error creating tracking event: {}", eventError.getMessage(), eventError);
                 // Don't fail the entire operation if tracking event creation fails
             }
         
@@ -505,37 +478,21 @@ public class OrderService {
                     order.getCustomer().getEmail();
                 }
             } catch (Exception e) {
-                System.err.println("⚠️ [ORDER SERVICE] Could not initialize customer for notification: " + e.getMessage());
+                log.warn("⚠️ [ORDER SERVICE] Could not initialize customer for notification: {}", e.getMessage());
             }
             
-            // Send Email notification for ALL status updates
-            try {
-                emailService.sendOrderStatusUpdate(order);
-                System.out.println("🔵 [ORDER SERVICE] Email notification sent");
-            } catch (Exception emailError) {
-                System.err.println("⚠️ [ORDER SERVICE] Error sending email notification: " + emailError.getMessage());
-                emailError.printStackTrace();
-                // Don't fail the operation
-            }
-
-            // Push status update to Google Sheets (append as a new row)
-            try {
-                boolean pushed = googleSheetsService.appendOrder(order);
-                if (!pushed) {
-                    System.out.println("ℹ️ [ORDER SERVICE] Status update not pushed to Google Sheets (not configured or failed).");
-                } else {
-                    System.out.println("✅ [ORDER SERVICE] Status update appended to Google Sheets.");
-                }
-            } catch (Exception sheetEx) {
-                System.err.println("⚠️ [ORDER SERVICE] Failed to push status update to Google Sheets: " + sheetEx.getMessage());
-            }
+            // Email for ALL status updates and a Google Sheets row, delivered after commit
+            outboxService.enqueue(
+                new OutboxEvent(OutboxEvent.EventType.ORDER_STATUS_EMAIL, order.getId(), newStatus.name()),
+                new OutboxEvent(OutboxEvent.EventType.ORDER_SHEETS_APPEND, order.getId(), newStatus.name())
+            );
+            log.debug("🔵 [ORDER SERVICE] Email and Google Sheets notifications queued");
         }
         
-        System.out.println("✅ [ORDER SERVICE] Status update completed successfully");
+        log.info("✅ [ORDER SERVICE] Status update completed successfully");
         return order;
     } catch (Exception e) {
-            System.err.println("❌ [ORDER SERVICE] Critical error in updateOrderStatus: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ [ORDER SERVICE] Critical error in updateOrderStatus: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to update order status: " + e.getMessage(), e);
         }
     }
@@ -549,179 +506,96 @@ public class OrderService {
     }
     
     /**
-     * Get orders by customer
+     * Get one page of orders, newest first, for the admin listing.
+     * Keyset pagination on (createdAt, id): the cursor encodes the last row of the
+     * previous page, so every page costs the same no matter how deep it is.
+     * All filters are optional; from/to are inclusive dates.
      */
     @Transactional(readOnly = true)
-    public List<Order> getOrdersByCustomer(Long customerId) {
-        try {
-            User customer = userRepository.findById(customerId)
-                    .orElseThrow(() -> new RuntimeException("Customer not found"));
-            List<Order> orders = orderRepository.findByCustomerOrderByCreatedAtDesc(customer);
-            
-            // Initialize all lazy-loaded relationships to avoid serialization issues
-            for (Order order : orders) {
-                if (order.getItems() != null) {
-                    for (var item : order.getItems()) {
-                        if (item.getProduct() != null) {
-                            // Initialize product to avoid lazy loading issues
-                            // Access product fields to trigger lazy loading within transaction
-                            item.getProduct().getName();
-                            item.getProduct().getId();
-                            // Ensure supplier is not accessed (already @JsonIgnore)
-                        }
-                    }
-                }
-                // Initialize customer if needed
-                if (order.getCustomer() != null) {
-                    order.getCustomer().getEmail();
-                }
-            }
-            
-            return orders;
-        } catch (Exception e) {
-            System.err.println("❌ Error in getOrdersByCustomer: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
+    public OrderPage getOrdersPage(Order.OrderStatus status, LocalDate from, LocalDate to,
+                                   Long assignedToId, String pincode, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_ORDER_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_ORDER_PAGE_SIZE));
+        
+        StringBuilder jpql = new StringBuilder("SELECT o.id, o.createdAt FROM Order o WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        if (status != null) {
+            jpql.append(" AND o.status = :status");
+            params.put("status", status);
         }
-    }
-    
-    /**
-     * Get all orders
-     */
-    @Transactional(readOnly = true)
-    public List<Order> getAllOrders() {
-        System.out.println("🔵 [ORDER SERVICE] Starting getAllOrders...");
-        List<Order> orders = null;
-        try {
-            // Try to use custom query with LEFT JOIN to handle missing products gracefully
-            orders = orderRepository.findAllWithProducts();
-            System.out.println("🔵 [ORDER SERVICE] Found " + (orders != null ? orders.size() : 0) + " orders from repository");
-        } catch (org.hibernate.FetchNotFoundException | org.springframework.orm.jpa.JpaObjectRetrievalFailureException e) {
-            // If products are missing, fall back to regular findAll and handle errors per order
-            System.err.println("⚠️ [ORDER SERVICE] Some products are missing, using fallback approach: " + e.getMessage());
-            try {
-                orders = orderRepository.findAll();
-            } catch (Exception e2) {
-                System.err.println("❌ [ORDER SERVICE] Even findAll() failed: " + e2.getMessage());
-                // Return empty list if we can't load any orders
-                return List.of();
+        if (from != null) {
+            jpql.append(" AND o.createdAt >= :from");
+            params.put("from", from.atStartOfDay());
+        }
+        if (to != null) {
+            jpql.append(" AND o.createdAt < :to");
+            params.put("to", to.plusDays(1).atStartOfDay());
+        }
+        if (assignedToId != null) {
+            jpql.append(" AND o.assignedTo.id = :assignedToId");
+            params.put("assignedToId", assignedToId);
+        }
+        if (pincode != null && !pincode.isBlank()) {
+            jpql.append(" AND o.deliveryPincode = :pincode");
+            params.put("pincode", pincode.trim());
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            Object[] position = decodeOrderCursor(cursor);
+            jpql.append(" AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId))");
+            params.put("cursorCreatedAt", position[0]);
+            params.put("cursorId", position[1]);
+        }
+        jpql.append(" ORDER BY o.createdAt DESC, o.id DESC");
+        
+        // Page of keys first (one row more than needed tells us whether there is a next page),
+        // then the orders with their items, products and users in a single fetch
+        jakarta.persistence.TypedQuery<Object[]> keyQuery = entityManager.createQuery(jpql.toString(), Object[].class);
+        params.forEach(keyQuery::setParameter);
+        List<Object[]> keys = keyQuery.setMaxResults(pageSize + 1).getResultList();
+        
+        boolean hasMore = keys.size() > pageSize;
+        if (hasMore) {
+            keys = keys.subList(0, pageSize);
+        }
+        if (keys.isEmpty()) {
+            return new OrderPage(List.of(), null, pageSize);
+        }
+        
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Object[] key : keys) {
+            ids.add((Long) key[0]);
+        }
+        Map<Long, Order> byId = new HashMap<>();
+        for (Order order : orderRepository.findAllWithProductsByIdIn(ids)) {
+            byId.put(order.getId(), order);
+        }
+        List<Order> orders = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Order order = byId.get(id);
+            if (order != null) {
+                orders.add(order);
             }
         }
         
+        Object[] last = keys.get(keys.size() - 1);
+        String nextCursor = hasMore ? encodeOrderCursor((LocalDateTime) last[1], (Long) last[0]) : null;
+        return new OrderPage(orders, nextCursor, pageSize);
+    }
+    
+    private String encodeOrderCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private Object[] decodeOrderCursor(String cursor) {
         try {
-            
-            if (orders == null) {
-                System.out.println("⚠️ [ORDER SERVICE] Orders list is null, returning empty list");
-                return List.of();
-            }
-            
-            // Filter out orders with problematic items and handle missing products
-            List<Order> validOrders = new java.util.ArrayList<>();
-            int successCount = 0;
-            int errorCount = 0;
-            
-            for (Order order : orders) {
-                if (order == null) {
-                    System.err.println("⚠️ [ORDER SERVICE] Found null order in list, skipping");
-                    errorCount++;
-                    continue;
-                }
-                
-                try {
-                    Long orderId = order.getId();
-                    if (orderId == null) {
-                        System.err.println("⚠️ [ORDER SERVICE] Order has null ID, skipping");
-                        errorCount++;
-                        continue;
-                    }
-                    
-                    // Handle items and check for missing products
-                    if (order.getItems() != null) {
-                        List<com.sudharshini.stockmanagement.entity.OrderItem> validItems = new java.util.ArrayList<>();
-                        for (var item : order.getItems()) {
-                            try {
-                                // Try to access the product - if it doesn't exist, this will throw an exception
-                                if (item.getProduct() != null) {
-                                    // Product exists, try to access its ID to verify
-                                    Long productId = item.getProduct().getId();
-                                    if (productId != null) {
-                                        validItems.add(item);
-                                    } else {
-                                        System.err.println("⚠️ [ORDER SERVICE] Order " + orderId + " has item with null product ID, skipping item");
-                                    }
-                                } else {
-                                    System.err.println("⚠️ [ORDER SERVICE] Order " + orderId + " has item with null product, skipping item");
-                                }
-                            } catch (org.hibernate.FetchNotFoundException | org.springframework.orm.jpa.JpaObjectRetrievalFailureException e) {
-                                // Product doesn't exist - skip this item
-                                System.err.println("⚠️ [ORDER SERVICE] Order " + orderId + " has item referencing missing product, skipping item: " + e.getMessage());
-                            } catch (Exception e) {
-                                // Other errors - log but continue
-                                System.err.println("⚠️ [ORDER SERVICE] Error checking product for order " + orderId + " item: " + e.getMessage());
-                            }
-                        }
-                        // Replace items list with valid items only
-                        if (validItems.size() < order.getItems().size()) {
-                            System.out.println("🔵 [ORDER SERVICE] Order " + orderId + ": filtered " + (order.getItems().size() - validItems.size()) + " invalid items");
-                            // Use reflection or create a new order with valid items
-                            // For now, we'll keep the original items but mark problematic ones
-                        }
-                    }
-                    
-                    // Initialize tracking events (LAZY loaded)
-                    try {
-                        if (order.getTrackingEvents() != null) {
-                            order.getTrackingEvents().size(); // Force initialization
-                        }
-                    } catch (Exception e) {
-                        System.err.println("⚠️ [ORDER SERVICE] Error initializing tracking events for order " + orderId + ": " + e.getMessage());
-                        // Not critical, continue
-                    }
-                    
-                    // Initialize customer reference (ManyToOne - should be fine, but be safe)
-                    try {
-                        if (order.getCustomer() != null) {
-                            String email = order.getCustomer().getEmail(); // Force initialization
-                            if (email != null) {
-                                // Successfully accessed
-                            }
-                        }
-                    } catch (Exception e) {
-                        System.err.println("⚠️ [ORDER SERVICE] Error initializing customer for order " + orderId + ": " + e.getMessage());
-                        // Not critical, continue
-                    }
-                    
-                    // Initialize assignedTo reference
-                    try {
-                        if (order.getAssignedTo() != null) {
-                            String email = order.getAssignedTo().getEmail(); // Force initialization
-                            if (email != null) {
-                                // Successfully accessed
-                            }
-                        }
-                    } catch (Exception e) {
-                        System.err.println("⚠️ [ORDER SERVICE] Error initializing assignedTo for order " + orderId + ": " + e.getMessage());
-                        // Not critical, continue
-                    }
-                    
-                    validOrders.add(order);
-                    successCount++;
-                } catch (Exception initError) {
-                    System.err.println("❌ [ORDER SERVICE] Critical error initializing order " + (order.getId() != null ? order.getId() : "unknown") + ": " + initError.getMessage());
-                    initError.printStackTrace();
-                    errorCount++;
-                    // Continue with other orders - don't fail the entire request
-                }
-            }
-            
-            System.out.println("✅ [ORDER SERVICE] Successfully initialized " + successCount + " orders, " + errorCount + " errors");
-            return validOrders;
-        } catch (Exception e) {
-            System.err.println("❌ [ORDER SERVICE] Critical error in getAllOrders: " + e.getMessage());
-            e.printStackTrace();
-            // Return empty list instead of throwing exception to prevent complete failure
-            System.err.println("⚠️ [ORDER SERVICE] Returning empty list due to errors");
-            return List.of();
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Object[] {
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1))
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
         }
     }
     
@@ -0,0 +1,243 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudharshini.stockmanagement.config.AsyncConfig;
+import com.sudharshini.stockmanagement.entity.Order;
+import com.sudharshini.stockmanagement.entity.OutboxEvent;
+import com.sudharshini.stockmanagement.repository.OrderRepository;
+import com.sudharshini.stockmanagement.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Outbox Dispatcher
+ * Delivers outbox events outside of any database transaction: right after the
+ * enqueuing transaction commits, and from a periodic poll that picks up
+ * retries and events left behind by a crash. Each event is claimed with a
+ * conditional UPDATE, so concurrent dispatchers never deliver it twice.
+ * Failed deliveries are retried with exponential backoff and marked FAILED
+ * after outbox.max-attempts.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final List<OutboxEvent.Status> CLAIMABLE =
+            List.of(OutboxEvent.Status.PENDING, OutboxEvent.Status.PROCESSING);
+
+    // Delivered on separate executors so customer emails never queue behind
+    // slow Google calls
+    private static final List<OutboxEvent.EventType> NOTIFICATIONS =
+            List.of(OutboxEvent.EventType.ORDER_CONFIRMATION_EMAIL, OutboxEvent.EventType.ORDER_STATUS_EMAIL);
+    private static final List<OutboxEvent.EventType> INTEGRATIONS =
+            List.of(OutboxEvent.EventType.ORDER_GEOCODE, OutboxEvent.EventType.ORDER_SHEETS_APPEND);
+    private static final List<OutboxEvent.EventType> ALL = List.of(OutboxEvent.EventType.values());
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderRepository orderRepository;
+    private final EmailService emailService;
+    private final GoogleSheetsService googleSheetsService;
+    private final GoogleMapsService googleMapsService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry-base-delay-ms:30000}")
+    private long retryBaseDelayMs;
+
+    @Value("${outbox.retry-max-delay-ms:3600000}")
+    private long retryMaxDelayMs;
+
+    @Value("${outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${outbox.retention-days:7}")
+    private int retentionDays;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            OrderRepository orderRepository,
+            EmailService emailService,
+            GoogleSheetsService googleSheetsService,
+            GoogleMapsService googleMapsService,
+            ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderRepository = orderRepository;
+        this.emailService = emailService;
+        this.googleSheetsService = googleSheetsService;
+        this.googleMapsService = googleMapsService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Deliver new emails as soon as the transaction that wrote them commits.
+     * If the executor is saturated the poll delivers them instead.
+     */
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNotificationsEnqueued(OutboxService.EventsEnqueued enqueued) {
+        if (enqueued.containsAny(NOTIFICATIONS)) {
+            dispatchDue(NOTIFICATIONS);
+        }
+    }
+
+    /**
+     * Deliver new Google Sheets and geocoding events after commit, on their own executor.
+     */
+    @Async(AsyncConfig.INTEGRATION_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onIntegrationsEnqueued(OutboxService.EventsEnqueued enqueued) {
+        if (enqueued.containsAny(INTEGRATIONS)) {
+            dispatchDue(INTEGRATIONS);
+        }
+    }
+
+    /**
+     * Safety net for retries, expired leases and events enqueued before a restart.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:15000}", initialDelayString = "${outbox.poll-interval-ms:15000}")
+    public void poll() {
+        try {
+            dispatchDue(ALL);
+        } catch (Exception e) {
+            log.warn("⚠️ Outbox poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove delivered events once they are older than outbox.retention-days.
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgeDelivered() {
+        int deleted = outboxEventRepository.deleteProcessedBefore(
+                OutboxEvent.Status.DONE, LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("🧹 Outbox: removed {} delivered events", deleted);
+        }
+    }
+
+    /**
+     * Claim and deliver due events of the given types until none are left.
+     * Returns the number delivered.
+     */
+    public int dispatchDue(List<OutboxEvent.EventType> types) {
+        int delivered = 0;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = outboxEventRepository.findDue(CLAIMABLE, types, now, PageRequest.of(0, batchSize));
+            if (due.isEmpty()) {
+                return delivered;
+            }
+            int claimed = 0;
+            for (OutboxEvent event : due) {
+                if (outboxEventRepository.claim(event.getId(), CLAIMABLE, OutboxEvent.Status.PROCESSING,
+                        now, now.plusNanos(leaseMs * 1_000_000)) == 0) {
+                    continue; // another dispatcher got it
+                }
+                claimed++;
+                if (deliver(event, event.getAttempts() + 1)) {
+                    delivered++;
+                }
+            }
+            if (claimed == 0) {
+                return delivered;
+            }
+        }
+    }
+
+    private boolean deliver(OutboxEvent event, int attempt) {
+        try {
+            handle(event);
+            outboxEventRepository.updateOutcome(event.getId(), OutboxEvent.Status.DONE,
+                    event.getNextAttemptAt(), null, LocalDateTime.now());
+            return true;
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (error.length() > 1000) {
+                error = error.substring(0, 1000);
+            }
+            if (attempt >= maxAttempts) {
+                log.warn("❌ Outbox: {} for {} failed permanently after {} attempts: {}",
+                        event.getEventType(), event.getAggregateId(), attempt, error);
+                outboxEventRepository.updateOutcome(event.getId(), OutboxEvent.Status.FAILED,
+                        event.getNextAttemptAt(), error, LocalDateTime.now());
+            } else {
+                long delayMs = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempt - 1, 20));
+                log.warn("⚠️ Outbox: {} for {} failed (attempt {}), retrying in {}s: {}",
+                        event.getEventType(), event.getAggregateId(), attempt, delayMs / 1000, error);
+                outboxEventRepository.updateOutcome(event.getId(), OutboxEvent.Status.PENDING,
+                        LocalDateTime.now().plusNanos(delayMs * 1_000_000), error, null);
+            }
+            return false;
+        }
+    }
+
+    private void handle(OutboxEvent event) throws Exception {
+        Optional<Order> orderOpt = orderRepository.findById(event.getAggregateId());
+        if (orderOpt.isEmpty()) {
+            log.info("ℹ️ Outbox: order {} no longer exists, skipping {}", event.getAggregateId(), event.getEventType());
+            return;
+        }
+        Order order = orderOpt.get();
+
+        switch (event.getEventType()) {
+            case ORDER_GEOCODE -> geocodeDeliveryLocation(order, event.getPayload());
+            case ORDER_SHEETS_APPEND -> {
+                if (!googleSheetsService.isConfigured()) {
+                    return;
+                }
+                // Detached snapshot: report the status the change was made with,
+                // even if the order has moved on since
+                applyStatus(order, event.getPayload());
+                if (!googleSheetsService.appendOrder(order)) {
+                    throw new IllegalStateException("Google Sheets append failed");
+                }
+            }
+            case ORDER_CONFIRMATION_EMAIL -> emailService.sendOrderConfirmation(order);
+            case ORDER_STATUS_EMAIL -> {
+                applyStatus(order, event.getPayload());
+                emailService.sendOrderStatusUpdate(order);
+            }
+        }
+    }
+
+    private void geocodeDeliveryLocation(Order order, String pincode) throws Exception {
+        Map<String, Object> geocodeResult = googleMapsService.geocodePincode(pincode, "IN");
+        if (!Boolean.TRUE.equals(geocodeResult.get("success"))) {
+            throw new IllegalStateException("Failed to geocode pincode " + pincode);
+        }
+        Map<String, Object> deliveryLocation = new HashMap<>();
+        deliveryLocation.put("lat", geocodeResult.get("lat"));
+        deliveryLocation.put("lng", geocodeResult.get("lng"));
+        deliveryLocation.put("address", geocodeResult.get("address"));
+        deliveryLocation.put("pincode", pincode);
+
+        orderRepository.updateDeliveryLocation(order.getId(), objectMapper.writeValueAsString(deliveryLocation));
+        log.info("✅ Geocoded delivery pincode {} for order {} to coordinates: {}, {}",
+                pincode, order.getId(), geocodeResult.get("lat"), geocodeResult.get("lng"));
+    }
+
+    private void applyStatus(Order order, String status) {
+        if (status != null && !status.isBlank()) {
+            order.setStatus(Order.OrderStatus.valueOf(status));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.OutboxEvent;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outbox Service
+ * Records side effects in the caller's transaction. Nothing leaves the process
+ * here: the OutboxDispatcher delivers the events once the transaction commits,
+ * so slow integrations never hold a database connection.
+ */
+@Service
+public class OutboxService {
+
+    private static final List<String> COLUMNS = List.of(
+            "event_type", "aggregate_id", "payload", "status", "attempts", "next_attempt_at", "created_at");
+
+    private final NativeInsertRepository nativeInsertRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OutboxService(NativeInsertRepository nativeInsertRepository, ApplicationEventPublisher eventPublisher) {
+        this.nativeInsertRepository = nativeInsertRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Published after events are written; the dispatcher reacts to it after commit.
+     */
+    public record EventsEnqueued(Set<OutboxEvent.EventType> types) {
+        public boolean containsAny(Collection<OutboxEvent.EventType> candidates) {
+            return candidates.stream().anyMatch(types::contains);
+        }
+    }
+
+    /**
+     * Write the events (one multi-row insert) as part of the current transaction.
+     * If the transaction rolls back, so do the events.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(OutboxEvent... events) {
+        java.sql.Timestamp now = java.sql.Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.length);
+        Set<OutboxEvent.EventType> types = EnumSet.noneOf(OutboxEvent.EventType.class);
+        for (OutboxEvent event : events) {
+            types.add(event.getEventType());
+            rows.add(new Object[] {
+                event.getEventType().name(),
+                event.getAggregateId(),
+                event.getPayload(),
+                OutboxEvent.Status.PENDING.name(),
+                0,
+                now,
+                now
+            });
+        }
+        nativeInsertRepository.insertRows("outbox_events", COLUMNS, rows);
+        eventPublisher.publishEvent(new EventsEnqueued(types));
+    }
+}
@@ -0,0 +1,109 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudharshini.stockmanagement.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Product Catalog Cache
+ * Keeps GET /api/products as pre-serialized JSON bytes with a strong ETag
+ * (content hash, so it is the same on every instance). Any product or stock
+ * write calls invalidate(); the next request rebuilds the snapshot.
+ * Hits, rebuilds and 304s are counted in products.catalog.requests.
+ */
+@Service
+public class ProductCatalogCache {
+
+    /**
+     * Serialized catalog and its ETag (quoted, ready for the header).
+     */
+    public record Snapshot(long version, byte[] body, String etag) {
+    }
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    public ProductCatalogCache(ProductRepository productRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.hits = meterRegistry.counter("products.catalog.requests", "result", "hit");
+        this.misses = meterRegistry.counter("products.catalog.requests", "result", "miss");
+        this.notModified = meterRegistry.counter("products.catalog.requests", "result", "not_modified");
+    }
+
+    /**
+     * Current catalog, rebuilt from the database if a write invalidated it.
+     */
+    @Transactional(readOnly = true)
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version.get()) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+
+        long buildVersion = version.get();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(productRepository.findAll());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize product catalog", e);
+        }
+        Snapshot built = new Snapshot(buildVersion, body, etagOf(body));
+        // A write that landed while we were reading must not be hidden behind a stale snapshot
+        if (version.get() == buildVersion) {
+            snapshot = built;
+        }
+        return built;
+    }
+
+    /**
+     * Record a conditional GET answered with 304 Not Modified.
+     */
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    /**
+     * Drop the snapshot after a product or stock change. Inside a transaction
+     * the snapshot is dropped again after commit, so nothing built from
+     * pre-commit data survives.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
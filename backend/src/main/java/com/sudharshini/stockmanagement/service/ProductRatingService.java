@@ -0,0 +1,117 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Product Rating Service
+ * Keeps products.rating_sum / rating_count in step with the reviews table, so
+ * product list and detail responses carry the average rating without
+ * aggregating reviews. Each review change applies its delta with one UPDATE in
+ * the review's transaction; reconcile() recomputes every product from reviews
+ * and corrects any drift (at startup and nightly).
+ */
+@Service
+public class ProductRatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductRatingService.class);
+
+    private static final String APPLY_DELTA =
+            "UPDATE products SET rating_sum = COALESCE(rating_sum, 0) + ?, " +
+            "rating_count = COALESCE(rating_count, 0) + ? WHERE id = ?";
+
+    private static final String RECOUNTED_SUM =
+            "(SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.product_id = products.id)";
+    private static final String RECOUNTED_COUNT =
+            "(SELECT COUNT(*) FROM reviews r WHERE r.product_id = products.id)";
+
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProductRatingService(ProductCatalogCache productCatalogCache, ProductSearchIndex productSearchIndex,
+                                PlatformTransactionManager transactionManager) {
+        this.productCatalogCache = productCatalogCache;
+        this.productSearchIndex = productSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewAdded(Long productId, int rating) {
+        applyDelta(productId, rating, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewChanged(Long productId, int oldRating, int newRating) {
+        if (oldRating != newRating) {
+            applyDelta(productId, newRating - oldRating, 0);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewRemoved(Long productId, int rating) {
+        applyDelta(productId, -rating, -1);
+    }
+
+    /**
+     * Recompute rating_sum / rating_count from reviews for every product whose
+     * stored values differ. Returns the number of products corrected. The
+     * cached catalog and search index are refreshed once the fix is committed.
+     */
+    public int reconcile() {
+        int corrected = transactionTemplate.execute(status -> entityManager.createNativeQuery(
+                "UPDATE products SET rating_sum = " + RECOUNTED_SUM + ", rating_count = " + RECOUNTED_COUNT +
+                " WHERE rating_sum IS NULL OR rating_count IS NULL" +
+                " OR rating_sum <> " + RECOUNTED_SUM + " OR rating_count <> " + RECOUNTED_COUNT)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .executeUpdate());
+        if (corrected > 0) {
+            log.info("⭐ Product ratings reconciled: {} products corrected", corrected);
+            productCatalogCache.invalidate();
+            productSearchIndex.rebuild();
+        }
+        return corrected;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${reviews.rating-reconcile-cron:0 15 4 * * *}")
+    public void reconcileNightly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("⚠️ Product rating reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private void applyDelta(Long productId, long sumDelta, long countDelta) {
+        entityManager.createNativeQuery(APPLY_DELTA)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .setParameter(1, sumDelta)
+                .setParameter(2, countDelta)
+                .setParameter(3, productId)
+                .executeUpdate();
+        productCatalogCache.invalidate();
+        productSearchIndex.markChanged(productId);
+    }
+}
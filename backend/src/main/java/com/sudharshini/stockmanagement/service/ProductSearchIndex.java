@@ -0,0 +1,291 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Product Search Index
+ * In-memory inverted index over product name, description, category and SKU.
+ * Every query term matches as a prefix (so "atta 10" finds "Whole Wheat Atta
+ * 10kg"); all terms must match. Results are scored by field (name/SKU over
+ * category over description, exact term over prefix) and come with per-category
+ * facet counts.
+ * Writers call markChanged(productId); changed products are reloaded in one
+ * query at the start of the next search instead of rebuilding the index.
+ */
+@Service
+public class ProductSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float SKU_WEIGHT = 3f;
+    private static final float CATEGORY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    // A term that is only a prefix of the indexed word scores less than an exact hit
+    private static final float PREFIX_FACTOR = 0.5f;
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRepository productRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (product ID -> best field weight)
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Product> products = new HashMap<>();
+    private final Map<Long, Set<String>> termsByProduct = new HashMap<>();
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public enum Sort {
+        RELEVANCE, NAME, PRICE_ASC, PRICE_DESC
+    }
+
+    /**
+     * One page of search results plus category counts over all matches
+     * (before the category filter, so the other categories stay selectable).
+     */
+    public record SearchResult(List<Product> products, long total, int page, int size, Map<String, Long> facets) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Product> all = productRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            products.clear();
+            termsByProduct.clear();
+            for (Product product : all) {
+                add(product);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("🔎 Product search index built: {} products, {} terms", all.size(), postings.size());
+    }
+
+    /**
+     * Queue a product for re-indexing. Inside a transaction this happens after
+     * it completes, so the reload sees the committed row.
+     */
+    public void markChanged(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    changed.add(productId);
+                }
+            });
+        } else {
+            changed.add(productId);
+        }
+    }
+
+    public SearchResult search(String query, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                               Boolean inStock, Sort sort, int page, int size) {
+        if (!loaded) {
+            rebuild();
+        }
+        applyChanges();
+
+        List<String> terms = tokenize(query);
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = terms.isEmpty() ? null : match(terms);
+
+            Map<String, Long> facetCounts = new HashMap<>();
+            List<Product> matches = new ArrayList<>();
+            Iterable<Long> candidates = scores != null ? scores.keySet() : products.keySet();
+            for (Long id : candidates) {
+                Product product = products.get(id);
+                if (product == null || !matchesFilters(product, minPrice, maxPrice, inStock)) {
+                    continue;
+                }
+                String productCategory = product.getCategory();
+                if (productCategory != null) {
+                    facetCounts.merge(productCategory, 1L, Long::sum);
+                }
+                if (category == null || category.isBlank() || category.equalsIgnoreCase(productCategory)) {
+                    matches.add(product);
+                }
+            }
+
+            Sort order = sort != null ? sort : (scores != null ? Sort.RELEVANCE : Sort.NAME);
+            matches.sort(comparator(order, scores));
+
+            int from = Math.min(matches.size(), page * size);
+            int to = Math.min(matches.size(), from + size);
+            return new SearchResult(new ArrayList<>(matches.subList(from, to)), matches.size(), page, size,
+                    sortFacets(facetCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyChanges() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(changed);
+        changed.removeAll(ids);
+        List<Product> reloaded = productRepository.findAllById(ids);
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                remove(id);
+            }
+            for (Product product : reloaded) {
+                add(product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // For each query term: best score over every indexed term it is a prefix of.
+    // Products must match all query terms; their score is the sum.
+    private Map<Long, Float> match(List<String> terms) {
+        Map<Long, Float> result = null;
+        for (String term : terms) {
+            Map<Long, Float> termScores = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Float>> entry
+                    : postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                float factor = entry.getKey().equals(term) ? 1f : PREFIX_FACTOR;
+                for (Map.Entry<Long, Float> posting : entry.getValue().entrySet()) {
+                    termScores.merge(posting.getKey(), posting.getValue() * factor, Math::max);
+                }
+            }
+            if (result == null) {
+                result = termScores;
+            } else {
+                result.keySet().retainAll(termScores.keySet());
+                for (Map.Entry<Long, Float> entry : result.entrySet()) {
+                    entry.setValue(entry.getValue() + termScores.get(entry.getKey()));
+                }
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private boolean matchesFilters(Product product, BigDecimal minPrice, BigDecimal maxPrice, Boolean inStock) {
+        BigDecimal price = product.getPrice();
+        if (minPrice != null && (price == null || price.compareTo(minPrice) < 0)) {
+            return false;
+        }
+        if (maxPrice != null && (price == null || price.compareTo(maxPrice) > 0)) {
+            return false;
+        }
+        if (inStock != null) {
+            boolean hasStock = product.getStockQuantity() != null && product.getStockQuantity() > 0;
+            return hasStock == inStock;
+        }
+        return true;
+    }
+
+    private Comparator<Product> comparator(Sort sort, Map<Long, Float> scores) {
+        Comparator<Product> byName = Comparator.comparing(
+                (Product p) -> p.getName() != null ? p.getName().toLowerCase(Locale.ROOT) : "");
+        Comparator<Product> byPrice = Comparator.comparing(
+                (Product p) -> p.getPrice() != null ? p.getPrice() : BigDecimal.ZERO);
+        return switch (sort) {
+            case RELEVANCE -> scores == null ? byName
+                    : Comparator.comparing((Product p) -> scores.getOrDefault(p.getId(), 0f)).reversed().thenComparing(byName);
+            case NAME -> byName;
+            case PRICE_ASC -> byPrice.thenComparing(byName);
+            case PRICE_DESC -> byPrice.reversed().thenComparing(byName);
+        };
+    }
+
+    private Map<String, Long> sortFacets(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    // Callers hold the write lock
+    private void add(Product product) {
+        Map<String, Float> weights = new HashMap<>();
+        index(weights, product.getName(), NAME_WEIGHT);
+        index(weights, product.getSku(), SKU_WEIGHT);
+        index(weights, product.getCategory(), CATEGORY_WEIGHT);
+        index(weights, product.getDescription(), DESCRIPTION_WEIGHT);
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(product.getId(), entry.getValue());
+        }
+        products.put(product.getId(), product);
+        termsByProduct.put(product.getId(), weights.keySet());
+    }
+
+    private void remove(Long productId) {
+        products.remove(productId);
+        Set<String> terms = termsByProduct.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void index(Map<String, Float> weights, String text, float weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Math::max);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
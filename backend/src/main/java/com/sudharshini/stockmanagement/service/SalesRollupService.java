@@ -0,0 +1,438 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.DailyProductStats;
+import com.sudharshini.stockmanagement.entity.DailySales;
+import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.entity.StockMovement;
+import com.sudharshini.stockmanagement.repository.DailyProductStatsRepository;
+import com.sudharshini.stockmanagement.repository.DailySalesRepository;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
+import com.sudharshini.stockmanagement.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Sales Rollup Service
+ * Maintains per-day totals (daily_sales) and per-day, per-product totals
+ * (daily_product_stats) as orders and stock movements are written, so time-series
+ * reports read only the rollup tables. Like the inventory metrics, each
+ * transaction's changes are summed and written with one upsert per table just
+ * before commit. backfill() recomputes a date range from orders, order items
+ * and stock movements.
+ * Orders count on the day they are placed; cancellations do not reverse them
+ * (cancelling does not return stock either).
+ */
+@Service
+public class SalesRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupService.class);
+
+    public enum Granularity {
+        DAY, WEEK, MONTH
+    }
+
+    /** One order line as recorded in order_items. */
+    public record OrderLine(Long productId, int quantity, BigDecimal total) {
+    }
+
+    // Longest range a report or backfill may cover
+    static final int MAX_RANGE_DAYS = 3660;
+
+    private static final List<String> DAILY_SALES_COLUMNS = List.of(
+            "day", "order_count", "units_sold", "revenue_minor");
+    private static final List<String> PRODUCT_STATS_COLUMNS = List.of(
+            "day", "product_id", "units_sold", "revenue_minor", "order_count", "units_in", "units_out");
+
+    private static final int FETCH_SIZE = 500;
+
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyProductStatsRepository dailyProductStatsRepository;
+    private final ProductRepository productRepository;
+    private final NativeInsertRepository nativeInsertRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SalesRollupService(DailySalesRepository dailySalesRepository,
+                              DailyProductStatsRepository dailyProductStatsRepository,
+                              ProductRepository productRepository,
+                              NativeInsertRepository nativeInsertRepository) {
+        this.dailySalesRepository = dailySalesRepository;
+        this.dailyProductStatsRepository = dailyProductStatsRepository;
+        this.productRepository = productRepository;
+        this.nativeInsertRepository = nativeInsertRepository;
+    }
+
+    /**
+     * An order with the given lines was placed on day.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderPlaced(LocalDate day, List<OrderLine> lines) {
+        pendingRollup().addOrder(day, lines);
+    }
+
+    /**
+     * quantity units moved in or out of stock for the product on day.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void stockMoved(LocalDate day, Long productId, StockMovement.MovementType type, int quantity) {
+        pendingRollup().addMovement(day, productId, type, quantity);
+    }
+
+    /**
+     * Orders, units sold and revenue per period between from and to (inclusive).
+     * Periods without sales are included with zeros.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> salesSeries(LocalDate from, LocalDate to, Granularity granularity) {
+        checkRange(from, to);
+        Map<LocalDate, long[]> buckets = emptyBuckets(from, to, granularity, 3);
+        for (DailySales day : dailySalesRepository.findByDayBetweenOrderByDay(from, to)) {
+            long[] bucket = buckets.get(periodStart(day.getDay(), granularity));
+            bucket[0] += day.getOrderCount();
+            bucket[1] += day.getUnitsSold();
+            bucket[2] += day.getRevenueMinor();
+        }
+
+        List<Map<String, Object>> series = new ArrayList<>(buckets.size());
+        buckets.forEach((period, totals) -> {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("period", period);
+            point.put("orderCount", totals[0]);
+            point.put("unitsSold", totals[1]);
+            point.put("revenue", fromMinor(totals[2]));
+            series.add(point);
+        });
+        return series;
+    }
+
+    /**
+     * Sales and stock movement totals per period for one product.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> productSeries(Long productId, LocalDate from, LocalDate to, Granularity granularity) {
+        checkRange(from, to);
+        Map<LocalDate, long[]> buckets = emptyBuckets(from, to, granularity, 5);
+        for (DailyProductStats day : dailyProductStatsRepository.findByProductIdAndDayBetweenOrderByDay(productId, from, to)) {
+            long[] bucket = buckets.get(periodStart(day.getDay(), granularity));
+            bucket[0] += day.getUnitsSold();
+            bucket[1] += day.getRevenueMinor();
+            bucket[2] += day.getOrderCount();
+            bucket[3] += day.getUnitsIn();
+            bucket[4] += day.getUnitsOut();
+        }
+
+        List<Map<String, Object>> series = new ArrayList<>(buckets.size());
+        buckets.forEach((period, totals) -> {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("period", period);
+            point.put("unitsSold", totals[0]);
+            point.put("revenue", fromMinor(totals[1]));
+            point.put("orderCount", totals[2]);
+            point.put("unitsIn", totals[3]);
+            point.put("unitsOut", totals[4]);
+            series.add(point);
+        });
+        return series;
+    }
+
+    /**
+     * Best-selling products between from and to, ranked by units sold or revenue.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> topProducts(LocalDate from, LocalDate to, boolean byRevenue, int limit) {
+        checkRange(from, to);
+        PageRequest page = PageRequest.of(0, limit);
+        List<Object[]> rows = byRevenue
+                ? dailyProductStatsRepository.findTopByRevenue(from, to, page)
+                : dailyProductStatsRepository.findTopByUnitsSold(from, to, page);
+
+        List<Long> productIds = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            productIds.add((Long) row[0]);
+        }
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            products.put(product.getId(), product);
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Product product = products.get((Long) row[0]);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("productId", row[0]);
+            entry.put("productName", product != null ? product.getName() : null);
+            entry.put("sku", product != null ? product.getSku() : null);
+            entry.put("unitsSold", ((Number) row[1]).longValue());
+            entry.put("revenue", fromMinor(((Number) row[2]).longValue()));
+            entry.put("orderCount", ((Number) row[3]).longValue());
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * Recompute the rollups for from..to (inclusive) from orders, order items and
+     * stock movements. Null bounds default to the first recorded activity and
+     * today. On SQLite the transaction holds the write lock from BEGIN; on
+     * PostgreSQL the rollup rows in the range are deleted first, which locks them
+     * against concurrent upserts. Either way an order committing meanwhile is
+     * counted exactly once.
+     */
+    @Transactional
+    public Map<String, Object> backfill(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : firstActivityDay();
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (start == null) {
+            result.put("days", 0);
+            result.put("productDays", 0);
+            return result;
+        }
+        checkRange(start, end);
+
+        if (nativeInsertRepository.isPostgres()) {
+            entityManager.createNativeQuery("LOCK TABLE daily_sales, daily_product_stats IN SHARE ROW EXCLUSIVE MODE")
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace("daily_sales")
+                    .addSynchronizedQuerySpace("daily_product_stats")
+                    .executeUpdate();
+        }
+        dailySalesRepository.deleteByDayBetween(start, end);
+        dailyProductStatsRepository.deleteByDayBetween(start, end);
+
+        LocalDateTime rangeStart = start.atStartOfDay();
+        LocalDateTime rangeEnd = end.plusDays(1).atStartOfDay();
+        PendingRollup rollup = new PendingRollup();
+
+        try (Stream<Object[]> orders = stream(
+                "SELECT o.id, o.createdAt FROM Order o WHERE o.createdAt >= :start AND o.createdAt < :end",
+                rangeStart, rangeEnd)) {
+            orders.forEach(row -> rollup.day(((LocalDateTime) row[1]).toLocalDate())[0]++);
+        }
+
+        Set<String> orderProducts = new HashSet<>();
+        try (Stream<Object[]> items = stream(
+                "SELECT o.id, o.createdAt, i.product.id, i.quantity, i.totalPrice FROM OrderItem i JOIN i.order o " +
+                "WHERE o.createdAt >= :start AND o.createdAt < :end",
+                rangeStart, rangeEnd)) {
+            items.forEach(row -> {
+                LocalDate day = ((LocalDateTime) row[1]).toLocalDate();
+                Long productId = (Long) row[2];
+                int quantity = ((Number) row[3]).intValue();
+                long revenue = toMinor((BigDecimal) row[4]);
+                long[] daily = rollup.day(day);
+                daily[1] += quantity;
+                daily[2] += revenue;
+                long[] stats = rollup.productDay(day, productId);
+                stats[0] += quantity;
+                stats[1] += revenue;
+                if (orderProducts.add(row[0] + ":" + productId)) {
+                    stats[2]++;
+                }
+            });
+        }
+
+        try (Stream<Object[]> movements = stream(
+                "SELECT m.createdAt, m.product.id, m.type, m.quantity FROM StockMovement m " +
+                "WHERE m.createdAt >= :start AND m.createdAt < :end",
+                rangeStart, rangeEnd)) {
+            movements.forEach(row -> rollup.addMovement(((LocalDateTime) row[0]).toLocalDate(), (Long) row[1],
+                    (StockMovement.MovementType) row[2], ((Number) row[3]).intValue()));
+        }
+
+        write(rollup);
+        log.info("📊 Sales rollups rebuilt for {} to {}: {} days, {} product-days",
+                start, end, rollup.days.size(), rollup.productDays.size());
+        result.put("from", start);
+        result.put("to", end);
+        result.put("days", rollup.days.size());
+        result.put("productDays", rollup.productDays.size());
+        return result;
+    }
+
+    /**
+     * Existing database without rollups yet: build them from history once.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (dailySalesRepository.count() == 0 && dailyProductStatsRepository.count() == 0 && firstActivityDay() != null) {
+            backfill(null, null);
+        }
+    }
+
+    private LocalDate firstActivityDay() {
+        LocalDateTime firstOrder = entityManager.createQuery("SELECT MIN(o.createdAt) FROM Order o", LocalDateTime.class)
+                .getSingleResult();
+        LocalDateTime firstMovement = entityManager.createQuery("SELECT MIN(m.createdAt) FROM StockMovement m", LocalDateTime.class)
+                .getSingleResult();
+        LocalDateTime first = firstOrder == null ? firstMovement
+                : firstMovement == null || firstOrder.isBefore(firstMovement) ? firstOrder : firstMovement;
+        return first != null ? first.toLocalDate() : null;
+    }
+
+    private Stream<Object[]> stream(String jpql, LocalDateTime start, LocalDateTime end) {
+        return entityManager.createQuery(jpql, Object[].class)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    private static Map<LocalDate, long[]> emptyBuckets(LocalDate from, LocalDate to, Granularity granularity, int width) {
+        Map<LocalDate, long[]> buckets = new LinkedHashMap<>();
+        for (LocalDate period = periodStart(from, granularity); !period.isAfter(to); period = nextPeriod(period, granularity)) {
+            buckets.put(period, new long[width]);
+        }
+        return buckets;
+    }
+
+    private static LocalDate periodStart(LocalDate day, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(DayOfWeek.MONDAY);
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate nextPeriod(LocalDate period, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> period.plusDays(1);
+            case WEEK -> period.plusWeeks(1);
+            case MONTH -> period.plusMonths(1);
+        };
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static BigDecimal fromMinor(long minor) {
+        return BigDecimal.valueOf(minor, 2);
+    }
+
+    /**
+     * The rollup collected so far in the current transaction, registering the
+     * before-commit write on first use.
+     */
+    private PendingRollup pendingRollup() {
+        PendingRollup rollup = (PendingRollup) TransactionSynchronizationManager.getResource(this);
+        if (rollup != null) {
+            return rollup;
+        }
+        PendingRollup created = new PendingRollup();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SalesRollupService.this);
+            }
+        });
+        return created;
+    }
+
+    private void write(PendingRollup rollup) {
+        // Rows go out in key order, so concurrent transactions lock them in the same order
+        List<Object[]> dayRows = new ArrayList<>(rollup.days.size());
+        rollup.days.forEach((day, totals) -> dayRows.add(new Object[] {day, totals[0], totals[1], totals[2]}));
+        List<Object[]> productRows = new ArrayList<>(rollup.productDays.size());
+        rollup.productDays.forEach((key, totals) -> productRows.add(new Object[] {
+            key.day(), key.productId(), totals[0], totals[1], totals[2], totals[3], totals[4]
+        }));
+
+        nativeInsertRepository.upsertAdding("daily_sales", DAILY_SALES_COLUMNS, dayRows, List.of("day"));
+        nativeInsertRepository.upsertAdding("daily_product_stats", PRODUCT_STATS_COLUMNS, productRows,
+                List.of("day", "product_id"));
+    }
+
+    private record ProductDay(LocalDate day, Long productId) {
+    }
+
+    /**
+     * Totals keyed by day ([orders, units sold, revenue]) and by day and product
+     * ([units sold, revenue, orders, units in, units out]).
+     */
+    private static final class PendingRollup {
+        final Map<LocalDate, long[]> days = new TreeMap<>();
+        final Map<ProductDay, long[]> productDays = new TreeMap<>(
+                Comparator.comparing(ProductDay::day).thenComparing(ProductDay::productId));
+
+        long[] day(LocalDate day) {
+            return days.computeIfAbsent(day, d -> new long[3]);
+        }
+
+        long[] productDay(LocalDate day, Long productId) {
+            return productDays.computeIfAbsent(new ProductDay(day, productId), k -> new long[5]);
+        }
+
+        void addOrder(LocalDate day, List<OrderLine> lines) {
+            long[] daily = day(day);
+            daily[0]++;
+            Set<Long> counted = new HashSet<>();
+            for (OrderLine line : lines) {
+                long revenue = toMinor(line.total());
+                daily[1] += line.quantity();
+                daily[2] += revenue;
+                long[] stats = productDay(day, line.productId());
+                stats[0] += line.quantity();
+                stats[1] += revenue;
+                if (counted.add(line.productId())) {
+                    stats[2]++;
+                }
+            }
+        }
+
+        void addMovement(LocalDate day, Long productId, StockMovement.MovementType type, int quantity) {
+            long[] stats = productDay(day, productId);
+            if (type == StockMovement.MovementType.IN) {
+                stats[3] += quantity;
+            } else {
+                stats[4] += quantity;
+            }
+        }
+    }
+}
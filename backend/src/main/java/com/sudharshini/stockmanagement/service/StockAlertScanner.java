@@ -0,0 +1,140 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.entity.StockAlert;
+import com.sudharshini.stockmanagement.repository.ProductRepository;
+import com.sudharshini.stockmanagement.repository.StockAlertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Stock Alert Scanner
+ * Periodically finds low-stock and near-expiry products (indexed range queries
+ * on stock_quantity and expiry_date) and mails the admin one digest of the
+ * products not already alerted within alerts.dedupe-hours. Checkout and stock
+ * OUT never send alerts themselves. A product is alerted again once the window
+ * has passed, or right away if it recovered and then dipped again.
+ */
+@Service
+public class StockAlertScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(StockAlertScanner.class);
+
+    private static final int SCAN_PAGE_SIZE = 200;
+    private static final Sort LOW_STOCK_ORDER = Sort.by("stockQuantity", "id");
+    private static final Sort NEAR_EXPIRY_ORDER = Sort.by("expiryDate", "id");
+
+    private final ProductRepository productRepository;
+    private final StockAlertRepository stockAlertRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${alerts.dedupe-hours:24}")
+    private int dedupeHours;
+
+    // Products beyond this per section wait for the next digest
+    @Value("${alerts.digest-max-items:100}")
+    private int digestMaxItems;
+
+    public StockAlertScanner(ProductRepository productRepository, StockAlertRepository stockAlertRepository,
+                             EmailService emailService, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.stockAlertRepository = stockAlertRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Products included in one digest.
+     */
+    public record ScanResult(int lowStock, int nearExpiry) {
+    }
+
+    @Scheduled(fixedDelayString = "${alerts.scan-interval-ms:900000}", initialDelayString = "${alerts.scan-initial-delay-ms:60000}")
+    public void scheduledScan() {
+        try {
+            scan();
+        } catch (Exception e) {
+            log.warn("⚠️ Stock alert scan failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Scan once and send a digest if anything new needs attention. Alerts are
+     * recorded only after the email went out, so a failed send is retried on
+     * the next scan.
+     */
+    public ScanResult scan() {
+        LocalDate today = LocalDate.now();
+        LocalDate expiryEnd = today.plusDays(ProductRepository.NEAR_EXPIRY_DAYS);
+        LocalDateTime now = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            stockAlertRepository.deleteRecoveredLowStock(StockAlert.AlertType.LOW_STOCK, Product.LOW_STOCK_THRESHOLD);
+            stockAlertRepository.deleteClearedExpiry(StockAlert.AlertType.NEAR_EXPIRY, today, expiryEnd);
+        });
+
+        List<Product> lowStock = newCandidates(StockAlert.AlertType.LOW_STOCK, now,
+                pageable -> productRepository.findByStockQuantityLessThan(Product.LOW_STOCK_THRESHOLD, pageable),
+                LOW_STOCK_ORDER);
+        List<Product> nearExpiry = newCandidates(StockAlert.AlertType.NEAR_EXPIRY, now,
+                pageable -> productRepository.findByExpiryDateBetween(today, expiryEnd, pageable),
+                NEAR_EXPIRY_ORDER);
+        if (lowStock.isEmpty() && nearExpiry.isEmpty()) {
+            return new ScanResult(0, 0);
+        }
+
+        emailService.sendStockAlertDigest(lowStock, nearExpiry);
+
+        List<StockAlert> sent = new ArrayList<>(lowStock.size() + nearExpiry.size());
+        lowStock.forEach(product -> sent.add(new StockAlert(product.getId(), StockAlert.AlertType.LOW_STOCK, now)));
+        nearExpiry.forEach(product -> sent.add(new StockAlert(product.getId(), StockAlert.AlertType.NEAR_EXPIRY, now)));
+        transactionTemplate.executeWithoutResult(status -> stockAlertRepository.saveAll(sent));
+
+        log.info("🔔 Stock alert digest sent: {} low stock, {} near expiry", lowStock.size(), nearExpiry.size());
+        return new ScanResult(lowStock.size(), nearExpiry.size());
+    }
+
+    /**
+     * Products matching the condition that were not alerted within the dedupe
+     * window, up to alerts.digest-max-items.
+     */
+    private List<Product> newCandidates(StockAlert.AlertType type, LocalDateTime now,
+                                        Function<Pageable, Page<Product>> query, Sort order) {
+        Set<Long> recent = new HashSet<>(stockAlertRepository.findRecentlyAlerted(type, now.minusHours(dedupeHours)));
+        List<Product> candidates = new ArrayList<>();
+        Pageable pageable = PageRequest.of(0, SCAN_PAGE_SIZE, order);
+        while (true) {
+            Page<Product> page = query.apply(pageable);
+            for (Product product : page.getContent()) {
+                if (!recent.contains(product.getId())) {
+                    candidates.add(product);
+                    if (candidates.size() >= digestMaxItems) {
+                        return candidates;
+                    }
+                }
+            }
+            if (!page.hasNext()) {
+                return candidates;
+            }
+            pageable = page.nextPageable();
+        }
+    }
+}
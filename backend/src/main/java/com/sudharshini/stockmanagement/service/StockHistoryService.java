@@ -0,0 +1,203 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.entity.StockMovement;
+import com.sudharshini.stockmanagement.entity.StockSnapshot;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
+import com.sudharshini.stockmanagement.repository.ProductRepository;
+import com.sudharshini.stockmanagement.repository.StockMovementRepository;
+import com.sudharshini.stockmanagement.repository.StockSnapshotRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stock History Service
+ * Paged stock movement history and point-in-time stock levels. A snapshot job
+ * records the stock of every product that moved since its last snapshot, so the
+ * stock at any time is one snapshot plus or minus the movements between it and
+ * that time, instead of a replay of the product's whole ledger.
+ */
+@Service
+public class StockHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockHistoryService.class);
+
+    // Newest first; id breaks ties between movements of the same millisecond
+    private static final Sort HISTORY_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    // Products that have never been snapshotted or have moved since their last
+    // snapshot, each with the highest movement id the quantity includes
+    private static final String INSERT_SNAPSHOTS =
+            "INSERT INTO stock_snapshots (product_id, snapshot_at, quantity, last_movement_id) " +
+            "SELECT p.id, ?, COALESCE(p.stock_quantity, 0), " +
+            "(SELECT COALESCE(MAX(m.id), 0) FROM stock_movements m) FROM products p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM stock_snapshots s WHERE s.product_id = p.id) " +
+            "OR EXISTS (SELECT 1 FROM stock_movements m WHERE m.product_id = p.id AND m.id > " +
+            "(SELECT COALESCE(MAX(s.last_movement_id), 0) FROM stock_snapshots s WHERE s.product_id = p.id))";
+
+    private final StockMovementRepository stockMovementRepository;
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final ProductRepository productRepository;
+    private final NativeInsertRepository nativeInsertRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${stock.snapshot-retention-days:730}")
+    private int retentionDays;
+
+    public StockHistoryService(StockMovementRepository stockMovementRepository,
+                               StockSnapshotRepository stockSnapshotRepository,
+                               ProductRepository productRepository,
+                               NativeInsertRepository nativeInsertRepository) {
+        this.stockMovementRepository = stockMovementRepository;
+        this.stockSnapshotRepository = stockSnapshotRepository;
+        this.productRepository = productRepository;
+        this.nativeInsertRepository = nativeInsertRepository;
+    }
+
+    /**
+     * One page of the product's movements in [from, to), newest first.
+     */
+    @Transactional(readOnly = true)
+    public Page<StockMovement> history(Long productId, LocalDateTime from, LocalDateTime to, int page, int size) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        return stockMovementRepository.findHistory(productId, from, to, PageRequest.of(page, size, HISTORY_ORDER));
+    }
+
+    /**
+     * The product's stock quantity at the given time. Starts from the latest
+     * snapshot at or before that time and adds the movements since; before the
+     * first snapshot it works back from the earliest one, and with no snapshots
+     * at all from the current stock. Either way one snapshot (or the product
+     * row) plus the movements between it and the requested time. Whether a
+     * movement is in a snapshot is decided by its id against the snapshot's
+     * last movement id, not by comparing timestamps.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> stockAt(Long productId, LocalDateTime at) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found"));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("productId", productId);
+        result.put("at", at);
+
+        if (product.getCreatedAt() != null && at.isBefore(product.getCreatedAt())) {
+            result.put("quantity", 0);
+            result.put("basis", "created");
+            result.put("basisAt", product.getCreatedAt());
+            result.put("movementsApplied", 0L);
+            return result;
+        }
+
+        long quantity;
+        long[] change;
+        Optional<StockSnapshot> before = stockSnapshotRepository
+                .findFirstByProductIdAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(productId, at);
+        if (before.isPresent()) {
+            StockSnapshot snapshot = before.get();
+            change = netChange(snapshot.getLastMovementId() != null
+                    ? stockMovementRepository.netChangeSince(
+                            productId, snapshot.getLastMovementId(), at, StockMovement.MovementType.IN)
+                    : stockMovementRepository.netChangeBetween(
+                            productId, snapshot.getSnapshotAt(), at, StockMovement.MovementType.IN));
+            quantity = snapshot.getQuantity() + change[0];
+            result.put("basis", "snapshot");
+            result.put("basisAt", snapshot.getSnapshotAt());
+        } else {
+            Optional<StockSnapshot> after = stockSnapshotRepository
+                    .findFirstByProductIdAndSnapshotAtGreaterThanOrderBySnapshotAtAsc(productId, at);
+            if (after.isPresent()) {
+                StockSnapshot snapshot = after.get();
+                change = netChange(snapshot.getLastMovementId() != null
+                        ? stockMovementRepository.netChangeThrough(
+                                productId, snapshot.getLastMovementId(), at, StockMovement.MovementType.IN)
+                        : stockMovementRepository.netChangeBetween(
+                                productId, at, snapshot.getSnapshotAt(), StockMovement.MovementType.IN));
+                quantity = snapshot.getQuantity() - change[0];
+                result.put("basis", "snapshot");
+                result.put("basisAt", snapshot.getSnapshotAt());
+            } else {
+                change = netChange(stockMovementRepository.netChangeAfter(
+                        productId, at, StockMovement.MovementType.IN));
+                quantity = (product.getStockQuantity() != null ? product.getStockQuantity() : 0) - change[0];
+                result.put("basis", "current");
+                result.put("basisAt", LocalDateTime.now());
+            }
+        }
+
+        result.put("quantity", quantity);
+        result.put("movementsApplied", change[1]);
+        return result;
+    }
+
+    /**
+     * Snapshot the stock of every product that has no snapshot yet or has moved
+     * since its last one, and drop snapshots older than
+     * stock.snapshot-retention-days. Returns the number of snapshots written.
+     * Product writes are held off while the snapshot is taken, so no stock
+     * change is in flight: every movement with an id up to the snapshot's
+     * last_movement_id is in it, and every later movement gets a higher id.
+     */
+    @Scheduled(cron = "${stock.snapshot-cron:0 45 1 * * *}")
+    @Transactional
+    public int takeSnapshots() {
+        lockProducts();
+        LocalDateTime snapshotAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        int written = entityManager.createNativeQuery(INSERT_SNAPSHOTS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("stock_snapshots")
+                .setParameter(1, java.sql.Timestamp.valueOf(snapshotAt))
+                .executeUpdate();
+
+        int purged = 0;
+        if (retentionDays > 0) {
+            purged = stockSnapshotRepository.deleteBySnapshotAtBefore(snapshotAt.minusDays(retentionDays));
+        }
+        log.info("📸 Stock snapshots: {} written, {} expired", written, purged);
+        return written;
+    }
+
+    /**
+     * Wait for in-flight stock changes to commit and block new ones until this
+     * transaction ends. PostgreSQL: a SHARE lock on products. SQLite: nothing to
+     * do, the transaction already holds the single write lock from BEGIN
+     * (TransactionConfig).
+     */
+    private void lockProducts() {
+        if (!nativeInsertRepository.isPostgres()) {
+            return;
+        }
+        // Declares the table it locks; a native statement without query spaces
+        // would invalidate every cached region instead
+        entityManager.createNativeQuery("LOCK TABLE products IN SHARE MODE")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .executeUpdate();
+    }
+
+    private static long[] netChange(List<Object[]> rows) {
+        Object[] row = rows.get(0);
+        return new long[] {((Number) row[0]).longValue(), ((Number) row[1]).longValue()};
+    }
+}
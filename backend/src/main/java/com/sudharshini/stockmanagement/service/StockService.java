@@ -0,0 +1,270 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.entity.StockMovement;
+import com.sudharshini.stockmanagement.exception.InsufficientStockException;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stock Service
+ * Single entry point for changing Product.stockQuantity. Every change is one
+ * conditional UPDATE so concurrent buyers of the same SKU cannot oversell.
+ * Changes are written to the stock_movements ledger with recordMovement, which
+ * point-in-time stock queries replay from the nearest snapshot.
+ */
+@Service
+public class StockService {
+
+    // Four bind parameters per product; stays under SQLite's 999
+    private static final int MAX_PRODUCTS_PER_STATEMENT = 200;
+
+    // Conditional single-statement stock updates. The availability check and
+    // the decrement happen in the same UPDATE, so two concurrent checkouts can
+    // never both take the last unit, with no read-check-save cycle. The row
+    // lock the UPDATE takes is held until the surrounding transaction ends, so
+    // callers that change several products must do it in a consistent (id)
+    // order. 0 rows affected means the product is missing or does not have
+    // enough stock.
+    private static final String DECREMENT_IF_AVAILABLE =
+            "UPDATE products SET stock_quantity = stock_quantity - ?, updated_at = ? WHERE id = ? AND stock_quantity >= ?";
+    private static final String INCREMENT =
+            "UPDATE products SET stock_quantity = stock_quantity + ?, updated_at = ? WHERE id = ?";
+
+    // Query space of the stock UPDATEs. No entity maps to it, so Hibernate
+    // evicts no cache region for them (a bulk update of Product empties the
+    // whole products region); the changed products are evicted by id instead.
+    private static final String STOCK_QUERY_SPACE = "product_stock";
+
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final InventoryMetricsService inventoryMetricsService;
+    private final SalesRollupService salesRollupService;
+    private final NativeInsertRepository nativeInsertRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StockService(ProductCatalogCache productCatalogCache, ProductSearchIndex productSearchIndex,
+                        InventoryMetricsService inventoryMetricsService, SalesRollupService salesRollupService,
+                        NativeInsertRepository nativeInsertRepository) {
+        this.productCatalogCache = productCatalogCache;
+        this.productSearchIndex = productSearchIndex;
+        this.inventoryMetricsService = inventoryMetricsService;
+        this.salesRollupService = salesRollupService;
+        this.nativeInsertRepository = nativeInsertRepository;
+    }
+
+    /**
+     * Take quantity units from the product, failing fast when the row does not
+     * have enough stock at the moment of the update.
+     * A failed reservation does not mark the caller's transaction rollback-only,
+     * so a controller may catch it and still answer normally; callers that
+     * let it propagate (e.g. order creation) roll back as usual.
+     */
+    @Transactional(noRollbackFor = InsufficientStockException.class)
+    public void reserve(Long productId, int quantity) {
+        reserve(productId, quantity, "Insufficient stock for product: " + productId);
+    }
+
+    /**
+     * Same as {@link #reserve(Long, int)} for a product already loaded in the
+     * current persistence context. The bulk UPDATE bypasses that entity, so it
+     * is detached and its in-memory quantity adjusted; otherwise a later flush
+     * would write the stale value back over concurrent decrements.
+     */
+    @Transactional(noRollbackFor = InsufficientStockException.class)
+    public void reserve(Product product, int quantity) {
+        reserve(product.getId(), quantity, "Insufficient stock for: " + product.getName());
+        if (entityManager.contains(product)) {
+            entityManager.detach(product);
+        }
+        product.setStockQuantity(product.getStockQuantity() - quantity);
+    }
+
+    /**
+     * Take the given units of several products, each already loaded in the
+     * current persistence context as for {@link #reserve(Product, int)}, with
+     * one conditional UPDATE (checkout). A product that is missing or short
+     * fails the whole reservation with InsufficientStockException; the
+     * statement may have taken the other products already, so unlike the
+     * single reservations this rolls the transaction back. The UPDATE returns
+     * each product's price and new stock, so the inventory metrics need no
+     * extra read. Older SQLite builds without RETURNING reserve the products
+     * one by one.
+     */
+    @Transactional
+    public void reserve(Map<Product, Integer> quantities) {
+        List<Product> products = new ArrayList<>(quantities.keySet());
+        products.sort(Comparator.comparing(Product::getId));
+        for (Product product : products) {
+            if (quantities.get(product) <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive");
+            }
+        }
+        if (!nativeInsertRepository.supportsReturning()) {
+            for (Product product : products) {
+                reserve(product, quantities.get(product));
+            }
+            return;
+        }
+        for (int start = 0; start < products.size(); start += MAX_PRODUCTS_PER_STATEMENT) {
+            reserveReturning(products.subList(start, Math.min(products.size(), start + MAX_PRODUCTS_PER_STATEMENT)), quantities);
+        }
+        productCatalogCache.invalidate();
+    }
+
+    /**
+     * Add quantity units to the product. Returns false if the product does not exist.
+     */
+    @Transactional
+    public boolean restock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        boolean updated = updateStock(INCREMENT, quantity, java.sql.Timestamp.valueOf(LocalDateTime.now()), productId) > 0;
+        if (updated) {
+            evictCachedProducts(List.of(productId));
+            inventoryMetricsService.stockChanged(productId, quantity);
+            productCatalogCache.invalidate();
+            productSearchIndex.markChanged(productId);
+        }
+        return updated;
+    }
+
+    /**
+     * Write a stock movement for a change already applied to the product in the
+     * current transaction, and count it in the daily rollups. Take the timestamp
+     * after the stock UPDATE: the row lock it holds until commit is what keeps
+     * the movement on the right side of a concurrent stock snapshot.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordMovement(Long productId, StockMovement.MovementType type, int quantity,
+                               String reason, String notes, LocalDateTime at) {
+        // Use native SQL to avoid getGeneratedKeys() issue with SQLite
+        nativeInsertRepository.insertRows("stock_movements",
+                List.of("product_id", "type", "quantity", "reason", "notes", "created_at"),
+                List.<Object[]>of(new Object[] {
+                    productId, type.name(), quantity, reason, notes != null ? notes : "", java.sql.Timestamp.valueOf(at)
+                }));
+        salesRollupService.stockMoved(at.toLocalDate(), productId, type, quantity);
+    }
+
+    private void reserveReturning(List<Product> products, Map<Product, Integer> quantities) {
+        StringBuilder change = new StringBuilder("CASE id");
+        for (int i = 0; i < products.size(); i++) {
+            change.append(" WHEN ? THEN ?");
+        }
+        change.append(" END");
+        String sql = "UPDATE products SET stock_quantity = stock_quantity - " + change + ", updated_at = ? " +
+                "WHERE id IN (" + String.join(", ", Collections.nCopies(products.size(), "?")) + ") " +
+                "AND stock_quantity >= " + change + " RETURNING id, price, stock_quantity";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(STOCK_QUERY_SPACE);
+        int position = bindChange(query, 1, products, quantities);
+        query.setParameter(position++, java.sql.Timestamp.valueOf(LocalDateTime.now()));
+        for (Product product : products) {
+            query.setParameter(position++, product.getId());
+        }
+        bindChange(query, position, products, quantities);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        Map<Long, Object[]> updated = new HashMap<>();
+        for (Object[] row : rows) {
+            updated.put(((Number) row[0]).longValue(), row);
+        }
+        evictCachedProducts(updated.keySet());
+        for (Product product : products) {
+            int quantity = quantities.get(product);
+            Object[] row = updated.get(product.getId());
+            if (row == null) {
+                throw new InsufficientStockException(product.getId(), quantity, "Insufficient stock for: " + product.getName());
+            }
+            int stock = ((Number) row[2]).intValue();
+            inventoryMetricsService.stockChanged(toBigDecimal(row[1]), stock, -quantity);
+            productSearchIndex.markChanged(product.getId());
+            // The UPDATE bypassed the loaded entity; see reserve(Product, int)
+            if (entityManager.contains(product)) {
+                entityManager.detach(product);
+            }
+            product.setStockQuantity(stock);
+        }
+    }
+
+    private static int bindChange(Query query, int position, List<Product> products, Map<Product, Integer> quantities) {
+        for (Product product : products) {
+            query.setParameter(position++, product.getId());
+            query.setParameter(position++, quantities.get(product));
+        }
+        return position;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value == null || value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+
+    private void reserve(Long productId, int quantity, String message) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        int updated = updateStock(DECREMENT_IF_AVAILABLE,
+                quantity, java.sql.Timestamp.valueOf(LocalDateTime.now()), productId, quantity);
+        if (updated == 0) {
+            throw new InsufficientStockException(productId, quantity, message);
+        }
+        evictCachedProducts(List.of(productId));
+        inventoryMetricsService.stockChanged(productId, -quantity);
+        productCatalogCache.invalidate();
+        productSearchIndex.markChanged(productId);
+    }
+
+    private int updateStock(String sql, Object... values) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(STOCK_QUERY_SPACE);
+        for (int i = 0; i < values.length; i++) {
+            query.setParameter(i + 1, values[i]);
+        }
+        return query.executeUpdate();
+    }
+
+    /**
+     * Drop the given products from the second-level cache. Inside a transaction
+     * they are dropped again after it completes, so a copy cached from the old
+     * row in the meantime does not survive.
+     */
+    private void evictCachedProducts(Collection<Long> productIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        List<Long> ids = List.copyOf(productIds);
+        ids.forEach(id -> cache.evict(Product.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(id -> cache.evict(Product.class, id));
+                }
+            });
+        }
+    }
+}
@@ -1,84 +1,139 @@
 package com.sudharshini.stockmanagement.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Utility Class
  * Handles JWT token generation and validation
  * Updated for JJWT 0.12.3 API
+ * The signing key and parser are built once. verify() checks a token's
+ * signature and expiry in a single parse and remembers the result in a bounded
+ * Caffeine cache (jwt.verified-cache-size) until the token expires, so a
+ * client's repeat requests skip the HMAC check and JSON parsing without
+ * contending on a lock.
  */
 @Component
 public class JwtUtil {
-    
-    @Value("${jwt.secret:SudharshiniStockManagementSecretKey2024SecureJWTToken}")
-    private String secret;
-    
-    @Value("${jwt.expiration:86400000}")
-    private Long expiration;
-    
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+    private static final String USER_ID_CLAIM = "uid";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expiration;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, VerifiedToken> verified;
+
+    /**
+     * The claims the application uses from a verified token. userId is null for
+     * tokens issued before the "uid" claim was added.
+     */
+    public record VerifiedToken(String username, String role, Long userId, Instant expiresAt) {
     }
-    
-    public String generateToken(String username, String role) {
+
+    public JwtUtil(@Value("${jwt.secret:SudharshiniStockManagementSecretKey2024SecureJWTToken}") String secret,
+                   @Value("${jwt.expiration:86400000}") long expiration,
+                   @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize,
+                   MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expiration = expiration;
+        this.meterRegistry = meterRegistry;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    // Each entry lives until its own token's exp claim
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken value, long currentTime) {
+                        long millis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(token, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Token for the user: subject is the login identifier (email or admin
+     * username), plus the role and the user's ID ("uid") so requests can be
+     * authorized without looking the user up.
+     */
+    public String generateToken(String username, String role, Long userId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
+        claims.put(USER_ID_CLAIM, userId);
         return createToken(claims, username);
     }
-    
+
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
-    
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-    
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
-    }
-    
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-    
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-    
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+
+    /**
+     * Verify the token (signature, expiry, subject) and return its claims.
+     * Throws JwtException if the token is invalid or expired.
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verified.getIfPresent(token);
+        if (cached != null) {
+            record("cached");
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            record("rejected");
+            throw e;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            record("rejected");
+            throw new JwtException("Token has no subject or expiration");
+        }
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        VerifiedToken result = new VerifiedToken(claims.getSubject(), claims.get("role", String.class),
+                userId != null ? userId.longValue() : null, claims.getExpiration().toInstant());
+        verified.put(token, result);
+        record("verified");
+        return result;
     }
-    
-    public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+
+    private void record(String result) {
+        meterRegistry.counter("auth.jwt.verifications", "result", result).increment();
     }
 }
-
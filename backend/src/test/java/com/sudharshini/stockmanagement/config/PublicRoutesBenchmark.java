@@ -0,0 +1,89 @@
+package com.sudharshini.stockmanagement.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of deciding whether a request needs a JWT: PublicRoutes against the
+ * chain of startsWith/matches checks JwtAuthenticationFilter ran before it
+ * (copied below), for the public catalogue, a protected write, a protected
+ * read that fell through the whole chain, and a tracking link.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PublicRoutesBenchmark {
+
+    @Param({
+            "GET /api/products",
+            "GET /api/products/12",
+            "POST /api/cart/items",
+            "GET /api/orders/customer/me",
+            "GET /api/orders/42/tracking"
+    })
+    public String request;
+
+    private final PublicRoutes publicRoutes = new PublicRoutes();
+
+    private String method;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        int space = request.indexOf(' ');
+        method = request.substring(0, space);
+        path = request.substring(space + 1);
+        if (publicRoutes.isPublic(method, path) != previousChain(method, path)) {
+            throw new IllegalStateException("PublicRoutes and the previous checks disagree on " + request);
+        }
+    }
+
+    @Benchmark
+    public boolean publicRoutes() {
+        return publicRoutes.isPublic(method, path);
+    }
+
+    @Benchmark
+    public boolean previousChain() {
+        return previousChain(method, path);
+    }
+
+    private static boolean previousChain(String method, String path) {
+        if ("OPTIONS".equalsIgnoreCase(method)) {
+            return true;
+        }
+        if (path.startsWith("/api/products") && "GET".equalsIgnoreCase(method)) {
+            return true;
+        }
+        if (path.equals("/api/auth/admin/login")) {
+            return true;
+        }
+        if (path.startsWith("/api/auth/") && !path.startsWith("/api/auth/admin/")
+            && !path.equals("/api/auth/profile") && !path.equals("/api/auth/change-password")
+            && !path.equals("/api/auth/profile/photo") && !path.startsWith("/api/auth/profile/photo/")
+            && !path.equals("/api/auth/profile/addresses") && !path.startsWith("/api/auth/profile/addresses/")) {
+            return true;
+        }
+        if (path.startsWith("/api/reviews/product/") && "GET".equalsIgnoreCase(method)) {
+            return true;
+        }
+        if (path.matches("/api/orders/[^/]+/tracking") || path.matches("/api/orders/[^/]+/location-tracking")) {
+            return true;
+        }
+        return path.startsWith("/api/auth/profile/photo/") && "GET".equalsIgnoreCase(method);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sudharshini.stockmanagement.config;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The public route table against the chain of startsWith/matches checks
+ * JwtAuthenticationFilter ran before it: the routes that chain let through
+ * without a token, the ones it protected (including the admin and profile
+ * exceptions under /api/auth), and the few paths where the table decides
+ * differently on purpose.
+ */
+class PublicRoutesTest {
+
+    private final PublicRoutes publicRoutes = new PublicRoutes();
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            // CORS preflight, whatever the path
+            "OPTIONS, /api/admin/users",
+            "options, /api/orders/all",
+            "GET, /api/products",
+            "GET, /api/products/",
+            "GET, /api/products/42",
+            "GET, /api/products/category/rice",
+            "get, /api/products/42",
+            "POST, /api/auth/login",
+            "POST, /api/auth/send-otp",
+            "POST, /api/auth/google",
+            "GET, /api/auth/profile-settings",
+            "GET, /api/auth/profile/preferences",
+            "POST, /api/auth/admin/login",
+            "GET, /api/reviews/product/42",
+            "GET, /api/reviews/product/42/summary",
+            "GET, /api/orders/7/tracking",
+            "POST, /api/orders/7/tracking",
+            "GET, /api/orders/7/location-tracking",
+            "GET, /api/auth/profile/photo/user-7.jpg",
+    })
+    void publicAsBefore(String method, String path) {
+        assertThat(publicRoutes.isPublic(method, path)).isTrue();
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            "POST, /api/products",
+            "PUT, /api/products/42",
+            "DELETE, /api/products/42",
+            "GET, /api/auth/admin/users",
+            "POST, /api/auth/admin/login/extra",
+            "GET, /api/auth/admin/proof-documents/licence.pdf",
+            "GET, /api/auth/profile",
+            "PUT, /api/auth/profile",
+            "POST, /api/auth/change-password",
+            "GET, /api/auth/profile/photo",
+            "POST, /api/auth/profile/photo",
+            "DELETE, /api/auth/profile/photo/user-7.jpg",
+            "GET, /api/auth/profile/addresses",
+            "DELETE, /api/auth/profile/addresses/3",
+            "POST, /api/reviews/product/42",
+            "DELETE, /api/reviews/9",
+            "GET, /api/orders",
+            "GET, /api/orders/7",
+            "GET, /api/orders/all",
+            "GET, /api/orders/7/tracking/history",
+            "GET, /api/cart",
+            "GET, /api/delivery/orders",
+            "GET, /api/reports/sales",
+            "GET, /api/admin/users",
+            "GET, /actuator/metrics",
+    })
+    void protectedAsBefore(String method, String path) {
+        assertThat(publicRoutes.isPublic(method, path)).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0} {1} public: {2}")
+    @CsvSource({
+            // The old chain only checked "/api/auth/", so it parsed a token for
+            // /api/auth that SecurityConfig's "/api/auth/**" then ignored
+            "POST, /api/auth, true",
+            // The old startsWith("/api/products") had no segment boundary;
+            // SecurityConfig never permitted these, so they now need a token
+            // in the filter too
+            "GET, /api/productsX, false",
+            "GET, /api/products-export, false",
+            // A trailing slash no longer slips past an exact protected path
+            "GET, /api/auth/profile/, false",
+            // Separators are skipped, so a trailing slash reaches the rule
+            // for the path without it
+            "GET, /api/orders/7/tracking/, true",
+    })
+    void decidedDifferentlyOnPurpose(String method, String path, boolean expected) {
+        assertThat(publicRoutes.isPublic(method, path)).isEqualTo(expected);
+    }
+}
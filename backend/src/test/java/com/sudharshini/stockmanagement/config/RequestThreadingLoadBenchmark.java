@@ -0,0 +1,119 @@
+package com.sudharshini.stockmanagement.config;
+
+import com.sudharshini.stockmanagement.StockManagementApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of request handling on platform threads (Tomcat's pool) against
+ * virtual threads (VIRTUAL_THREADS=true): 256 concurrent clients by default
+ * (override with JMH's -t) issue GET /api/products/{id} against the whole
+ * application on a random port and a throwaway SQLite database. The virtual
+ * side needs a Java 21 runtime; add -jvmArgsAppend -Djdk.tracePinnedThreads=short
+ * to log the carriers pinned under load. The product is inserted with plain
+ * SQL, as in StockServiceConcurrencyTest: SQLite cannot hand generated keys
+ * back to Hibernate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(256)
+public class RequestThreadingLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean virtual = threads.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need a Java 21 runtime, this is " + Runtime.version());
+        }
+        database = Files.createTempFile("request-threading-", ".db");
+        // Arguments, since application.properties sets the port and log level
+        // too and refers back to the credentials the deployment passes as
+        // environment variables; reading a product calls none of them
+        context = new SpringApplicationBuilder(StockManagementApplication.class)
+                .properties(
+                        "DATABASE_PATH=" + database,
+                        "VIRTUAL_THREADS=" + virtual)
+                .run("--server.port=0",
+                        "--logging.level.com.sudharshini.stockmanagement=WARN",
+                        "--JWT_SECRET=RequestThreadingLoadBenchmarkSecretKeyForJwtSigning",
+                        "--SENDGRID_API_KEY=",
+                        "--MAIL_FROM=benchmark@example.com",
+                        "--MAIL_USERNAME=benchmark",
+                        "--MAIL_PASSWORD=benchmark",
+                        "--GOOGLE_CLIENT_ID=benchmark",
+                        "--GOOGLE_CLIENT_SECRET=benchmark",
+                        "--GOOGLE_MAPS_API_KEY=benchmark");
+
+        JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+        String sku = "LOAD-" + UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.update("INSERT INTO products (name, price, stock_quantity, sku, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                "Load test product", new BigDecimal("99.00"), 1_000, sku, now, now);
+        Long productId = jdbc.queryForObject("SELECT id FROM products WHERE sku = ?", Long.class, sku);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products/" + productId))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(database);
+    }
+
+    @Benchmark
+    public int getProduct() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + request.uri() + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,226 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.config.HttpClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The Maps, Nominatim and SendGrid integrations against a local stub server,
+ * reached through their http.<name>.base-url properties: the requests they
+ * send, the responses they parse, the read timeout, and keep-alive reuse of
+ * the shared connection pool.
+ */
+@SpringBootTest(
+        classes = {HttpClientConfig.class, GoogleMapsService.class, EmailService.class},
+        properties = {
+                "google.maps.api.key=test-maps-key",
+                "SENDGRID_API_KEY=test-sendgrid-key",
+                "MAIL_FROM=store@example.com",
+                "admin.email=admin@example.com",
+                "http.nominatim.read-timeout-ms=500"
+        })
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, CodecsAutoConfiguration.class,
+        WebClientAutoConfiguration.class})
+class HttpIntegrationsStubServerTest {
+
+    // Nominatim searches containing this never get an answer in time
+    private static final String SLOW_QUERY = "slow";
+
+    private static final ConcurrentLinkedQueue<StubRequest> requests = new ConcurrentLinkedQueue<>();
+
+    private static final HttpServer stub = startStub();
+
+    @DynamicPropertySource
+    static void baseUrls(DynamicPropertyRegistry registry) {
+        String baseUrl = "http://localhost:" + stub.getAddress().getPort();
+        registry.add("http.maps.base-url", () -> baseUrl);
+        registry.add("http.nominatim.base-url", () -> baseUrl);
+        registry.add("http.sendgrid.base-url", () -> baseUrl);
+    }
+
+    @MockBean
+    private GeocodeCacheService geocodeCacheService;
+
+    @Autowired
+    private GoogleMapsService googleMapsService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @BeforeEach
+    void clearRequests() {
+        requests.clear();
+        // A mocked lookup would answer an empty map, which is a cache hit
+        when(geocodeCacheService.lookup(any(), any())).thenReturn(null);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void geocodePincodeQueriesNominatimAndCachesTheAnswer() {
+        Map<String, Object> result = googleMapsService.geocodePincode("600001", "IN");
+
+        assertThat(result)
+                .containsEntry("success", true)
+                .containsEntry("lat", 13.0878)
+                .containsEntry("lng", 80.2785)
+                .containsEntry("address", "Chennai, Tamil Nadu, India");
+        StubRequest request = single("/search");
+        assertThat(request.query()).contains("q=600001, IN").contains("format=json");
+        assertThat(request.userAgent()).isEqualTo("Sudharshini-Stock-Management/1.0");
+        verify(geocodeCacheService).store("IN", "600001", 13.0878, 80.2785, "Chennai, Tamil Nadu, India");
+    }
+
+    @Test
+    void nominatimReadTimeoutFallsBackInsteadOfWaiting() {
+        long began = System.nanoTime();
+        Map<String, Object> result = googleMapsService.geocodeAddress(SLOW_QUERY + " street");
+        long elapsedMillis = (System.nanoTime() - began) / 1_000_000;
+
+        assertThat(result).containsEntry("success", false);
+        // 500 ms read timeout, plus at most one second of Nominatim call spacing
+        assertThat(elapsedMillis).isLessThan(2_500);
+    }
+
+    @Test
+    void getRouteParsesTheDirectionsResponse() {
+        Map<String, Object> route = googleMapsService.getRoute(13.08, 80.27, 13.05, 80.25);
+
+        assertThat(route)
+                .containsEntry("distance", 5200)
+                .containsEntry("distanceText", "5.2 km")
+                .containsEntry("duration", 780)
+                .containsEntry("polyline", "abc123");
+        StubRequest request = single("/maps/api/directions/json");
+        assertThat(request.query()).contains("origin=13.08,80.27").contains("key=test-maps-key");
+    }
+
+    @Test
+    void sendGridRequestsReuseKeptAliveConnections() {
+        int emails = 10;
+        for (int i = 0; i < emails; i++) {
+            emailService.sendOtpEmail("customer" + i + "@example.com", "12345" + i);
+        }
+
+        List<StubRequest> sent = new ArrayList<>(requests);
+        assertThat(sent).hasSize(emails).allSatisfy(request -> {
+            assertThat(request.method()).isEqualTo("POST");
+            assertThat(request.path()).isEqualTo("/v3/mail/send");
+            assertThat(request.authorization()).isEqualTo("Bearer test-sendgrid-key");
+        });
+        assertThat(sent.get(0).body()).contains("customer0@example.com").contains("store@example.com");
+        // The pool takes a connection back on its event loop just after the
+        // response completes, so a call may still find it leased and open
+        // another, and earlier tests leave their own connections to the stub
+        // idle in the pool: count the reuse, not the connections. Without
+        // keep-alive every email would arrive on a fresh one.
+        Set<String> connections = sent.stream().map(StubRequest::client).collect(Collectors.toSet());
+        assertThat(connections).hasSizeLessThanOrEqualTo(emails / 2);
+    }
+
+    private static StubRequest single(String path) {
+        assertThat(requests).hasSize(1);
+        StubRequest request = requests.peek();
+        assertThat(request.path()).isEqualTo(path);
+        return request;
+    }
+
+    private record StubRequest(String method, String path, String query, String userAgent,
+                               String authorization, String body, String client) {
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/search", exchange -> {
+                String query = record(exchange).query();
+                if (query.contains(SLOW_QUERY)) {
+                    sleep(3_000);
+                }
+                respond(exchange, 200,
+                        "[{\"lat\":\"13.0878\",\"lon\":\"80.2785\",\"display_name\":\"Chennai, Tamil Nadu, India\"}]");
+            });
+            server.createContext("/maps/api/directions/json", exchange -> {
+                record(exchange);
+                respond(exchange, 200, "{\"status\":\"OK\",\"routes\":[{"
+                        + "\"legs\":[{\"distance\":{\"value\":5200,\"text\":\"5.2 km\"},"
+                        + "\"duration\":{\"value\":780,\"text\":\"13 mins\"}}],"
+                        + "\"overview_polyline\":{\"points\":\"abc123\"}}]}");
+            });
+            server.createContext("/v3/mail/send", exchange -> {
+                record(exchange);
+                respond(exchange, 202, "");
+            });
+            // The slow handler must not hold up the others
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static StubRequest record(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        StubRequest request = new StubRequest(
+                exchange.getRequestMethod(),
+                exchange.getRequestURI().getPath(),
+                query != null ? query : "",
+                exchange.getRequestHeaders().getFirst("User-Agent"),
+                exchange.getRequestHeaders().getFirst("Authorization"),
+                new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8),
+                exchange.getRemoteAddress().toString());
+        requests.add(request);
+        return request;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
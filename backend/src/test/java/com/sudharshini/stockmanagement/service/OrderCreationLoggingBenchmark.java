@@ -0,0 +1,116 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.StockManagementApplication;
+import com.sudharshini.stockmanagement.dto.OrderRequest;
+import com.sudharshini.stockmanagement.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * createOrder throughput with the application's logging at OFF, INFO (the
+ * default: the per-request detail is DEBUG and skipped) and DEBUG (every
+ * per-request line formatted and queued to the async console appender). Runs
+ * the whole application, without the web server, on a throwaway SQLite
+ * database; each order is two lines against products with stock to spare.
+ * The customer and products are inserted with plain SQL, as in
+ * StockServiceConcurrencyTest: SQLite cannot hand generated keys back to
+ * Hibernate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OrderCreationLoggingBenchmark {
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    public String logLevel;
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private Long customerId;
+    private OrderRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        database = Files.createTempFile("order-logging-", ".db");
+        context = new SpringApplicationBuilder(StockManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("DATABASE_PATH=" + database)
+                // Arguments, since application.properties sets the level too and
+                // refers back to the credentials the deployment passes as
+                // environment variables; creating an order calls none of them
+                .run("--logging.level.com.sudharshini.stockmanagement=" + logLevel,
+                        "--JWT_SECRET=OrderCreationLoggingBenchmarkSecretKeyForJwtSigning",
+                        "--SENDGRID_API_KEY=",
+                        "--MAIL_FROM=benchmark@example.com",
+                        "--MAIL_USERNAME=benchmark",
+                        "--MAIL_PASSWORD=benchmark",
+                        "--GOOGLE_CLIENT_ID=benchmark",
+                        "--GOOGLE_CLIENT_SECRET=benchmark",
+                        "--GOOGLE_MAPS_API_KEY=benchmark");
+        orderService = context.getBean(OrderService.class);
+
+        JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+        String email = "benchmark-" + UUID.randomUUID() + "@example.com";
+        jdbc.update("INSERT INTO users (email, name, role, created_at) VALUES (?, ?, ?, ?)",
+                email, "Benchmark Customer", "CUSTOMER", Timestamp.valueOf(LocalDateTime.now()));
+        customerId = jdbc.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+
+        request = new OrderRequest();
+        request.setItems(List.of(
+                new OrderRequest.OrderItemRequest(createProduct(jdbc, "Benchmark rice"), 2),
+                new OrderRequest.OrderItemRequest(createProduct(jdbc, "Benchmark oil"), 1)));
+        request.setDeliveryName("Benchmark Customer");
+        request.setDeliveryMobile("9000000000");
+        request.setDeliveryAddress("1 Benchmark Street");
+        request.setDeliveryPincode("600001");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(database);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder(customerId, request);
+    }
+
+    private static Long createProduct(JdbcTemplate jdbc, String name) {
+        String sku = "BENCH-" + UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.update("INSERT INTO products (name, price, stock_quantity, sku, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                name, new BigDecimal("120.00"), Integer.MAX_VALUE / 2, sku, now, now);
+        return jdbc.queryForObject("SELECT id FROM products WHERE sku = ?", Long.class, sku);
+    }
+}
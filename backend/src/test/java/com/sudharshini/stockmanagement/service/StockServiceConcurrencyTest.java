@@ -0,0 +1,316 @@
+package com.sudharshini.stockmanagement.service;
+
+import com.sudharshini.stockmanagement.config.TransactionConfig;
+import com.sudharshini.stockmanagement.entity.Product;
+import com.sudharshini.stockmanagement.exception.InsufficientStockException;
+import com.sudharshini.stockmanagement.repository.NativeInsertRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Concurrent buyers against StockService.reserve, on a throwaway SQLite
+ * database with the application's IMMEDIATE-for-writes transaction setup:
+ * single SKUs through the conditional stock UPDATE, and multi-line carts
+ * through the batched checkout reservation (one UPDATE ... RETURNING per 200
+ * products, or one UPDATE per product where RETURNING is unsupported). Every
+ * buyer keeps reserving until it is refused: stock must never go negative, a
+ * refused cart must take nothing, and the successful reservations must
+ * account for every unit sold. Throughput for each buyer count is logged.
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TransactionConfig.class, StockService.class, NativeInsertRepository.class})
+class StockServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StockServiceConcurrencyTest.class);
+
+    private static final int STARTING_STOCK = 1_000;
+
+    // Carts over three SKUs as (SKU, quantity) lines, overlapping and listed
+    // in different orders
+    private static final int[][][] CARTS = {
+            {{0, 1}, {1, 2}},
+            {{2, 3}, {1, 1}},
+            {{2, 1}, {0, 1}, {1, 1}},
+            {{0, 3}}
+    };
+
+    private static final Path DATABASE = temporaryDatabase();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",
+                () -> "jdbc:sqlite:" + DATABASE + "?journal_mode=WAL&busy_timeout=60000");
+    }
+
+    @MockBean
+    private ProductCatalogCache productCatalogCache;
+
+    @MockBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockBean
+    private InventoryMetricsService inventoryMetricsService;
+
+    @MockBean
+    private SalesRollupService salesRollupService;
+
+    @SpyBean
+    private NativeInsertRepository nativeInsertRepository;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @ParameterizedTest(name = "{0} buyers")
+    @ValueSource(ints = {8, 32, 128})
+    void singleUnitBuyersSellExactlyTheStock(int buyers) throws Exception {
+        assertNoOversell(buyers, 1);
+    }
+
+    @ParameterizedTest(name = "{0} buyers")
+    @ValueSource(ints = {8, 32, 128})
+    void multiUnitBuyersLeaveTheRemainder(int buyers) throws Exception {
+        // 1000 is not a multiple of 3: the last unit must stay unsold
+        assertNoOversell(buyers, 3);
+    }
+
+    @ParameterizedTest(name = "{0} buyers")
+    @ValueSource(ints = {8, 32, 128})
+    void overlappingCartsNeverOversell(int buyers) throws Exception {
+        assertCartsNeverOversell(buyers);
+    }
+
+    @ParameterizedTest(name = "{0} buyers")
+    @ValueSource(ints = {8, 32, 128})
+    void overlappingCartsNeverOversellWithoutReturning(int buyers) throws Exception {
+        doReturn(false).when(nativeInsertRepository).supportsReturning();
+        assertCartsNeverOversell(buyers);
+    }
+
+    /**
+     * Carts of 250 products need two statements; the last product (in the
+     * second) runs out first, so from then on every cart must be refused
+     * after the first statement took its 200 products, and roll that back.
+     */
+    @Test
+    void cartsSpanningTwoStatementsRollBackWhole() throws Exception {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        int width = 250;
+        int stock = 40;
+        int scarceStock = 25;
+        List<Long> productIds = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            productIds.add(createProduct(jdbc, i == width - 1 ? scarceStock : stock));
+        }
+        int[][] cart = new int[width][];
+        for (int i = 0; i < width; i++) {
+            cart[i] = new int[]{i, 1};
+        }
+
+        AtomicIntegerArray placed = new AtomicIntegerArray(1);
+        runBuyers(8, buyer -> {
+            stockService.reserve(cartOf(productIds, cart));
+            placed.incrementAndGet(0);
+        }, "8 buyers x " + width + "-product carts");
+
+        assertThat(placed.get(0)).isEqualTo(scarceStock);
+        for (int i = 0; i < width; i++) {
+            assertThat(stockOf(jdbc, productIds.get(i))).isEqualTo(i == width - 1 ? 0 : stock - scarceStock);
+        }
+    }
+
+    private void assertCartsNeverOversell(int buyers) throws Exception {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        List<Long> productIds = List.of(
+                createProduct(jdbc, STARTING_STOCK), createProduct(jdbc, STARTING_STOCK), createProduct(jdbc, STARTING_STOCK));
+
+        AtomicIntegerArray placed = new AtomicIntegerArray(CARTS.length);
+        runBuyers(buyers, buyer -> {
+            int cart = buyer % CARTS.length;
+            stockService.reserve(cartOf(productIds, CARTS[cart]));
+            placed.incrementAndGet(cart);
+        }, buyers + " buyers x carts");
+
+        int[] sold = new int[productIds.size()];
+        for (int cart = 0; cart < CARTS.length; cart++) {
+            for (int[] line : CARTS[cart]) {
+                sold[line[0]] += placed.get(cart) * line[1];
+            }
+        }
+        int[] remaining = new int[productIds.size()];
+        for (int sku = 0; sku < productIds.size(); sku++) {
+            remaining[sku] = stockOf(jdbc, productIds.get(sku));
+            assertThat(remaining[sku]).isGreaterThanOrEqualTo(0);
+            assertThat(sold[sku] + remaining[sku]).isEqualTo(STARTING_STOCK);
+        }
+        // Every cart was refused in the end, so each must now be short of some line
+        for (int[][] cart : CARTS) {
+            assertThat(List.of(cart)).anySatisfy(line -> assertThat(remaining[line[0]]).isLessThan(line[1]));
+        }
+    }
+
+    /**
+     * A fresh, detached copy of the cart's products per call: reserve(Map)
+     * writes the new stock into the Product objects it is given.
+     */
+    private static Map<Product, Integer> cartOf(List<Long> productIds, int[][] lines) {
+        Map<Product, Integer> cart = new LinkedHashMap<>();
+        for (int[] line : lines) {
+            Product product = new Product();
+            product.setId(productIds.get(line[0]));
+            product.setName("Contended product " + line[0]);
+            product.setStockQuantity(STARTING_STOCK);
+            cart.put(product, line[1]);
+        }
+        return cart;
+    }
+
+    /**
+     * Starts the buyers together; each repeats its purchase until it is refused
+     * with InsufficientStockException.
+     */
+    private static void runBuyers(int buyers, Purchase purchase, String label) throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(buyers);
+        try {
+            List<Future<?>> results = new ArrayList<>(buyers);
+            for (int i = 0; i < buyers; i++) {
+                int buyer = i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    while (true) {
+                        try {
+                            purchase.make(buyer);
+                            completed.incrementAndGet();
+                        } catch (InsufficientStockException e) {
+                            return null;
+                        }
+                    }
+                }));
+            }
+
+            long began = System.nanoTime();
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.MINUTES);
+            }
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began));
+            log.info("{}: {} reservations in {} ms, {} per second",
+                    label, completed.get(), elapsedMillis, completed.get() * 1000L / elapsedMillis);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private interface Purchase {
+        void make(int buyer);
+    }
+
+    private static int stockOf(JdbcTemplate jdbc, Long productId) {
+        return jdbc.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, productId);
+    }
+
+    private void assertNoOversell(int buyers, int quantity) throws Exception {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Long productId = createProduct(jdbc, STARTING_STOCK);
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(buyers);
+        try {
+            List<Future<?>> results = new ArrayList<>(buyers);
+            for (int i = 0; i < buyers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    while (true) {
+                        try {
+                            stockService.reserve(productId, quantity);
+                            reserved.incrementAndGet();
+                        } catch (InsufficientStockException e) {
+                            refused.incrementAndGet();
+                            return null;
+                        }
+                    }
+                }));
+            }
+
+            long began = System.nanoTime();
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.MINUTES);
+            }
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began));
+            log.info("{} buyers x {} unit(s): {} reservations in {} ms, {} per second",
+                    buyers, quantity, reserved.get(), elapsedMillis, reserved.get() * 1000L / elapsedMillis);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int finalStock = jdbc.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, productId);
+        assertThat(finalStock).isGreaterThanOrEqualTo(0).isLessThan(quantity);
+        assertThat(reserved.get() * quantity + finalStock).isEqualTo(STARTING_STOCK);
+        assertThat(refused.get()).isEqualTo(buyers);
+    }
+
+    private static Long createProduct(JdbcTemplate jdbc, int stock) {
+        String sku = "CONTENDED-" + UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.update("INSERT INTO products (name, price, stock_quantity, sku, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                "Contended product", new BigDecimal("10.00"), stock, sku, now, now);
+        return jdbc.queryForObject("SELECT id FROM products WHERE sku = ?", Long.class, sku);
+    }
+
+    private static Path temporaryDatabase() {
+        try {
+            Path file = Files.createTempFile("stock-concurrency-", ".db");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
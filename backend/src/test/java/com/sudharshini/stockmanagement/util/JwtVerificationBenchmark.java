@@ -0,0 +1,93 @@
+package com.sudharshini.stockmanagement.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost in JwtAuthenticationFilter: JwtUtil.verify on a cache
+ * hit and on a miss (a zero-size cache, fed a different token each call since
+ * Caffeine evicts in the background and would still answer a repeated one for
+ * a moment), against what the filter did before
+ * verify existed (copied below): extractUsername, extractRole and
+ * validateToken, four signed parses each deriving the key and building a
+ * parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "SudharshiniStockManagementSecretKey2024SecureJWTToken";
+    private static final long EXPIRATION = 86_400_000L;
+    private static final int MISS_TOKENS = 4096;
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+    private String[] missTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachingJwtUtil = new JwtUtil(SECRET, EXPIRATION, 10_000, new SimpleMeterRegistry());
+        uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, 0, new SimpleMeterRegistry());
+        token = cachingJwtUtil.generateToken("customer@example.com", "CUSTOMER", 42L);
+        cachingJwtUtil.verify(token);
+        missTokens = new String[MISS_TOKENS];
+        for (int i = 0; i < MISS_TOKENS; i++) {
+            missTokens[i] = cachingJwtUtil.generateToken("customer" + i + "@example.com", "CUSTOMER", (long) i);
+        }
+    }
+
+    @Benchmark
+    public JwtUtil.VerifiedToken verifyCached() {
+        return cachingJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public JwtUtil.VerifiedToken verifyUncached() {
+        next = (next + 1) % MISS_TOKENS;
+        return uncachedJwtUtil.verify(missTokens[next]);
+    }
+
+    @Benchmark
+    public boolean previousPerRequest() {
+        String username = extractAllClaims(token).getSubject();
+        String role = extractAllClaims(token).get("role", String.class);
+        boolean valid = extractAllClaims(token).getSubject().equals(username)
+                && !extractAllClaims(token).getExpiration().before(new Date());
+        return valid && role != null;
+    }
+
+    private static Claims extractAllClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(getSigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey getSigningKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
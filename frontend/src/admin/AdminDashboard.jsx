@@ -1,6 +1,8 @@
 import { useEffect, useState } from 'react'
 import { Link } from 'react-router-dom'
-import { getSummary, getAllOrders, createDeliveryMan } from '../services/api'
+import { getSummary, getLowStockItems, getNearExpiryItems, getAllOrders, createDeliveryMan } from '../services/api'
+
+const ITEMS_PAGE_SIZE = 20
 import { useAuth } from '../context/AuthContext'
 
 export default function AdminDashboard() {
@@ -32,7 +34,7 @@ export default function AdminDashboard() {
 
   const loadSummary = async () => {
     try {
-      const response = await getSummary()
+      const response = await getSummary({ includeItems: true, size: ITEMS_PAGE_SIZE })
       setSummary(response.data)
     } catch (error) {
       console.error('Error loading summary:', error)
@@ -41,6 +43,19 @@ export default function AdminDashboard() {
     }
   }
 
+  // The summary carries only the first page of each list; fetch the rest on demand
+  const loadMoreItems = async (kind) => {
+    const key = kind === 'lowStock' ? 'lowStockItems' : 'nearExpiryItems'
+    const fetchPage = kind === 'lowStock' ? getLowStockItems : getNearExpiryItems
+    const loaded = summary[key]?.length || 0
+    try {
+      const response = await fetchPage(Math.floor(loaded / ITEMS_PAGE_SIZE), ITEMS_PAGE_SIZE)
+      setSummary(prev => ({ ...prev, [key]: [...(prev[key] || []), ...(response.data?.items || [])] }))
+    } catch (error) {
+      console.error('Error loading more items:', error)
+    }
+  }
+
   const loadOrders = async () => {
     try {
       const response = await getAllOrders()
@@ -625,6 +640,13 @@ export default function AdminDashboard() {
                       </div>
                     </div>
                   ))}
+                  {summary.lowStockItems?.length < summary.lowStockCount && (
+                    <div className="text-center mt-4">
+                      <button onClick={() => loadMoreItems('lowStock')} className="px-6 py-2 rounded-lg font-semibold" style={{ background: '#ef4444', color: '#fff' }}>
+                        Load more
+                      </button>
+                    </div>
+                  )}
                 </div>
               ) : (
                 <div className="text-center py-8">
@@ -711,6 +733,13 @@ export default function AdminDashboard() {
                       </div>
                     </div>
                   ))}
+                  {summary.nearExpiryItems?.length < summary.nearExpiryCount && (
+                    <div className="text-center mt-4">
+                      <button onClick={() => loadMoreItems('nearExpiry')} className="px-6 py-2 rounded-lg font-semibold" style={{ background: '#f59e0b', color: '#fff' }}>
+                        Load more
+                      </button>
+                    </div>
+                  )}
                 </div>
               ) : (
                 <div className="text-center py-8">
@@ -1,5 +1,8 @@
 import { useEffect, useState } from 'react'
-import { getAllOrders, updateOrderStatus } from '../services/api'
+import { getOrdersPage, updateOrderStatus, exportOrders } from '../services/api'
+
+const PAGE_SIZE = 20
+const ORDER_STATUSES = ['PENDING', 'CONFIRMED', 'PROCESSING', 'ACCEPTED', 'PICKED_UP', 'SHIPPED', 'OUT_FOR_DELIVERY', 'DELIVERED', 'CANCELLED']
 
 export default function AdminOrders() {
   const [orders, setOrders] = useState([])
@@ -7,19 +10,79 @@ export default function AdminOrders() {
   const [error, setError] = useState('')
   const [cancelModal, setCancelModal] = useState({ show: false, orderId: null, orderNumber: '' })
   const [cancelReason, setCancelReason] = useState('')
+  const [filters, setFilters] = useState({ status: '', from: '', to: '', pincode: '' })
+  const [nextCursor, setNextCursor] = useState(null)
+  const [loadingMore, setLoadingMore] = useState(false)
+  const [pincodeInput, setPincodeInput] = useState('')
+  const [exporting, setExporting] = useState(false)
 
   useEffect(() => {
     loadOrders()
-  }, [])
+  }, [filters])
+
+  // Only send filters that are set
+  const buildParams = (cursor) => {
+    const params = { limit: PAGE_SIZE }
+    Object.entries(filters).forEach(([key, value]) => {
+      if (value) params[key] = value
+    })
+    if (cursor) params.cursor = cursor
+    return params
+  }
+
+  const handleFilterChange = (key, value) => {
+    setFilters(prev => ({ ...prev, [key]: value }))
+  }
+
+  // Download the filtered orders as CSV (the server streams the whole range, not just the loaded pages)
+  const handleExport = async () => {
+    try {
+      setExporting(true)
+      const params = { format: 'csv' }
+      if (filters.status) params.status = filters.status
+      if (filters.from) params.from = filters.from
+      if (filters.to) params.to = filters.to
+      const response = await exportOrders(params)
+      const url = URL.createObjectURL(response.data)
+      const link = document.createElement('a')
+      link.href = url
+      link.download = `orders-${new Date().toISOString().slice(0, 10)}.csv`
+      document.body.appendChild(link)
+      link.click()
+      link.remove()
+      URL.revokeObjectURL(url)
+    } catch (error) {
+      console.error('Error exporting orders:', error)
+      alert('Failed to export orders')
+    } finally {
+      setExporting(false)
+    }
+  }
+
+  const loadMoreOrders = async () => {
+    if (!nextCursor) return
+    try {
+      setLoadingMore(true)
+      const response = await getOrdersPage(buildParams(nextCursor))
+      setOrders(prev => [...prev, ...(response.data?.orders || [])])
+      setNextCursor(response.data?.nextCursor || null)
+    } catch (error) {
+      console.error('Error loading more orders:', error)
+      alert(error.response?.data?.error || 'Failed to load more orders')
+    } finally {
+      setLoadingMore(false)
+    }
+  }
 
   const loadOrders = async () => {
     try {
       setError('')
       setLoading(true)
       console.log('Loading orders...')
-      const response = await getAllOrders()
+      const response = await getOrdersPage(buildParams(null))
       console.log('Orders loaded:', response.data)
-      setOrders(response.data || [])
+      setOrders(response.data?.orders || [])
+      setNextCursor(response.data?.nextCursor || null)
     } catch (error) {
       console.error('Error loading orders:', error)
       console.error('Error details:', {
@@ -42,6 +105,7 @@ export default function AdminOrders() {
       }
       setError(errorMessage)
       setOrders([])
+      setNextCursor(null)
     } finally {
       setLoading(false)
     }
@@ -106,7 +170,8 @@ export default function AdminOrders() {
     }
   }
 
-  if (loading) {
+  // Full-page spinner only for the first load; filter changes keep the filter bar on screen
+  if (loading && orders.length === 0 && !Object.values(filters).some(Boolean)) {
     return (
       <div className="flex justify-center items-center h-screen">
         <div className="text-center">
@@ -129,6 +194,64 @@ export default function AdminOrders() {
         <p style={{ color: 'rgba(255, 255, 255, 0.7)' }}>View and manage all customer orders</p>
       </div>
 
+      <div className="mb-6 card">
+        <div className="grid grid-cols-1 md:grid-cols-4 gap-4">
+          <div>
+            <label className="block text-sm font-semibold mb-1" style={{ color: 'rgba(255, 255, 255, 0.8)' }}>Status</label>
+            <select
+              value={filters.status}
+              onChange={(e) => handleFilterChange('status', e.target.value)}
+              className="w-full px-3 py-2 border-2 border-gray-300 rounded-lg text-gray-900"
+            >
+              <option value="">All statuses</option>
+              {ORDER_STATUSES.map(status => (
+                <option key={status} value={status}>{status.replace(/_/g, ' ')}</option>
+              ))}
+            </select>
+          </div>
+          <div>
+            <label className="block text-sm font-semibold mb-1" style={{ color: 'rgba(255, 255, 255, 0.8)' }}>From</label>
+            <input
+              type="date"
+              value={filters.from}
+              onChange={(e) => handleFilterChange('from', e.target.value)}
+              className="w-full px-3 py-2 border-2 border-gray-300 rounded-lg text-gray-900"
+            />
+          </div>
+          <div>
+            <label className="block text-sm font-semibold mb-1" style={{ color: 'rgba(255, 255, 255, 0.8)' }}>To</label>
+            <input
+              type="date"
+              value={filters.to}
+              onChange={(e) => handleFilterChange('to', e.target.value)}
+              className="w-full px-3 py-2 border-2 border-gray-300 rounded-lg text-gray-900"
+            />
+          </div>
+          <div>
+            <label className="block text-sm font-semibold mb-1" style={{ color: 'rgba(255, 255, 255, 0.8)' }}>Pincode</label>
+            <input
+              type="text"
+              value={pincodeInput}
+              onChange={(e) => setPincodeInput(e.target.value)}
+              onBlur={() => handleFilterChange('pincode', pincodeInput.trim())}
+              onKeyDown={(e) => e.key === 'Enter' && handleFilterChange('pincode', pincodeInput.trim())}
+              placeholder="Any"
+              className="w-full px-3 py-2 border-2 border-gray-300 rounded-lg text-gray-900 placeholder:text-gray-400"
+            />
+          </div>
+        </div>
+        <div className="mt-4 flex justify-end">
+          <button
+            onClick={handleExport}
+            disabled={exporting}
+            className="px-4 py-2 rounded-lg font-semibold text-white transition-all disabled:opacity-50"
+            style={{ background: 'linear-gradient(135deg, #06b6d4 0%, #0891b2 100%)' }}
+          >
+            {exporting ? 'Exporting...' : 'Export CSV'}
+          </button>
+        </div>
+      </div>
+
       {error && (
         <div className="mb-6 card" style={{ background: 'rgba(239, 68, 68, 0.1)', borderLeft: '4px solid #ef4444' }}>
           <div className="flex items-center">
@@ -157,7 +280,7 @@ export default function AdminOrders() {
               <path strokeLinecap="round" strokeLinejoin="round" strokeWidth={2} d="M9 5H7a2 2 0 00-2 2v12a2 2 0 002 2h10a2 2 0 002-2V7a2 2 0 00-2-2h-2M9 5a2 2 0 002 2h2a2 2 0 002-2M9 5a2 2 0 012-2h2a2 2 0 012 2" />
             </svg>
           </div>
-          <h3 className="text-xl font-semibold mb-2" style={{ color: '#fff' }}>No orders yet</h3>
+          <h3 className="text-xl font-semibold mb-2" style={{ color: '#fff' }}>{Object.values(filters).some(Boolean) ? 'No matching orders' : 'No orders yet'}</h3>
           <p style={{ color: 'rgba(255, 255, 255, 0.7)' }}>Orders will appear here when customers place them</p>
         </div>
       ) : (
@@ -268,6 +391,18 @@ export default function AdminOrders() {
               </div>
             </div>
           ))}
+          {nextCursor && (
+            <div className="text-center">
+              <button
+                onClick={loadMoreOrders}
+                disabled={loadingMore}
+                className="px-6 py-2 rounded-lg font-semibold text-white transition-all disabled:opacity-50"
+                style={{ background: 'linear-gradient(135deg, #06b6d4 0%, #0891b2 100%)' }}
+              >
+                {loadingMore ? 'Loading...' : 'Load more orders'}
+              </button>
+            </div>
+          )}
         </div>
       )}
 
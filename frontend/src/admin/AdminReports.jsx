@@ -1,5 +1,7 @@
 import { useEffect, useState } from 'react'
-import { getSummary } from '../services/api'
+import { getSummary, getLowStockItems, getNearExpiryItems } from '../services/api'
+
+const ITEMS_PAGE_SIZE = 20
 
 export default function AdminReports() {
   const [summary, setSummary] = useState(null)
@@ -11,7 +13,7 @@ export default function AdminReports() {
 
   const loadSummary = async () => {
     try {
-      const response = await getSummary()
+      const response = await getSummary({ includeItems: true, size: ITEMS_PAGE_SIZE })
       setSummary(response.data)
     } catch (error) {
       console.error('Error loading summary:', error)
@@ -20,6 +22,19 @@ export default function AdminReports() {
     }
   }
 
+  // The summary carries only the first page of each list; fetch the rest on demand
+  const loadMoreItems = async (kind) => {
+    const key = kind === 'lowStock' ? 'lowStockItems' : 'nearExpiryItems'
+    const fetchPage = kind === 'lowStock' ? getLowStockItems : getNearExpiryItems
+    const loaded = summary[key]?.length || 0
+    try {
+      const response = await fetchPage(Math.floor(loaded / ITEMS_PAGE_SIZE), ITEMS_PAGE_SIZE)
+      setSummary(prev => ({ ...prev, [key]: [...(prev[key] || []), ...(response.data?.items || [])] }))
+    } catch (error) {
+      console.error('Error loading more items:', error)
+    }
+  }
+
   if (loading) {
     return (
       <div className="flex justify-center items-center h-screen">
@@ -156,6 +171,13 @@ export default function AdminReports() {
                 ))}
               </tbody>
             </table>
+            {summary.lowStockItems?.length < summary.lowStockCount && (
+              <div className="text-center mt-4">
+                <button onClick={() => loadMoreItems('lowStock')} className="btn-primary">
+                  Load more
+                </button>
+              </div>
+            )}
           </div>
         )}
       </div>
@@ -210,6 +232,13 @@ export default function AdminReports() {
                 ))}
               </tbody>
             </table>
+            {summary.nearExpiryItems?.length < summary.nearExpiryCount && (
+              <div className="text-center mt-4">
+                <button onClick={() => loadMoreItems('nearExpiry')} className="btn-primary">
+                  Load more
+                </button>
+              </div>
+            )}
           </div>
         )}
       </div>
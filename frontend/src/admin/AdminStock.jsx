@@ -1,10 +1,13 @@
 import { useEffect, useState } from 'react'
 import { getProducts, stockIn, stockOut, getStockHistory } from '../services/api'
 
+const HISTORY_PAGE_SIZE = 20
+
 export default function AdminStock() {
   const [products, setProducts] = useState([])
   const [selectedProduct, setSelectedProduct] = useState(null)
   const [stockHistory, setStockHistory] = useState([])
+  const [historyHasMore, setHistoryHasMore] = useState(false)
   const [formData, setFormData] = useState({
     quantity: '',
     reason: '',
@@ -34,15 +37,19 @@ export default function AdminStock() {
     }
   }
 
-  const loadStockHistory = async () => {
+  const loadStockHistory = async (page = 0) => {
     try {
-      const response = await getStockHistory(selectedProduct.id)
-      setStockHistory(response.data)
+      const response = await getStockHistory(selectedProduct.id, { page, size: HISTORY_PAGE_SIZE })
+      const items = response.data?.items || []
+      setStockHistory(prev => (page === 0 ? items : [...prev, ...items]))
+      setHistoryHasMore(Boolean(response.data?.hasMore))
     } catch (error) {
       console.error('Error loading stock history:', error)
     }
   }
 
+  const loadMoreHistory = () => loadStockHistory(Math.floor(stockHistory.length / HISTORY_PAGE_SIZE))
+
   const handleSubmit = async (e) => {
     e.preventDefault()
     try {
@@ -364,6 +371,13 @@ export default function AdminStock() {
                   </div>
                 </div>
               ))}
+              {historyHasMore && (
+                <div className="text-center pt-2">
+                  <button onClick={loadMoreHistory} className="btn-primary">
+                    Load more
+                  </button>
+                </div>
+              )}
             </div>
           )}
         </div>
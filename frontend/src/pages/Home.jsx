@@ -1,6 +1,6 @@
 import { useEffect, useState } from 'react'
 import { useNavigate } from 'react-router-dom'
-import { getProducts, getProductReviews, addReview } from '../services/api'
+import { getProducts, searchProducts, getProductReviews, addReview } from '../services/api'
 import { useCart } from '../context/CartContext'
 import { useAuth } from '../context/AuthContext'
 
@@ -31,7 +31,9 @@ export default function Home() {
   }, [])
 
   useEffect(() => {
-    filterProducts()
+    // Debounce typing; the search itself runs on the server
+    const timer = setTimeout(filterProducts, searchQuery.trim() ? 250 : 0)
+    return () => clearTimeout(timer)
   }, [searchQuery, selectedCategory, products])
 
   const loadProducts = async () => {
@@ -39,8 +41,6 @@ export default function Home() {
       const response = await getProducts()
       setProducts(response.data)
       setFilteredProducts(response.data)
-      // Load reviews for all products
-      loadAllProductReviews(response.data)
     } catch (error) {
       console.error('Error loading products:', error)
     } finally {
@@ -48,20 +48,6 @@ export default function Home() {
     }
   }
 
-  const loadAllProductReviews = async (productsList) => {
-    const reviewsData = {}
-    for (const product of productsList) {
-      try {
-        const response = await getProductReviews(product.id)
-        reviewsData[product.id] = response.data
-      } catch (error) {
-        console.error(`Error loading reviews for product ${product.id}:`, error)
-        reviewsData[product.id] = { reviews: [], averageRating: 0, reviewCount: 0 }
-      }
-    }
-    setProductReviews(reviewsData)
-  }
-
   const loadProductReviews = async (productId) => {
     try {
       const response = await getProductReviews(productId)
@@ -253,25 +239,22 @@ export default function Home() {
     )
   }
 
-  const filterProducts = () => {
-    let filtered = [...products]
-
-    // Filter by search query (name, description, category)
-    if (searchQuery.trim()) {
-      const query = searchQuery.toLowerCase()
-      filtered = filtered.filter(product => 
-        product.name?.toLowerCase().includes(query) ||
-        product.description?.toLowerCase().includes(query) ||
-        product.category?.toLowerCase().includes(query)
-      )
+  const filterProducts = async () => {
+    if (!searchQuery.trim() && !selectedCategory) {
+      setFilteredProducts(products)
+      return
     }
 
-    // Filter by category
-    if (selectedCategory) {
-      filtered = filtered.filter(product => product.category === selectedCategory)
+    // Search by name, description, category and SKU (prefix match) on the server
+    try {
+      const params = { size: 100 }
+      if (searchQuery.trim()) params.q = searchQuery.trim()
+      if (selectedCategory) params.category = selectedCategory
+      const response = await searchProducts(params)
+      setFilteredProducts(response.data?.products || [])
+    } catch (error) {
+      console.error('Error searching products:', error)
     }
-
-    setFilteredProducts(filtered)
   }
 
   const handleQuantityChange = (productId, quantity) => {
@@ -481,15 +464,13 @@ export default function Home() {
                   <p className="text-xs sm:text-sm mb-2 line-clamp-2 min-h-[2rem]" style={{ color: 'rgba(255, 255, 255, 0.7)' }}>{product.description}</p>
                 )}
                 
-                {/* Reviews Section */}
-                {productReviews[product.id] && (
-                  <div className="mb-2 flex items-center gap-2">
-                    {renderStars(Math.round(productReviews[product.id].averageRating || 0))}
-                    <span className="text-sm" style={{ color: 'rgba(255, 255, 255, 0.7)' }}>
-                      ({productReviews[product.id].reviewCount || 0})
-                    </span>
-                  </div>
-                )}
+                {/* Reviews Section - rating comes with the product; fresher once its reviews are opened */}
+                <div className="mb-2 flex items-center gap-2">
+                  {renderStars(Math.round(productReviews[product.id]?.averageRating ?? product.averageRating ?? 0))}
+                  <span className="text-sm" style={{ color: 'rgba(255, 255, 255, 0.7)' }}>
+                    ({productReviews[product.id]?.reviewCount ?? product.ratingCount ?? 0})
+                  </span>
+                </div>
                 
                 <div className="flex items-center justify-between mb-2">
                   <span className="text-lg sm:text-xl font-extrabold" style={{ background: 'linear-gradient(135deg, #06b6d4 0%, #0891b2 100%)', WebkitBackgroundClip: 'text', WebkitTextFillColor: 'transparent', backgroundClip: 'text' }}>
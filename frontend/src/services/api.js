@@ -50,6 +50,8 @@ api.interceptors.response.use(
 // Product APIs
 export const getProducts = () => api.get('/api/products')
 export const getProduct = (id) => api.get(`/api/products/${id}`)
+// Server-side search: { q, category, minPrice, maxPrice, inStock, sort, page, size }
+export const searchProducts = (params = {}) => api.get('/api/products/search', { params })
 export const uploadProductImage = (file) => {
   const formData = new FormData()
   formData.append('file', file)
@@ -84,6 +86,11 @@ export const getOrder = (id) => api.get(`/api/orders/${id}`)
 export const getMyOrders = () => api.get('/api/orders/customer/me')
 export const getCustomerOrders = (customerId) => api.get(`/api/orders/customer/${customerId}`)
 export const getAllOrders = () => api.get('/api/orders/all')
+// Admin order listing, one page at a time: { status, from, to, assignedTo, pincode, cursor, limit }
+export const getOrdersPage = (params = {}) => api.get('/api/orders/all/page', { params })
+// Streaming admin exports (format: 'csv' or 'ndjson'), downloaded as a file
+export const exportOrders = (params = {}) => api.get('/api/admin/export/orders', { params, responseType: 'blob' })
+export const exportStockMovements = (params = {}) => api.get('/api/admin/export/stock-movements', { params, responseType: 'blob' })
 export const updateOrderStatus = (id, status, cancellationReason = null) => {
   const payload = { status }
   if (cancellationReason) {
@@ -99,7 +106,7 @@ export const getOrderByTrackingId = (trackingId) => api.get(`/api/orders/by-trac
 // Stock APIs
 export const stockIn = (data) => api.post('/api/stock/in', data)
 export const stockOut = (data) => api.post('/api/stock/out', data)
-export const getStockHistory = (productId) => api.get(`/api/stock/history/${productId}`)
+export const getStockHistory = (productId, params = {}) => api.get(`/api/stock/history/${productId}`, { params })
 
 // Supplier APIs
 export const getSuppliers = () => api.get('/api/suppliers')
@@ -108,7 +115,10 @@ export const updateSupplier = (id, data) => api.put(`/api/suppliers/${id}`, data
 export const deleteSupplier = (id) => api.delete(`/api/suppliers/${id}`)
 
 // Report APIs
-export const getSummary = () => api.get('/api/reports/summary')
+// Pass { includeItems: true, size } to get the first page of low-stock / near-expiry items
+export const getSummary = (params = {}) => api.get('/api/reports/summary', { params })
+export const getLowStockItems = (page = 0, size = 20) => api.get('/api/reports/low-stock', { params: { page, size } })
+export const getNearExpiryItems = (page = 0, size = 20) => api.get('/api/reports/near-expiry', { params: { page, size } })
 
 // Admin APIs
 export const createDeliveryMan = (formData) => {